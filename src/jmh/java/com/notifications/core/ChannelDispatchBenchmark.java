@@ -0,0 +1,98 @@
+package com.notifications.core;
+
+import com.notifications.model.NotificationContent;
+import com.notifications.model.NotificationMetadata;
+import com.notifications.model.Recipient;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ChannelDispatchBenchmark {
+
+    @Param({"1", "4", "16", "64"})
+    int channelCount;
+
+    private List<NotificationChannel> channels;
+    private ChannelRegistry registry;
+    private Notification notification;
+
+    @Setup
+    public void setUp() {
+        List<NotificationChannel> registered = new ArrayList<>();
+        for (int i = 0; i < channelCount; i++) {
+            registered.add(new NoOpChannel("type-" + i));
+        }
+        channels = new CopyOnWriteArrayList<>(registered);
+        registry = new ChannelRegistry(registered);
+        // The last registered channel is the worst case for a linear scan.
+        notification = new BenchmarkNotification("type-" + (channelCount - 1));
+    }
+
+    @Benchmark
+    public NotificationChannel dispatchTable() {
+        return registry.resolve(notification);
+    }
+
+    @Benchmark
+    public NotificationChannel linearScan() {
+        return channels.stream()
+                .filter(channel -> channel.canHandle(notification))
+                .findFirst()
+                .orElse(null);
+    }
+
+    static final class NoOpChannel implements NotificationChannel {
+        private final String channelType;
+        private final NotificationResult result;
+
+        NoOpChannel(String channelType) {
+            this.channelType = channelType;
+            this.result = NotificationResult.success("noop", channelType, "noop");
+        }
+
+        @Override
+        public String getChannelType() {
+            return channelType;
+        }
+
+        @Override
+        public NotificationResult send(Notification notification) {
+            return result;
+        }
+    }
+
+    static final class BenchmarkNotification extends Notification {
+        private final String channelType;
+
+        BenchmarkNotification(String channelType) {
+            super(List.of(new Recipient("benchmark@example.com")),
+                    NotificationContent.text("Subject", "Body"),
+                    NotificationMetadata.empty());
+            this.channelType = channelType;
+        }
+
+        @Override
+        public String getChannelType() {
+            return channelType;
+        }
+    }
+}
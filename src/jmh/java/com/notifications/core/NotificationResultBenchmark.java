@@ -0,0 +1,76 @@
+package com.notifications.core;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class NotificationResultBenchmark {
+
+    @Benchmark
+    public NotificationResult successWithMetadata() {
+        return new NotificationResult.Builder()
+                .success(true)
+                .messageId("SM1234567890")
+                .channel("sms")
+                .provider("twilio")
+                .statusCode(201)
+                .addMetadata("twilio_message_sid", "SM1234567890")
+                .addMetadata("twilio_status", "queued")
+                .addMetadata("status_code", 201)
+                .build();
+    }
+
+    // The shape every provider used for a successful send: a HashMap handed to the builder.
+    @Benchmark
+    public NotificationResult successWithMetadataMap() {
+        Map<String, Object> metadata = new HashMap<>();
+        metadata.put("twilio_message_sid", "SM1234567890");
+        metadata.put("twilio_status", "queued");
+        metadata.put("status_code", 201);
+
+        return new NotificationResult.Builder()
+                .success(true)
+                .messageId("SM1234567890")
+                .channel("sms")
+                .provider("twilio")
+                .statusCode(201)
+                .providerMetadata(metadata)
+                .build();
+    }
+
+    @Benchmark
+    public NotificationResult successWithProviderMetadata() {
+        return new NotificationResult.Builder()
+                .success(true)
+                .messageId("SM1234567890")
+                .channel("sms")
+                .provider("twilio")
+                .statusCode(201)
+                .providerMetadata(ProviderMetadata.of(
+                        "twilio_message_sid", "SM1234567890",
+                        "twilio_status", "queued",
+                        "status_code", ProviderMetadata.statusCode(201)))
+                .build();
+    }
+
+    @Benchmark
+    public NotificationResult failure() {
+        return NotificationResult.failure("Invalid phone number", "VALIDATION_ERROR", "sms", "twilio");
+    }
+}
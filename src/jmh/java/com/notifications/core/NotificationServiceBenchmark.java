@@ -0,0 +1,39 @@
+package com.notifications.core;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class NotificationServiceBenchmark {
+
+    private NotificationService service;
+    private Notification notification;
+
+    @Setup
+    public void setUp() {
+        service = NotificationService.builder()
+                .addChannel(new ChannelDispatchBenchmark.NoOpChannel("noop"))
+                .build();
+        notification = new ChannelDispatchBenchmark.BenchmarkNotification("noop");
+    }
+
+    @Benchmark
+    public NotificationResult send() {
+        return service.send(notification);
+    }
+}
@@ -0,0 +1,71 @@
+package com.notifications.outbox;
+
+import com.notifications.core.Notification;
+import com.notifications.channels.sms.SmsNotification;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+// Durable appends with the default flush interval. Each thread keeps a window of appends
+// in flight, the way concurrent senders do, so group commit has something to group.
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@Threads(4)
+public class OutboxBenchmark {
+
+    private static final int WINDOW = 256;
+
+    private Path directory;
+    private Outbox outbox;
+    private Notification notification;
+
+    @Setup
+    public void setUp() throws IOException {
+        directory = Files.createTempDirectory("outbox-bench");
+        outbox = Outbox.open(OutboxConfig.builder().directory(directory).build());
+        notification = SmsNotification.of("+12025551234", "Your verification code is 482913");
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        outbox.close();
+        try (Stream<Path> paths = Files.walk(directory)) {
+            paths.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(WINDOW)
+    public void append() {
+        @SuppressWarnings("unchecked")
+        CompletableFuture<Long>[] appends = new CompletableFuture[WINDOW];
+        for (int i = 0; i < WINDOW; i++) {
+            appends[i] = outbox.append(notification);
+        }
+        for (CompletableFuture<Long> append : appends) {
+            outbox.complete(append.join());
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package com.notifications.providers.email;
+
+import com.notifications.channels.email.EmailConfig;
+import com.notifications.channels.email.EmailNotification;
+import com.notifications.providers.email.dto.SendGridMailPayload;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SendGridPayloadBenchmark {
+
+    private SendGridProvider provider;
+    private EmailNotification notification;
+
+    @Setup
+    public void setUp() {
+        provider = new SendGridProvider(EmailConfig.builder()
+                .provider(EmailConfig.EmailProvider.SENDGRID)
+                .apiKey("benchmark-key")
+                .fromEmail("sender@example.com")
+                .fromName("Sender")
+                .build());
+        notification = EmailNotification.builder()
+                .to("recipient@example.com")
+                .cc("cc@example.com")
+                .subject("Subject")
+                .htmlBody("<p>Body</p>")
+                .build();
+    }
+
+    @Benchmark
+    public SendGridMailPayload buildSendGridPayload() {
+        return provider.buildSendGridPayload(notification);
+    }
+}
@@ -0,0 +1,44 @@
+package com.notifications.providers.push;
+
+import com.notifications.channels.push.PushConfig;
+import com.notifications.channels.push.PushNotification;
+import com.notifications.providers.push.dto.FcmMessagePayload;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class FcmPayloadBenchmark {
+
+    private FirebaseProvider provider;
+    private PushNotification notification;
+
+    @Setup
+    public void setUp() {
+        provider = new FirebaseProvider(PushConfig.builder()
+                .provider(PushConfig.PushProvider.FIREBASE)
+                .projectId("benchmark-project")
+                .serviceAccountJson("{}")
+                .build());
+        notification = PushNotification.of("device-token", "Title", "Body");
+    }
+
+    @Benchmark
+    public FcmMessagePayload buildFcmPayload() {
+        return provider.buildFcmPayload(notification);
+    }
+}
@@ -0,0 +1,151 @@
+package com.notifications.validation;
+
+import com.google.i18n.phonenumbers.NumberParseException;
+import com.google.i18n.phonenumbers.PhoneNumberUtil;
+import com.google.i18n.phonenumbers.Phonenumber;
+import com.notifications.channels.email.EmailNotification;
+import com.notifications.channels.sms.SmsNotification;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ValidatorBenchmark {
+
+    private static final int LARGE_RECIPIENT_COUNT = 1_000;
+    // What EmailValidator.isValidEmail ran before the hand-written checker.
+    private static final Pattern EMAIL_PATTERN = Pattern.compile(
+            "^[A-Za-z0-9+_.-]+@[A-Za-z0-9.-]+\\.[A-Za-z]{2,}$"
+    );
+
+    @Param({"valid", "invalid", "large"})
+    String recipients;
+
+    private String[] addresses;
+    private String[] numbers;
+    private List<String> emails;
+    private List<String> phones;
+
+    @Setup
+    public void setUp() {
+        emails = new ArrayList<>();
+        phones = new ArrayList<>();
+        switch (recipients) {
+            case "valid" -> {
+                emails.add("recipient@example.com");
+                phones.add("+12025551234");
+            }
+            case "invalid" -> {
+                emails.add("not-an-email");
+                phones.add("12345");
+            }
+            case "large" -> {
+                for (int i = 0; i < LARGE_RECIPIENT_COUNT; i++) {
+                    emails.add("recipient" + i + "@example.com");
+                    phones.add(String.format("+1202555%04d", i));
+                }
+            }
+            default -> throw new IllegalArgumentException(recipients);
+        }
+
+        addresses = emails.toArray(new String[0]);
+        numbers = phones.toArray(new String[0]);
+    }
+
+    // The verdict is cached on the notification, so each invocation gets a fresh one to
+    // measure a first validation rather than the cache lookup.
+    @State(Scope.Thread)
+    public static class Fresh {
+        EmailNotification email;
+        SmsNotification sms;
+
+        @Setup(Level.Invocation)
+        public void setUp(ValidatorBenchmark benchmark) {
+            email = EmailNotification.builder()
+                    .recipientsFromEmails(benchmark.emails)
+                    .subject("Subject")
+                    .body("Body")
+                    .build();
+            sms = SmsNotification.builder()
+                    .recipientsFromSms(benchmark.phones)
+                    .message("Message")
+                    .build();
+        }
+    }
+
+    @Benchmark
+    public ValidationResult emailValidate(Fresh fresh) {
+        return EmailValidator.validate(fresh.email);
+    }
+
+    @Benchmark
+    public ValidationResult phoneValidate(Fresh fresh) {
+        return PhoneValidator.validate(fresh.sms);
+    }
+
+    @Benchmark
+    public BitSet emailSyntax() {
+        return EmailValidator.findInvalid(addresses);
+    }
+
+    @Benchmark
+    public BitSet emailSyntaxRegex() {
+        BitSet invalid = new BitSet(addresses.length);
+        for (int i = 0; i < addresses.length; i++) {
+            String address = addresses[i];
+            if (address.trim().isEmpty() || !EMAIL_PATTERN.matcher(address.trim()).matches()) {
+                invalid.set(i);
+            }
+        }
+        return invalid;
+    }
+
+    // Bypasses the phone cache to measure the E.164 fast path on its own.
+    @Benchmark
+    public int phoneSyntax() {
+        int valid = 0;
+        for (String number : numbers) {
+            if (PhoneValidator.parse(number).isValid()) {
+                valid++;
+            }
+        }
+        return valid;
+    }
+
+    @Benchmark
+    public int phoneSyntaxLibphonenumber() {
+        PhoneNumberUtil phoneUtil = PhoneNumberUtil.getInstance();
+        int valid = 0;
+        for (String number : numbers) {
+            try {
+                Phonenumber.PhoneNumber parsed = phoneUtil.parse(number.trim(), null);
+                if (phoneUtil.isValidNumber(parsed) || phoneUtil.isPossibleNumber(parsed)) {
+                    valid++;
+                }
+            } catch (NumberParseException e) {
+                // counted as invalid
+            }
+        }
+        return valid;
+    }
+}
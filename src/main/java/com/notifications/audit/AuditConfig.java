@@ -0,0 +1,34 @@
+package com.notifications.audit;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Objects;
+
+@Getter
+@Builder
+public final class AuditConfig {
+
+    private final Path directory;
+    private final int segmentSize;
+    private final int bufferSize;
+    private final Duration flushInterval;
+    private final long indexCapacity;
+    private final Duration maxBackpressureWait;
+
+    public AuditConfig(Path directory, int segmentSize, int bufferSize, Duration flushInterval, long indexCapacity) {
+        this(directory, segmentSize, bufferSize, flushInterval, indexCapacity, null);
+    }
+
+    public AuditConfig(Path directory, int segmentSize, int bufferSize, Duration flushInterval, long indexCapacity,
+                       Duration maxBackpressureWait) {
+        this.directory = Objects.requireNonNull(directory, "Directory cannot be null");
+        this.segmentSize = segmentSize > 0 ? segmentSize : 64 * 1024 * 1024;
+        this.bufferSize = bufferSize > 0 ? bufferSize : 8192;
+        this.flushInterval = flushInterval != null ? flushInterval : Duration.ofMillis(2);
+        this.indexCapacity = indexCapacity > 0 ? indexCapacity : 1 << 20;
+        this.maxBackpressureWait = maxBackpressureWait != null ? maxBackpressureWait : Duration.ofSeconds(1);
+    }
+}
@@ -0,0 +1,307 @@
+package com.notifications.audit;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.function.LongPredicate;
+
+// Open-addressing hash table kept in a memory-mapped file: each slot is the 64-bit
+// hash of a messageId and the address of its record, so a lookup touches a handful of
+// pages whatever the size of the log. The table is derived data; the header records
+// up to which log address it is complete and anything after that is replayed on open.
+// Growth is incremental: a table twice the size is created next to the current one,
+// new entries go there and every insert migrates a few old slots, so no single insert
+// or lookup ever waits for a full rehash. Not thread-safe, callers serialise access.
+final class AuditIndex implements Closeable {
+
+    private static final Logger logger = LoggerFactory.getLogger(AuditIndex.class);
+
+    private static final long MAGIC = 0x4e4f544944583031L;
+    private static final int HEADER_SIZE = 64;
+    private static final int SLOT_SIZE = 16;
+    private static final int CHUNK_SHIFT = 30;
+    private static final long CHUNK_MASK = (1L << CHUNK_SHIFT) - 1;
+    private static final int MAX_LOAD_PERCENT = 75;
+    // Old slots copied per insert while growing. The old table is 75% full when growth
+    // starts, so migration ends before the new one passes 50%.
+    private static final int MIGRATE_PER_INSERT = 4;
+
+    private final Path path;
+    private long replayFrom;
+    private Table table;
+    private Table next;
+    private long migratedSlots;
+    private long migratedEntries;
+    private long checkpoint;
+
+    private AuditIndex(Path path, Table table) {
+        this.path = path;
+        this.table = table;
+        this.checkpoint = table.checkpoint;
+        this.replayFrom = table.checkpoint;
+    }
+
+    static AuditIndex open(Path path, long initialCapacity) throws IOException {
+        // A growth that was cut short is discarded; the current table's checkpoint still
+        // predates it, so whatever only reached the new table is replayed from the log.
+        Files.deleteIfExists(temporaryPath(path));
+        if (Files.exists(path)) {
+            Table existing = Table.load(path);
+            if (existing != null) {
+                return new AuditIndex(path, existing);
+            }
+            logger.warn("Audit index {} is unreadable, rebuilding it from the log", path);
+            Files.delete(path);
+        }
+        long capacity = Long.highestOneBit(Math.max(16, initialCapacity - 1)) << 1;
+        return new AuditIndex(path, Table.create(path, capacity));
+    }
+
+    long getCheckpoint() {
+        return checkpoint;
+    }
+
+    long size() {
+        return next == null ? table.size : next.size + Math.max(0, table.size - migratedEntries);
+    }
+
+    long capacity() {
+        return next != null ? next.capacity : table.capacity;
+    }
+
+    boolean isGrowing() {
+        return next != null;
+    }
+
+    // Inserting the same address twice is a no-op, so replaying past a stale checkpoint is
+    // safe. An address past the loaded checkpoint that is already in the loaded table was
+    // written after the size in its header was saved, so it is counted now. Tables built
+    // by growth count every entry they receive, so the rule stops applying there. Addresses
+    // arrive in log order, so once migration is done every entry in the new table precedes
+    // this one and the swap is checkpointed here rather than waiting for the log to do it.
+    void insert(long hash, long address) throws IOException {
+        if (next != null && migratedSlots == table.capacity) {
+            checkpoint = address;
+            finishGrowth();
+        }
+        if (next == null && (table.size + 1) * 100 > table.capacity * MAX_LOAD_PERCENT) {
+            startGrowth();
+        }
+        Table target = next != null ? next : table;
+        if (!target.insert(hash, address) && address >= replayFrom) {
+            target.size++;
+        }
+        if (next != null) {
+            migrate(MIGRATE_PER_INSERT);
+        }
+    }
+
+    // Returns the first address stored under the hash that the predicate accepts, or -1.
+    long find(long hash, LongPredicate matches) {
+        if (next != null) {
+            long address = next.find(hash, matches);
+            if (address >= 0) {
+                return address;
+            }
+        }
+        return table.find(hash, matches);
+    }
+
+    // While growing, the current table no longer receives inserts, so its header keeps
+    // the checkpoint from before the growth started. Once migration is done the swap
+    // happens here, where every entry in the new table is known to precede the address.
+    void checkpoint(long address) throws IOException {
+        checkpoint = address;
+        if (next == null) {
+            table.persist(checkpoint);
+        } else if (migratedSlots == table.capacity) {
+            finishGrowth();
+        }
+    }
+
+    private void startGrowth() throws IOException {
+        Path temporary = temporaryPath(path);
+        Files.deleteIfExists(temporary);
+        next = Table.create(temporary, table.capacity << 1);
+        replayFrom = Long.MAX_VALUE;
+        migratedSlots = 0;
+        migratedEntries = 0;
+        logger.debug("Growing audit index to {} slot(s)", next.capacity);
+    }
+
+    private void migrate(long slots) throws IOException {
+        long end = Math.min(table.capacity, migratedSlots + slots);
+        for (; migratedSlots < end; migratedSlots++) {
+            long stored = table.value(migratedSlots);
+            if (stored != 0) {
+                next.insert(table.key(migratedSlots), stored - 1);
+                migratedEntries++;
+            }
+        }
+    }
+
+    // The new table replaces the old one with an atomic rename, so a crash at any point
+    // leaves one complete table on disk whose size matches its checkpoint.
+    private void finishGrowth() throws IOException {
+        next.persist(checkpoint);
+        Files.move(temporaryPath(path), path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        table.close();
+        table = next;
+        next = null;
+        logger.debug("Audit index grown to {} slot(s)", table.capacity);
+    }
+
+    private static Path temporaryPath(Path path) {
+        return path.resolveSibling(path.getFileName() + ".tmp");
+    }
+
+    // FNV-1a over the UTF-16 code units with a final avalanche step, so sequential
+    // provider IDs still spread over the whole table.
+    static long hash(String value) {
+        long hash = 0xcbf29ce484222325L;
+        for (int i = 0; i < value.length(); i++) {
+            hash ^= value.charAt(i);
+            hash *= 0x100000001b3L;
+        }
+        hash ^= hash >>> 33;
+        hash *= 0xff51afd7ed558ccdL;
+        hash ^= hash >>> 33;
+        hash *= 0xc4ceb9fe1a85ec53L;
+        hash ^= hash >>> 33;
+        return hash;
+    }
+
+    // A clean close finishes a pending growth so the next open starts from one table.
+    // The log checkpoints right before closing, so nothing was inserted past it.
+    @Override
+    public void close() throws IOException {
+        if (next != null) {
+            migrate(table.capacity);
+            finishGrowth();
+        }
+        table.close();
+    }
+
+    private static final class Table {
+        private final FileChannel channel;
+        private final MappedByteBuffer[] chunks;
+        private final long capacity;
+        private final long mask;
+        private long size;
+        private long checkpoint;
+
+        private Table(FileChannel channel, MappedByteBuffer[] chunks, long capacity) {
+            this.channel = channel;
+            this.chunks = chunks;
+            this.capacity = capacity;
+            this.mask = capacity - 1;
+        }
+
+        private static Table load(Path path) throws IOException {
+            FileChannel channel = FileChannel.open(path, StandardOpenOption.READ, StandardOpenOption.WRITE);
+            long fileSize = channel.size();
+            if (fileSize < HEADER_SIZE) {
+                channel.close();
+                return null;
+            }
+            MappedByteBuffer header = channel.map(FileChannel.MapMode.READ_WRITE, 0, HEADER_SIZE);
+            long capacity = header.getLong(8);
+            if (header.getLong(0) != MAGIC || Long.bitCount(capacity) != 1
+                    || fileSize != HEADER_SIZE + capacity * SLOT_SIZE) {
+                channel.close();
+                return null;
+            }
+
+            Table table = new Table(channel, map(channel, fileSize), capacity);
+            table.size = header.getLong(16);
+            table.checkpoint = header.getLong(24);
+            return table;
+        }
+
+        private static Table create(Path path, long capacity) throws IOException {
+            FileChannel channel = FileChannel.open(path,
+                    StandardOpenOption.CREATE_NEW, StandardOpenOption.READ, StandardOpenOption.WRITE);
+            MappedByteBuffer[] chunks = map(channel, HEADER_SIZE + capacity * SLOT_SIZE);
+            chunks[0].putLong(0, MAGIC);
+            chunks[0].putLong(8, capacity);
+            return new Table(channel, chunks, capacity);
+        }
+
+        // A single mapping is limited to 2 GB, so large tables are mapped in 1 GB chunks;
+        // slots are 16-byte aligned and never straddle two chunks.
+        private static MappedByteBuffer[] map(FileChannel channel, long fileSize) throws IOException {
+            int count = (int) ((fileSize + CHUNK_MASK) >>> CHUNK_SHIFT);
+            MappedByteBuffer[] chunks = new MappedByteBuffer[count];
+            for (int i = 0; i < count; i++) {
+                long offset = (long) i << CHUNK_SHIFT;
+                chunks[i] = channel.map(FileChannel.MapMode.READ_WRITE, offset,
+                        Math.min(1L << CHUNK_SHIFT, fileSize - offset));
+            }
+            return chunks;
+        }
+
+        // Returns false when the address was already stored.
+        private boolean insert(long hash, long address) {
+            long value = address + 1;
+            for (long slot = hash & mask; ; slot = (slot + 1) & mask) {
+                long stored = value(slot);
+                if (stored == 0) {
+                    long offset = HEADER_SIZE + slot * SLOT_SIZE;
+                    MappedByteBuffer chunk = chunks[(int) (offset >>> CHUNK_SHIFT)];
+                    int position = (int) (offset & CHUNK_MASK);
+                    chunk.putLong(position, hash);
+                    chunk.putLong(position + 8, value);
+                    size++;
+                    return true;
+                }
+                if (stored == value) {
+                    return false;
+                }
+            }
+        }
+
+        private long find(long hash, LongPredicate matches) {
+            for (long slot = hash & mask; ; slot = (slot + 1) & mask) {
+                long stored = value(slot);
+                if (stored == 0) {
+                    return -1;
+                }
+                if (key(slot) == hash && matches.test(stored - 1)) {
+                    return stored - 1;
+                }
+            }
+        }
+
+        private void persist(long address) {
+            for (MappedByteBuffer chunk : chunks) {
+                chunk.force();
+            }
+            checkpoint = address;
+            chunks[0].putLong(16, size);
+            chunks[0].putLong(24, checkpoint);
+            chunks[0].force(0, HEADER_SIZE);
+        }
+
+        private long key(long slot) {
+            long offset = HEADER_SIZE + slot * SLOT_SIZE;
+            return chunks[(int) (offset >>> CHUNK_SHIFT)].getLong((int) (offset & CHUNK_MASK));
+        }
+
+        private long value(long slot) {
+            long offset = HEADER_SIZE + slot * SLOT_SIZE + 8;
+            return chunks[(int) (offset >>> CHUNK_SHIFT)].getLong((int) (offset & CHUNK_MASK));
+        }
+
+        private void close() throws IOException {
+            channel.close();
+        }
+    }
+}
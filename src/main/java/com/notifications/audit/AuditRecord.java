@@ -0,0 +1,60 @@
+package com.notifications.audit;
+
+import java.time.Instant;
+import java.util.Optional;
+
+public final class AuditRecord {
+
+    private final String messageId;
+    private final String channel;
+    private final String provider;
+    private final boolean success;
+    private final int statusCode;
+    private final String errorCode;
+    private final Instant timestamp;
+
+    AuditRecord(String messageId, String channel, String provider, boolean success, int statusCode,
+                String errorCode, Instant timestamp) {
+        this.messageId = messageId;
+        this.channel = channel;
+        this.provider = provider;
+        this.success = success;
+        this.statusCode = statusCode;
+        this.errorCode = errorCode;
+        this.timestamp = timestamp;
+    }
+
+    public Optional<String> getMessageId() {
+        return Optional.ofNullable(messageId);
+    }
+
+    public String getChannel() {
+        return channel;
+    }
+
+    public String getProvider() {
+        return provider;
+    }
+
+    public boolean isSuccess() {
+        return success;
+    }
+
+    public int getStatusCode() {
+        return statusCode;
+    }
+
+    public Optional<String> getErrorCode() {
+        return Optional.ofNullable(errorCode);
+    }
+
+    public Instant getTimestamp() {
+        return timestamp;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("AuditRecord{messageId='%s', channel='%s', provider='%s', success=%s, statusCode=%d, errorCode='%s', timestamp=%s}",
+                messageId, channel, provider, success, statusCode, errorCode, timestamp);
+    }
+}
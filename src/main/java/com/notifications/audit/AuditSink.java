@@ -0,0 +1,8 @@
+package com.notifications.audit;
+
+import com.notifications.core.NotificationResult;
+
+public interface AuditSink {
+
+    void record(NotificationResult result);
+}
@@ -0,0 +1,514 @@
+package com.notifications.audit;
+
+import com.notifications.core.NotificationResult;
+import com.notifications.queue.BoundedRingBuffer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Stream;
+import java.util.zip.CRC32C;
+
+// Callers only pay for a slot in a lock-free ring; a single writer thread encodes the
+// results into memory-mapped segments and makes them durable with one force per group.
+// Every record with a messageId is then added to an on-disk hash index, so looking a
+// delivery up by its provider ID costs a few page reads regardless of the log size.
+// Segments are never deleted: retention of the audit trail is left to the operator.
+public final class BinaryAuditLog implements AuditSink, Closeable {
+
+    private static final Logger logger = LoggerFactory.getLogger(BinaryAuditLog.class);
+
+    private static final String SEGMENT_PREFIX = "audit-";
+    private static final String SEGMENT_SUFFIX = ".log";
+    private static final String INDEX_FILE = "audit.idx";
+    private static final int HEADER_SIZE = 8;
+    private static final int FIXED_BODY_SIZE = 8 + 1 + 4 + 4 * 4;
+    private static final int MAX_BATCH = 4096;
+    private static final long BACKOFF_NANOS = 1_000;
+    private static final int CHECKPOINT_EVERY_COMMITS = 1024;
+
+    private final Path directory;
+    private final int segmentSize;
+    private final long flushIntervalNanos;
+    private final long maxBackpressureWaitNanos;
+    private final BoundedRingBuffer<Object> buffer;
+    private final AuditIndex index;
+    private final ReentrantReadWriteLock indexLock = new ReentrantReadWriteLock();
+    private final Map<Long, MappedByteBuffer> readers = new ConcurrentHashMap<>();
+    private final AtomicLong recordCount = new AtomicLong();
+    private final LongAdder backpressure = new LongAdder();
+    private final LongAdder spilled = new LongAdder();
+    // Unbounded overflow for records that waited maxBackpressureWait for a ring slot. The
+    // writer drains it ahead of the ring, so nothing is lost and flush() still covers it.
+    private final Queue<NotificationResult> overflow = new ConcurrentLinkedQueue<>();
+    // Callers between the closed check and their offer; close waits for them to leave
+    // before the final drain, so an admitted record is always written.
+    private final LongAdder admitting = new LongAdder();
+    private final CRC32C crc = new CRC32C();
+    private final long[] batchHashes = new long[MAX_BATCH];
+    private final long[] batchAddresses = new long[MAX_BATCH];
+    private final Thread writer;
+
+    private Segment active;
+    private int batchSize;
+    private int commitsSinceCheckpoint;
+    private volatile boolean closed;
+
+    private BinaryAuditLog(AuditConfig config) throws IOException {
+        this.directory = config.getDirectory();
+        this.segmentSize = config.getSegmentSize();
+        this.flushIntervalNanos = config.getFlushInterval().toNanos();
+        this.maxBackpressureWaitNanos = config.getMaxBackpressureWait().toNanos();
+        this.buffer = new BoundedRingBuffer<>(config.getBufferSize());
+        Files.createDirectories(directory);
+
+        this.index = AuditIndex.open(directory.resolve(INDEX_FILE), config.getIndexCapacity());
+        recover();
+
+        this.writer = Thread.ofPlatform()
+                .name("audit-writer-" + directory.getFileName())
+                .daemon(true)
+                .start(this::run);
+        logger.info("Audit log opened at {} with {} indexed record(s)", directory, index.size());
+    }
+
+    public static BinaryAuditLog open(AuditConfig config) throws IOException {
+        Objects.requireNonNull(config, "AuditConfig cannot be null");
+        if (config.getSegmentSize() < 4096) {
+            throw new IllegalArgumentException("Segment size must be at least 4096 bytes");
+        }
+        return new BinaryAuditLog(config);
+    }
+
+    // Never blocks on I/O; when the writer falls behind and the ring is full the caller
+    // backs off until a slot frees up. Results are recorded from completion callbacks, so
+    // the wait is capped at maxBackpressureWait; past that the record goes to the overflow
+    // queue, trading heap for the caller's thread without dropping anything.
+    @Override
+    public void record(NotificationResult result) {
+        Objects.requireNonNull(result, "Result cannot be null");
+        enqueue(result, maxBackpressureWaitNanos);
+    }
+
+    // Waits until everything recorded before the call is durable and indexed.
+    public void flush() {
+        CompletableFuture<Void> barrier = new CompletableFuture<>();
+        enqueue(barrier, Long.MAX_VALUE);
+        LockSupport.unpark(writer);
+        barrier.join();
+    }
+
+    private void enqueue(Object item, long maxWaitNanos) {
+        admitting.increment();
+        try {
+            if (closed) {
+                throw new IllegalStateException("Audit log is closed");
+            }
+            long start = System.nanoTime();
+            while (!buffer.offer(item)) {
+                if (System.nanoTime() - start >= maxWaitNanos) {
+                    overflow.add((NotificationResult) item);
+                    spilled.increment();
+                    LockSupport.unpark(writer);
+                    return;
+                }
+                backpressure.increment();
+                LockSupport.unpark(writer);
+                LockSupport.parkNanos(BACKOFF_NANOS);
+            }
+        } finally {
+            admitting.decrement();
+        }
+    }
+
+    public Optional<AuditRecord> find(String messageId) {
+        Objects.requireNonNull(messageId, "Message ID cannot be null");
+        long hash = AuditIndex.hash(messageId);
+        indexLock.readLock().lock();
+        try {
+            long address = index.find(hash, candidate -> messageId.equals(readMessageId(candidate)));
+            return address < 0 ? Optional.empty() : Optional.of(read(address));
+        } finally {
+            indexLock.readLock().unlock();
+        }
+    }
+
+    public long getRecordCount() {
+        return recordCount.get();
+    }
+
+    public long getIndexedCount() {
+        indexLock.readLock().lock();
+        try {
+            return index.size();
+        } finally {
+            indexLock.readLock().unlock();
+        }
+    }
+
+    public long getBackpressureCount() {
+        return backpressure.sum();
+    }
+
+    public long getSpilledCount() {
+        return spilled.sum();
+    }
+
+    private void run() {
+        long nextCommit = System.nanoTime() + flushIntervalNanos;
+        while (true) {
+            Object item = poll();
+            if (item != null) {
+                process(item);
+                if (batchSize == MAX_BATCH || System.nanoTime() - nextCommit >= 0) {
+                    commit();
+                    nextCommit = System.nanoTime() + flushIntervalNanos;
+                }
+                continue;
+            }
+
+            commit();
+            nextCommit = System.nanoTime() + flushIntervalNanos;
+            if (closed && buffer.isEmpty() && overflow.isEmpty()) {
+                return;
+            }
+            LockSupport.parkNanos(flushIntervalNanos);
+        }
+    }
+
+    private Object poll() {
+        Object item = overflow.poll();
+        return item != null ? item : buffer.poll();
+    }
+
+    private void process(Object item) {
+        if (item instanceof NotificationResult result) {
+            append(result);
+        } else if (item instanceof CompletableFuture<?> barrier) {
+            commit();
+            barrier.complete(null);
+        }
+    }
+
+    // Record layout: length, CRC32C of the body, then epoch millis, success flag,
+    // status code and four length-prefixed UTF-8 strings (-1 marks null).
+    private void append(NotificationResult result) {
+        byte[] messageId = encode(result.getMessageId().orElse(null));
+        byte[] channel = encode(result.getChannel());
+        byte[] provider = encode(result.getProvider());
+        byte[] errorCode = encode(result.getErrorCode().orElse(null));
+        int length = FIXED_BODY_SIZE + lengthOf(messageId) + lengthOf(channel) + lengthOf(provider) + lengthOf(errorCode);
+        if (HEADER_SIZE + length > segmentSize) {
+            logger.error("Audit record of {} bytes does not fit in a {} byte segment, skipping it", length, segmentSize);
+            return;
+        }
+
+        try {
+            if (active.writePosition + HEADER_SIZE + length > segmentSize) {
+                roll();
+            }
+        } catch (IOException e) {
+            logger.error("Failed to roll the audit log, record for {} lost", result.getMessageId().orElse("unknown"), e);
+            return;
+        }
+
+        MappedByteBuffer segment = active.buffer;
+        int start = active.writePosition;
+        int position = start + HEADER_SIZE;
+        segment.putLong(position, result.getTimestampMillis());
+        segment.put(position + 8, (byte) (result.isSuccess() ? 1 : 0));
+        segment.putInt(position + 9, result.getStatusCode());
+        position = putString(segment, position + 13, messageId);
+        position = putString(segment, position, channel);
+        position = putString(segment, position, provider);
+        putString(segment, position, errorCode);
+
+        crc.reset();
+        crc.update(segment.slice(start + HEADER_SIZE, length));
+        segment.putInt(start + 4, (int) crc.getValue());
+        // The length goes last so a torn write is never mistaken for a complete record.
+        segment.putInt(start, length);
+        active.writePosition = start + HEADER_SIZE + length;
+        recordCount.incrementAndGet();
+
+        if (messageId != null) {
+            batchHashes[batchSize] = AuditIndex.hash(result.getMessageId().get());
+            batchAddresses[batchSize] = address(active.index, start);
+            batchSize++;
+        }
+    }
+
+    // Group commit: one force covers every record written since the previous one, and
+    // only then are the records published to the index.
+    private void commit() {
+        int from = active.flushedPosition;
+        int to = active.writePosition;
+        if (to > from) {
+            active.buffer.force(from, to - from);
+            active.flushedPosition = to;
+        }
+        if (batchSize == 0) {
+            return;
+        }
+
+        indexLock.writeLock().lock();
+        try {
+            for (int i = 0; i < batchSize; i++) {
+                index.insert(batchHashes[i], batchAddresses[i]);
+            }
+        } catch (IOException e) {
+            logger.error("Failed to update the audit index, {} record(s) will be indexed on restart", batchSize, e);
+        } finally {
+            indexLock.writeLock().unlock();
+        }
+        batchSize = 0;
+        // Bounds how much a crash leaves to replay and how stale the persisted size can get
+        // when segments are large enough to take a long time to fill.
+        if (++commitsSinceCheckpoint >= CHECKPOINT_EVERY_COMMITS) {
+            checkpoint();
+        }
+    }
+
+    // The index is checkpointed whenever a segment fills up, so a restart never
+    // replays more than the active segment.
+    private void roll() throws IOException {
+        commit();
+        Segment next = openSegment(active.index + 1);
+        active.channel.close();
+        active = next;
+        checkpoint();
+        logger.debug("Rolled audit log to segment {}", next.index);
+    }
+
+    private void checkpoint() {
+        commitsSinceCheckpoint = 0;
+        indexLock.writeLock().lock();
+        try {
+            index.checkpoint(address(active.index, active.flushedPosition));
+        } catch (IOException e) {
+            logger.error("Failed to checkpoint the audit index, the next open will replay further back", e);
+        } finally {
+            indexLock.writeLock().unlock();
+        }
+    }
+
+    private void recover() throws IOException {
+        List<Path> files;
+        try (Stream<Path> listing = Files.list(directory)) {
+            files = listing
+                    .filter(path -> path.getFileName().toString().startsWith(SEGMENT_PREFIX))
+                    .filter(path -> path.getFileName().toString().endsWith(SEGMENT_SUFFIX))
+                    .sorted()
+                    .toList();
+        }
+        if (files.isEmpty()) {
+            active = openSegment(0);
+            return;
+        }
+
+        long checkpoint = index.getCheckpoint();
+        int replayed = 0;
+        for (Path file : files) {
+            long segmentIndex = indexOf(file);
+            boolean last = file.equals(files.get(files.size() - 1));
+            if (segmentIndex < segmentOf(checkpoint) && !last) {
+                continue;
+            }
+
+            Segment segment = mapSegment(file, segmentIndex);
+            int position = segmentIndex == segmentOf(checkpoint) ? positionOf(checkpoint) : 0;
+            while (position + HEADER_SIZE <= segment.buffer.capacity()) {
+                int length = segment.buffer.getInt(position);
+                if (length < FIXED_BODY_SIZE || position + HEADER_SIZE + length > segment.buffer.capacity()) {
+                    break;
+                }
+                crc.reset();
+                crc.update(segment.buffer.slice(position + HEADER_SIZE, length));
+                if ((int) crc.getValue() != segment.buffer.getInt(position + 4)) {
+                    logger.warn("Torn audit record in {} at offset {}, ignoring the rest of the segment", file, position);
+                    break;
+                }
+                String messageId = readString(segment.buffer, position + HEADER_SIZE + 13);
+                if (messageId != null) {
+                    index.insert(AuditIndex.hash(messageId), address(segmentIndex, position));
+                    replayed++;
+                }
+                position += HEADER_SIZE + length;
+            }
+            segment.writePosition = position;
+            segment.flushedPosition = position;
+
+            if (last) {
+                active = segment;
+            } else {
+                segment.channel.close();
+            }
+        }
+        if (replayed > 0) {
+            logger.info("Re-indexed {} audit record(s) written after the last checkpoint", replayed);
+        }
+        checkpoint();
+    }
+
+    private Segment openSegment(long segmentIndex) throws IOException {
+        return mapSegment(segmentPath(segmentIndex), segmentIndex);
+    }
+
+    private Segment mapSegment(Path path, long segmentIndex) throws IOException {
+        FileChannel channel = FileChannel.open(path,
+                StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        MappedByteBuffer mapped = channel.map(FileChannel.MapMode.READ_WRITE, 0, Math.max(segmentSize, channel.size()));
+        readers.put(segmentIndex, mapped);
+        return new Segment(segmentIndex, channel, mapped);
+    }
+
+    private Path segmentPath(long segmentIndex) {
+        return directory.resolve(String.format("%s%020d%s", SEGMENT_PREFIX, segmentIndex, SEGMENT_SUFFIX));
+    }
+
+    // Older segments are mapped read-only on first lookup and stay mapped afterwards.
+    private MappedByteBuffer reader(long segmentIndex) {
+        return readers.computeIfAbsent(segmentIndex, key -> {
+            try (FileChannel channel = FileChannel.open(segmentPath(key), StandardOpenOption.READ)) {
+                return channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            } catch (IOException e) {
+                throw new UncheckedIOException("Failed to map audit segment " + key, e);
+            }
+        });
+    }
+
+    private String readMessageId(long address) {
+        return readString(reader(segmentOf(address)), positionOf(address) + HEADER_SIZE + 13);
+    }
+
+    private AuditRecord read(long address) {
+        MappedByteBuffer segment = reader(segmentOf(address));
+        int position = positionOf(address) + HEADER_SIZE;
+        long timestamp = segment.getLong(position);
+        boolean success = segment.get(position + 8) == 1;
+        int statusCode = segment.getInt(position + 9);
+        position += 13;
+        String messageId = readString(segment, position);
+        position += 4 + Math.max(0, segment.getInt(position));
+        String channel = readString(segment, position);
+        position += 4 + Math.max(0, segment.getInt(position));
+        String provider = readString(segment, position);
+        position += 4 + Math.max(0, segment.getInt(position));
+        String errorCode = readString(segment, position);
+        return new AuditRecord(messageId, channel, provider, success, statusCode, errorCode,
+                Instant.ofEpochMilli(timestamp));
+    }
+
+    private static byte[] encode(String value) {
+        return value != null ? value.getBytes(StandardCharsets.UTF_8) : null;
+    }
+
+    private static int lengthOf(byte[] value) {
+        return value != null ? value.length : 0;
+    }
+
+    private static int putString(MappedByteBuffer segment, int position, byte[] value) {
+        if (value == null) {
+            segment.putInt(position, -1);
+            return position + 4;
+        }
+        segment.putInt(position, value.length);
+        segment.put(position + 4, value);
+        return position + 4 + value.length;
+    }
+
+    private static String readString(MappedByteBuffer segment, int position) {
+        int length = segment.getInt(position);
+        if (length < 0) {
+            return null;
+        }
+        byte[] bytes = new byte[length];
+        segment.get(position + 4, bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    // Addresses pack the segment number and the offset inside it into a single long.
+    private static long address(long segmentIndex, int position) {
+        return segmentIndex << 32 | position;
+    }
+
+    private static long segmentOf(long address) {
+        return address >>> 32;
+    }
+
+    private static int positionOf(long address) {
+        return (int) address;
+    }
+
+    private long indexOf(Path file) {
+        String name = file.getFileName().toString();
+        return Long.parseLong(name.substring(SEGMENT_PREFIX.length(), name.length() - SEGMENT_SUFFIX.length()));
+    }
+
+    @Override
+    public void close() throws IOException {
+        synchronized (this) {
+            if (closed) {
+                return;
+            }
+            closed = true;
+        }
+        // No new caller gets past the closed check now; the ones already past it finish
+        // their offer while the writer is still draining.
+        while (admitting.sum() > 0) {
+            LockSupport.unpark(writer);
+            LockSupport.parkNanos(BACKOFF_NANOS);
+        }
+        LockSupport.unpark(writer);
+        try {
+            writer.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        // Anything offered after the writer's last poll is still written out.
+        Object item;
+        while ((item = poll()) != null) {
+            process(item);
+        }
+        commit();
+        checkpoint();
+        active.channel.close();
+        index.close();
+        logger.info("Audit log at {} closed with {} record(s) written", directory, recordCount.get());
+    }
+
+    private static final class Segment {
+        private final long index;
+        private final FileChannel channel;
+        private final MappedByteBuffer buffer;
+        private int writePosition;
+        private int flushedPosition;
+
+        private Segment(long index, FileChannel channel, MappedByteBuffer buffer) {
+            this.index = index;
+            this.channel = channel;
+            this.buffer = buffer;
+        }
+    }
+}
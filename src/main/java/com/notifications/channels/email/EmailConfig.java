@@ -1,5 +1,7 @@
 package com.notifications.channels.email;
 
+import com.notifications.resilience.CircuitBreaker;
+import com.notifications.resilience.TokenBucketRateLimiter;
 import lombok.Builder;
 import lombok.Getter;
 
@@ -36,9 +38,17 @@ public final class EmailConfig {
     private final String fromName;
     private final String replyTo;
     private final String region;
+    private final TokenBucketRateLimiter rateLimiter;
+    private final CircuitBreaker circuitBreaker;
 
     public EmailConfig(EmailProvider provider, String apiKey, String apiSecret,
                       String fromEmail, String fromName, String replyTo, String region) {
+        this(provider, apiKey, apiSecret, fromEmail, fromName, replyTo, region, null, null);
+    }
+
+    public EmailConfig(EmailProvider provider, String apiKey, String apiSecret,
+                      String fromEmail, String fromName, String replyTo, String region,
+                      TokenBucketRateLimiter rateLimiter, CircuitBreaker circuitBreaker) {
         this.provider = Objects.requireNonNull(provider, "Provider cannot be null");
         this.apiKey = apiKey;
         this.apiSecret = apiSecret;
@@ -46,6 +56,8 @@ public final class EmailConfig {
         this.fromName = fromName;
         this.replyTo = replyTo;
         this.region = region;
+        this.rateLimiter = rateLimiter;
+        this.circuitBreaker = circuitBreaker;
     }
 
     public boolean isValid() {
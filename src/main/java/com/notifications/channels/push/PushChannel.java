@@ -1,17 +1,32 @@
 package com.notifications.channels.push;
 
+import com.notifications.core.Deadline;
 import com.notifications.core.Notification;
 import com.notifications.core.NotificationChannel;
 import com.notifications.core.NotificationProvider;
 import com.notifications.core.NotificationResult;
+import com.notifications.resilience.CircuitBreakerProvider;
+import com.notifications.resilience.RateLimitedProvider;
+import com.notifications.validation.ValidationPlan;
+import com.notifications.validation.ValidationResult;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
 import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 
 public final class PushChannel implements NotificationChannel {
     
     private static final Logger logger = LoggerFactory.getLogger(PushChannel.class);
+    private static final ValidationPlan<PushNotification> PLAN = ValidationPlan.builder(PushNotification.class)
+            .rule(PushChannel::checkRecipients)
+            .rule(PushChannel::checkContent)
+            .build();
     
     private final PushConfig config;
     private final NotificationProvider<PushNotification> provider;
@@ -27,9 +42,11 @@ public final class PushChannel implements NotificationChannel {
     }
 
     private NotificationProvider<PushNotification> createProvider(PushConfig config) {
-        return switch (config.getProvider()) {
+        NotificationProvider<PushNotification> provider = switch (config.getProvider()) {
             case FIREBASE -> new com.notifications.providers.push.FirebaseProvider(config);
         };
+        return CircuitBreakerProvider.decorate(
+                RateLimitedProvider.decorate(provider, config.getRateLimiter()), config.getCircuitBreaker());
     }
 
     @Override
@@ -39,6 +56,16 @@ public final class PushChannel implements NotificationChannel {
 
     @Override
     public NotificationResult send(Notification notification) {
+        return sendAsync(notification).join();
+    }
+
+    @Override
+    public CompletableFuture<NotificationResult> sendAsync(Notification notification) {
+        return sendAsync(notification, Deadline.of(notification));
+    }
+
+    @Override
+    public CompletableFuture<NotificationResult> sendAsync(Notification notification, Deadline deadline) {
         if (!canHandle(notification)) {
             throw new IllegalArgumentException(
                     String.format("PushChannel cannot handle notification type: %s", 
@@ -48,43 +75,129 @@ public final class PushChannel implements NotificationChannel {
 
         PushNotification pushNotification = (PushNotification) notification;
 
-        if (pushNotification.getRecipients().isEmpty()) {
-            logger.warn("Push notification has no recipients");
-            return NotificationResult.failure(
-                    "At least one recipient (device token) is required",
-                    "VALIDATION_ERROR",
+        if (deadline.isExpired()) {
+            logger.warn("Deadline exceeded before sending via provider: {}", provider.getProviderName());
+            return CompletableFuture.completedFuture(NotificationResult.failure(
+                    "Deadline exceeded before sending",
+                    "DEADLINE_EXCEEDED",
                     getChannelType(),
                     config.getProvider().getId()
-            );
+            ));
         }
 
-        if (pushNotification.getContent() == null || 
-            pushNotification.getTitle() == null || pushNotification.getTitle().trim().isEmpty()) {
-            logger.warn("Push notification missing title");
-            return NotificationResult.failure(
-                    "Push notification title cannot be empty",
-                    "VALIDATION_ERROR",
-                    getChannelType(),
-                    config.getProvider().getId()
-            );
+        NotificationResult validationFailure = validationFailure(pushNotification);
+        if (validationFailure != null) {
+            return CompletableFuture.completedFuture(validationFailure);
         }
 
         try {
             logger.debug("Sending push notification via provider: {}", provider.getProviderName());
-            return provider.send(pushNotification);
+            return provider.sendAsync(pushNotification, deadline)
+                    .toCompletableFuture()
+                    .exceptionally(this::providerFailure);
         } catch (Exception e) {
-            logger.error("Error sending push notification", e);
+            return CompletableFuture.completedFuture(providerFailure(e));
+        }
+    }
+
+    private NotificationResult providerFailure(Throwable error) {
+        Throwable cause = error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+        logger.error("Error sending push notification", cause);
+        return NotificationResult.failure(
+                String.format("Failed to send push notification: %s", cause.getMessage()),
+                "PROVIDER_ERROR",
+                getChannelType(),
+                config.getProvider().getId()
+        );
+    }
+
+    @Override
+    public List<NotificationResult> sendBatch(List<? extends Notification> notifications) {
+        NotificationResult[] results = new NotificationResult[notifications.size()];
+        List<PushNotification> accepted = new ArrayList<>(notifications.size());
+        int[] acceptedIndexes = new int[notifications.size()];
+
+        for (int i = 0; i < notifications.size(); i++) {
+            Notification notification = notifications.get(i);
+            if (!canHandle(notification)) {
+                throw new IllegalArgumentException(
+                        String.format("PushChannel cannot handle notification type: %s",
+                                notification == null ? null : notification.getChannelType())
+                );
+            }
+
+            PushNotification pushNotification = (PushNotification) notification;
+            NotificationResult validationFailure = validationFailure(pushNotification);
+            if (validationFailure != null) {
+                results[i] = validationFailure;
+            } else {
+                acceptedIndexes[accepted.size()] = i;
+                accepted.add(pushNotification);
+            }
+        }
+
+        if (!accepted.isEmpty()) {
+            List<NotificationResult> delivered = deliverBatch(accepted);
+            for (int i = 0; i < delivered.size(); i++) {
+                results[acceptedIndexes[i]] = delivered.get(i);
+            }
+        }
+        return Arrays.asList(results);
+    }
+
+    private List<NotificationResult> deliverBatch(List<PushNotification> notifications) {
+        try {
+            logger.debug("Sending {} push notification(s) via provider: {}", notifications.size(), provider.getProviderName());
+            return provider.sendBatch(notifications);
+        } catch (Exception e) {
+            NotificationResult[] failures = new NotificationResult[notifications.size()];
+            Arrays.fill(failures, providerFailure(e));
+            return Arrays.asList(failures);
+        }
+    }
+
+    @Override
+    public ValidationResult validate(Notification notification) {
+        return PLAN.validate(notification);
+    }
+
+    private NotificationResult validationFailure(PushNotification notification) {
+        ValidationResult validationResult = PLAN.validate(notification);
+        if (validationResult.isInvalid()) {
+            logger.warn("Push validation failed: {}", validationResult.getErrorMessage().orElse("Unknown error"));
             return NotificationResult.failure(
-                    String.format("Failed to send push notification: %s", e.getMessage()),
-                    "PROVIDER_ERROR",
+                    validationResult.getErrorMessage().orElse("Push validation failed"),
+                    "VALIDATION_ERROR",
                     getChannelType(),
                     config.getProvider().getId()
             );
         }
+        return null;
+    }
+
+    private static String checkRecipients(PushNotification notification) {
+        return notification.getRecipients().isEmpty()
+                ? "At least one recipient (device token) is required"
+                : null;
+    }
+
+    private static String checkContent(PushNotification notification) {
+        if (notification.getContent() == null || ValidationPlan.isBlank(notification.getTitle())) {
+            return "Push notification title cannot be empty";
+        }
+        if (ValidationPlan.isBlank(notification.getBody())) {
+            return "Push notification body cannot be empty";
+        }
+        return null;
     }
 
     @Override
     public boolean isReady() {
-        return provider.isConfigured();
+        return provider.isConfigured() && provider.isAvailable();
+    }
+
+    @Override
+    public Optional<NotificationResult> getNotReadyResult() {
+        return provider.isConfigured() ? provider.getUnavailableResult() : Optional.empty();
     }
 }
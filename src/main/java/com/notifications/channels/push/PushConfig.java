@@ -1,5 +1,7 @@
 package com.notifications.channels.push;
 
+import com.notifications.resilience.CircuitBreaker;
+import com.notifications.resilience.TokenBucketRateLimiter;
 import lombok.Builder;
 import lombok.Getter;
 
@@ -33,14 +35,24 @@ public final class PushConfig {
     private final String appId;
     private final String projectId;
     private final String serviceAccountJson;
+    private final TokenBucketRateLimiter rateLimiter;
+    private final CircuitBreaker circuitBreaker;
 
     public PushConfig(PushProvider provider, String apiKey, String appId,
                      String projectId, String serviceAccountJson) {
+        this(provider, apiKey, appId, projectId, serviceAccountJson, null, null);
+    }
+
+    public PushConfig(PushProvider provider, String apiKey, String appId,
+                     String projectId, String serviceAccountJson, TokenBucketRateLimiter rateLimiter,
+                     CircuitBreaker circuitBreaker) {
         this.provider = Objects.requireNonNull(provider, "Provider cannot be null");
         this.apiKey = apiKey;
         this.appId = appId;
         this.projectId = projectId;
         this.serviceAccountJson = serviceAccountJson;
+        this.rateLimiter = rateLimiter;
+        this.circuitBreaker = circuitBreaker;
     }
 
     public boolean isValid() {
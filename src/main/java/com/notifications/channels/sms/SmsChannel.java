@@ -1,15 +1,24 @@
 package com.notifications.channels.sms;
 
+import com.notifications.core.Deadline;
 import com.notifications.core.Notification;
 import com.notifications.core.NotificationChannel;
 import com.notifications.core.NotificationProvider;
 import com.notifications.core.NotificationResult;
+import com.notifications.resilience.CircuitBreakerProvider;
+import com.notifications.resilience.RateLimitedProvider;
 import com.notifications.validation.PhoneValidator;
 import com.notifications.validation.ValidationResult;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
 import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 
 public final class SmsChannel implements NotificationChannel {
     
@@ -29,9 +38,11 @@ public final class SmsChannel implements NotificationChannel {
     }
 
     private NotificationProvider<SmsNotification> createProvider(SmsConfig config) {
-        return switch (config.getProvider()) {
+        NotificationProvider<SmsNotification> provider = switch (config.getProvider()) {
             case TWILIO -> new com.notifications.providers.sms.TwilioProvider(config);
         };
+        return CircuitBreakerProvider.decorate(
+                RateLimitedProvider.decorate(provider, config.getRateLimiter()), config.getCircuitBreaker());
     }
 
     @Override
@@ -41,6 +52,16 @@ public final class SmsChannel implements NotificationChannel {
 
     @Override
     public NotificationResult send(Notification notification) {
+        return sendAsync(notification).join();
+    }
+
+    @Override
+    public CompletableFuture<NotificationResult> sendAsync(Notification notification) {
+        return sendAsync(notification, Deadline.of(notification));
+    }
+
+    @Override
+    public CompletableFuture<NotificationResult> sendAsync(Notification notification, Deadline deadline) {
         if (!canHandle(notification)) {
             throw new IllegalArgumentException(
                     String.format("SmsChannel cannot handle notification type: %s", 
@@ -50,33 +71,113 @@ public final class SmsChannel implements NotificationChannel {
 
         SmsNotification smsNotification = (SmsNotification) notification;
 
-        ValidationResult validationResult = PhoneValidator.validate(smsNotification);
-        if (validationResult.isInvalid()) {
-            logger.warn("SMS validation failed: {}", validationResult.getErrorMessage().orElse("Unknown error"));
-            return NotificationResult.failure(
-                    validationResult.getErrorMessage().orElse("SMS validation failed"),
-                    "VALIDATION_ERROR",
+        if (deadline.isExpired()) {
+            logger.warn("Deadline exceeded before sending via provider: {}", provider.getProviderName());
+            return CompletableFuture.completedFuture(NotificationResult.failure(
+                    "Deadline exceeded before sending",
+                    "DEADLINE_EXCEEDED",
                     getChannelType(),
                     config.getProvider().getId()
-            );
+            ));
+        }
+
+        NotificationResult validationFailure = validationFailure(smsNotification);
+        if (validationFailure != null) {
+            return CompletableFuture.completedFuture(validationFailure);
         }
 
         try {
             logger.debug("Sending SMS notification via provider: {}", provider.getProviderName());
-            return provider.send(smsNotification);
+            return provider.sendAsync(smsNotification, deadline)
+                    .toCompletableFuture()
+                    .exceptionally(this::providerFailure);
+        } catch (Exception e) {
+            return CompletableFuture.completedFuture(providerFailure(e));
+        }
+    }
+
+    private NotificationResult providerFailure(Throwable error) {
+        Throwable cause = error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+        logger.error("Error sending SMS notification", cause);
+        return NotificationResult.failure(
+                String.format("Failed to send SMS: %s", cause.getMessage()),
+                "PROVIDER_ERROR",
+                getChannelType(),
+                config.getProvider().getId()
+        );
+    }
+
+    @Override
+    public List<NotificationResult> sendBatch(List<? extends Notification> notifications) {
+        NotificationResult[] results = new NotificationResult[notifications.size()];
+        List<SmsNotification> accepted = new ArrayList<>(notifications.size());
+        int[] acceptedIndexes = new int[notifications.size()];
+
+        for (int i = 0; i < notifications.size(); i++) {
+            Notification notification = notifications.get(i);
+            if (!canHandle(notification)) {
+                throw new IllegalArgumentException(
+                        String.format("SmsChannel cannot handle notification type: %s",
+                                notification == null ? null : notification.getChannelType())
+                );
+            }
+
+            SmsNotification smsNotification = (SmsNotification) notification;
+            NotificationResult validationFailure = validationFailure(smsNotification);
+            if (validationFailure != null) {
+                results[i] = validationFailure;
+            } else {
+                acceptedIndexes[accepted.size()] = i;
+                accepted.add(smsNotification);
+            }
+        }
+
+        if (!accepted.isEmpty()) {
+            List<NotificationResult> delivered = deliverBatch(accepted);
+            for (int i = 0; i < delivered.size(); i++) {
+                results[acceptedIndexes[i]] = delivered.get(i);
+            }
+        }
+        return Arrays.asList(results);
+    }
+
+    private List<NotificationResult> deliverBatch(List<SmsNotification> notifications) {
+        try {
+            logger.debug("Sending {} SMS notification(s) via provider: {}", notifications.size(), provider.getProviderName());
+            return provider.sendBatch(notifications);
         } catch (Exception e) {
-            logger.error("Error sending SMS notification", e);
+            NotificationResult[] failures = new NotificationResult[notifications.size()];
+            Arrays.fill(failures, providerFailure(e));
+            return Arrays.asList(failures);
+        }
+    }
+
+    @Override
+    public ValidationResult validate(Notification notification) {
+        return PhoneValidator.plan().validate(notification);
+    }
+
+    private NotificationResult validationFailure(SmsNotification notification) {
+        ValidationResult validationResult = PhoneValidator.plan().validate(notification);
+        if (validationResult.isInvalid()) {
+            logger.warn("SMS validation failed: {}", validationResult.getErrorMessage().orElse("Unknown error"));
             return NotificationResult.failure(
-                    String.format("Failed to send SMS: %s", e.getMessage()),
-                    "PROVIDER_ERROR",
+                    validationResult.getErrorMessage().orElse("SMS validation failed"),
+                    "VALIDATION_ERROR",
                     getChannelType(),
                     config.getProvider().getId()
             );
         }
+        return null;
     }
 
     @Override
     public boolean isReady() {
-        return provider.isConfigured();
+        return provider.isConfigured() && provider.isAvailable();
+    }
+
+    @Override
+    public Optional<NotificationResult> getNotReadyResult() {
+        return provider.isConfigured() ? provider.getUnavailableResult() : Optional.empty();
     }
 }
@@ -1,5 +1,7 @@
 package com.notifications.channels.sms;
 
+import com.notifications.resilience.CircuitBreaker;
+import com.notifications.resilience.TokenBucketRateLimiter;
 import lombok.Builder;
 import lombok.Getter;
 
@@ -35,9 +37,17 @@ public final class SmsConfig {
     private final String accessKeyId;
     private final String secretAccessKey;
     private final String region;
+    private final TokenBucketRateLimiter rateLimiter;
+    private final CircuitBreaker circuitBreaker;
 
     public SmsConfig(SmsProvider provider, String accountSid, String authToken,
                     String fromPhoneNumber, String accessKeyId, String secretAccessKey, String region) {
+        this(provider, accountSid, authToken, fromPhoneNumber, accessKeyId, secretAccessKey, region, null, null);
+    }
+
+    public SmsConfig(SmsProvider provider, String accountSid, String authToken,
+                    String fromPhoneNumber, String accessKeyId, String secretAccessKey, String region,
+                    TokenBucketRateLimiter rateLimiter, CircuitBreaker circuitBreaker) {
         this.provider = Objects.requireNonNull(provider, "Provider cannot be null");
         this.accountSid = accountSid;
         this.authToken = authToken;
@@ -45,6 +55,8 @@ public final class SmsConfig {
         this.accessKeyId = accessKeyId;
         this.secretAccessKey = secretAccessKey;
         this.region = region;
+        this.rateLimiter = rateLimiter;
+        this.circuitBreaker = circuitBreaker;
     }
 
     public boolean isValid() {
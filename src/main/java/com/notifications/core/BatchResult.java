@@ -0,0 +1,82 @@
+package com.notifications.core;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+
+public final class BatchResult {
+
+    private final int total;
+    private final int successCount;
+    private final int[] failureIndexes;
+    private final NotificationResult[] failureResults;
+
+    private BatchResult(int total, int successCount, int[] failureIndexes, NotificationResult[] failureResults) {
+        this.total = total;
+        this.successCount = successCount;
+        this.failureIndexes = failureIndexes;
+        this.failureResults = failureResults;
+    }
+
+    static BatchResult of(int total, int successCount, NotificationResult[] failuresByIndex) {
+        int failureCount = 0;
+        for (NotificationResult failure : failuresByIndex) {
+            if (failure != null) {
+                failureCount++;
+            }
+        }
+
+        int[] indexes = new int[failureCount];
+        NotificationResult[] results = new NotificationResult[failureCount];
+        int position = 0;
+        for (int i = 0; i < failuresByIndex.length; i++) {
+            if (failuresByIndex[i] != null) {
+                indexes[position] = i;
+                results[position] = failuresByIndex[i];
+                position++;
+            }
+        }
+        return new BatchResult(total, successCount, indexes, results);
+    }
+
+    public static BatchResult empty() {
+        return new BatchResult(0, 0, new int[0], new NotificationResult[0]);
+    }
+
+    public int getTotal() {
+        return total;
+    }
+
+    public int getSuccessCount() {
+        return successCount;
+    }
+
+    public int getFailureCount() {
+        return failureIndexes.length;
+    }
+
+    public boolean isAllSuccessful() {
+        return failureIndexes.length == 0;
+    }
+
+    public Optional<NotificationResult> getFailure(int index) {
+        int position = Arrays.binarySearch(failureIndexes, index);
+        return position >= 0 ? Optional.of(failureResults[position]) : Optional.empty();
+    }
+
+    public Map<Integer, NotificationResult> getFailures() {
+        Map<Integer, NotificationResult> failures = new LinkedHashMap<>();
+        for (int i = 0; i < failureIndexes.length; i++) {
+            failures.put(failureIndexes[i], failureResults[i]);
+        }
+        return Collections.unmodifiableMap(failures);
+    }
+
+    @Override
+    public String toString() {
+        return String.format("BatchResult{total=%d, success=%d, failures=%d}",
+                total, successCount, failureIndexes.length);
+    }
+}
@@ -0,0 +1,83 @@
+package com.notifications.core;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+final class ChannelRegistry {
+
+    private volatile Snapshot snapshot;
+
+    ChannelRegistry(List<NotificationChannel> channels) {
+        this.snapshot = new Snapshot(List.copyOf(channels));
+    }
+
+    NotificationChannel resolve(Notification notification) {
+        return snapshot.resolve(notification);
+    }
+
+    List<NotificationChannel> channels() {
+        return snapshot.channels;
+    }
+
+    synchronized void register(NotificationChannel channel) {
+        Objects.requireNonNull(channel, "Channel cannot be null");
+        List<NotificationChannel> channels = new ArrayList<>(snapshot.channels);
+        channels.add(channel);
+        snapshot = new Snapshot(List.copyOf(channels));
+    }
+
+    synchronized boolean unregister(NotificationChannel channel) {
+        List<NotificationChannel> channels = new ArrayList<>(snapshot.channels);
+        if (!channels.remove(channel)) {
+            return false;
+        }
+        snapshot = new Snapshot(List.copyOf(channels));
+        return true;
+    }
+
+    private static final class Snapshot {
+        private final List<NotificationChannel> channels;
+        private final Map<String, NotificationChannel> byType;
+        private final Map<Class<?>, NotificationChannel> byNotificationClass = new ConcurrentHashMap<>();
+
+        private Snapshot(List<NotificationChannel> channels) {
+            this.channels = channels;
+            Map<String, NotificationChannel> byType = new HashMap<>();
+            for (NotificationChannel channel : channels) {
+                byType.putIfAbsent(channel.getChannelType(), channel);
+            }
+            this.byType = byType;
+        }
+
+        private NotificationChannel resolve(Notification notification) {
+            // The per-class entry is only a hint: canHandle stays the authority, so
+            // notification classes whose channel type varies per instance still work.
+            NotificationChannel cached = byNotificationClass.get(notification.getClass());
+            if (cached != null && cached.canHandle(notification)) {
+                return cached;
+            }
+
+            NotificationChannel channel = byType.get(notification.getChannelType());
+            if (channel == null || !channel.canHandle(notification)) {
+                channel = scan(notification);
+            }
+            if (channel != null) {
+                byNotificationClass.put(notification.getClass(), channel);
+            }
+            return channel;
+        }
+
+        private NotificationChannel scan(Notification notification) {
+            for (NotificationChannel channel : channels) {
+                if (channel.canHandle(notification)) {
+                    return channel;
+                }
+            }
+            return null;
+        }
+    }
+}
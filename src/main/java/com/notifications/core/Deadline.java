@@ -0,0 +1,126 @@
+package com.notifications.core;
+
+import com.notifications.model.NotificationMetadata;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.format.DateTimeParseException;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+// Deadlines are kept on the monotonic clock so wall-clock jumps cannot extend or cut a send short.
+public final class Deadline {
+
+    private static final Logger logger = LoggerFactory.getLogger(Deadline.class);
+
+    private static final Deadline NONE = new Deadline(0, false);
+
+    private final long deadlineNanos;
+    private final boolean bounded;
+
+    private Deadline(long deadlineNanos, boolean bounded) {
+        this.deadlineNanos = deadlineNanos;
+        this.bounded = bounded;
+    }
+
+    public static Deadline none() {
+        return NONE;
+    }
+
+    public static Deadline after(Duration timeout) {
+        Objects.requireNonNull(timeout, "Timeout cannot be null");
+        return new Deadline(System.nanoTime() + saturatedNanos(timeout), true);
+    }
+
+    public static Deadline at(Instant instant) {
+        Objects.requireNonNull(instant, "Instant cannot be null");
+        return after(Duration.between(Instant.now(), instant));
+    }
+
+    // Reads an ISO-8601 instant from the "deadline" metadata entry. Validation rejects a
+    // value that does not parse, so getting here with one means validation was skipped.
+    public static Deadline of(Notification notification) {
+        String value = notification.getMetadata().get(NotificationMetadata.DEADLINE);
+        if (value == null) {
+            return NONE;
+        }
+        try {
+            return at(Instant.parse(value));
+        } catch (DateTimeParseException e) {
+            logger.warn("Ignoring unparseable deadline '{}', sending without one", value);
+            return NONE;
+        }
+    }
+
+    // Returns the error message, or null when the entry is absent or parses.
+    public static String check(Notification notification) {
+        String value = notification.getMetadata().get(NotificationMetadata.DEADLINE);
+        if (value == null) {
+            return null;
+        }
+        try {
+            Instant.parse(value);
+            return null;
+        } catch (DateTimeParseException e) {
+            return String.format("Invalid deadline: %s", value);
+        }
+    }
+
+    public boolean isBounded() {
+        return bounded;
+    }
+
+    public boolean isExpired() {
+        return bounded && deadlineNanos - System.nanoTime() <= 0;
+    }
+
+    public long remainingNanos() {
+        return bounded ? Math.max(0, deadlineNanos - System.nanoTime()) : Long.MAX_VALUE;
+    }
+
+    // Returns a view of the future that completes with onExpiry's value once the deadline
+    // passes; the source is then cancelled so the work behind it can stop.
+    public <T> CompletableFuture<T> bound(CompletableFuture<T> future, Supplier<T> onExpiry) {
+        if (!bounded || future.isDone()) {
+            return future;
+        }
+        long remaining = deadlineNanos - System.nanoTime();
+        if (remaining <= 0) {
+            future.cancel(true);
+            return CompletableFuture.completedFuture(onExpiry.get());
+        }
+
+        return future.copy()
+                .orTimeout(remaining, TimeUnit.NANOSECONDS)
+                .exceptionally(error -> {
+                    Throwable cause = error instanceof CompletionException && error.getCause() != null
+                            ? error.getCause() : error;
+                    if (!(cause instanceof TimeoutException)) {
+                        throw error instanceof CompletionException completion ? completion : new CompletionException(error);
+                    }
+                    future.cancel(true);
+                    return onExpiry.get();
+                });
+    }
+
+    private static long saturatedNanos(Duration duration) {
+        try {
+            return duration.toNanos();
+        } catch (ArithmeticException e) {
+            return duration.isNegative() ? Long.MIN_VALUE / 2 : Long.MAX_VALUE / 2;
+        }
+    }
+
+    @Override
+    public String toString() {
+        return bounded
+                ? String.format("Deadline{remainingMillis=%d}", TimeUnit.NANOSECONDS.toMillis(remainingNanos()))
+                : "Deadline{none}";
+    }
+}
@@ -3,6 +3,8 @@ package com.notifications.core;
 import com.notifications.model.NotificationContent;
 import com.notifications.model.NotificationMetadata;
 import com.notifications.model.Recipient;
+import com.notifications.validation.ValidationPlan;
+import com.notifications.validation.ValidationResult;
 
 import java.time.Instant;
 import java.util.Collections;
@@ -15,6 +17,8 @@ public abstract class Notification {
     private final NotificationContent content;
     private final NotificationMetadata metadata;
     private final Instant createdAt;
+    // Notifications are immutable, so a verdict stays true for the plan that produced it.
+    private volatile Verdict verdict;
 
     protected Notification(List<Recipient> recipients, NotificationContent content, NotificationMetadata metadata) {
         this.recipients = Objects.requireNonNull(recipients, "Recipients cannot be null");
@@ -45,6 +49,19 @@ public abstract class Notification {
 
     public abstract String getChannelType();
 
+    // Reserved for ValidationPlan: the key cannot be obtained anywhere else.
+    public ValidationResult getVerdict(ValidationPlan.VerdictKey key, ValidationPlan<?> plan) {
+        Objects.requireNonNull(key, "Key cannot be null");
+        Verdict current = verdict;
+        return current != null && current.plan == plan ? current.result : null;
+    }
+
+    public void attachVerdict(ValidationPlan.VerdictKey key, ValidationPlan<?> plan, ValidationResult result) {
+        Objects.requireNonNull(key, "Key cannot be null");
+        this.verdict = new Verdict(Objects.requireNonNull(plan, "Plan cannot be null"),
+                Objects.requireNonNull(result, "Result cannot be null"));
+    }
+
     public boolean isValid() {
         return recipients != null && !recipients.isEmpty() 
                 && content != null 
@@ -73,4 +90,14 @@ public abstract class Notification {
         return String.format("Notification{channelType='%s', recipients=%d, createdAt=%s}",
                 getChannelType(), recipients.size(), createdAt);
     }
+
+    private static final class Verdict {
+        private final ValidationPlan<?> plan;
+        private final ValidationResult result;
+
+        private Verdict(ValidationPlan<?> plan, ValidationResult result) {
+            this.plan = plan;
+            this.result = result;
+        }
+    }
 }
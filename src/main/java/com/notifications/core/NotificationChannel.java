@@ -1,11 +1,48 @@
 package com.notifications.core;
 
+import com.notifications.validation.ValidationResult;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+
 public interface NotificationChannel {
 
     String getChannelType();
 
     NotificationResult send(Notification notification);
 
+    default CompletionStage<NotificationResult> sendAsync(Notification notification) {
+        return CompletableFuture.completedFuture(send(notification));
+    }
+
+    default CompletionStage<NotificationResult> sendAsync(Notification notification, Deadline deadline) {
+        if (deadline.isExpired()) {
+            return CompletableFuture.completedFuture(NotificationResult.failure(
+                    "Deadline exceeded before sending", "DEADLINE_EXCEEDED", getChannelType(), "unknown"));
+        }
+        return deadline.bound(sendAsync(notification).toCompletableFuture(), () -> NotificationResult.failure(
+                "Deadline exceeded while waiting for the channel", "DEADLINE_EXCEEDED", getChannelType(), "unknown"));
+    }
+
+    default List<NotificationResult> sendBatch(List<? extends Notification> notifications) {
+        List<NotificationResult> results = new ArrayList<>(notifications.size());
+        for (Notification notification : notifications) {
+            results.add(send(notification));
+        }
+        return results;
+    }
+
+    // Channels backed by a ValidationPlan override this; the verdict is cached on the
+    // notification, so the service and the channel's own check share one evaluation.
+    default ValidationResult validate(Notification notification) {
+        return notification.isValid()
+                ? ValidationResult.success()
+                : ValidationResult.failure("Notification validation failed");
+    }
+
     default boolean canHandle(Notification notification) {
         return notification != null && 
                getChannelType().equals(notification.getChannelType());
@@ -14,4 +51,10 @@ public interface NotificationChannel {
     default boolean isReady() {
         return true;
     }
+
+    // The failure to report while isReady() is false, when the channel has a more
+    // specific one than CHANNEL_NOT_READY.
+    default Optional<NotificationResult> getNotReadyResult() {
+        return Optional.empty();
+    }
 }
@@ -1,14 +1,74 @@
 package com.notifications.core;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+
 public interface NotificationProvider<T extends Notification> {
 
     String getProviderName();
 
     NotificationResult send(T notification);
 
+    default CompletionStage<NotificationResult> sendAsync(T notification) {
+        try {
+            return CompletableFuture.completedFuture(send(notification));
+        } catch (Exception e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    default CompletionStage<NotificationResult> sendAsync(T notification, Deadline deadline) {
+        if (deadline.isExpired()) {
+            return CompletableFuture.completedFuture(NotificationResult.failure(
+                    "Deadline exceeded before sending", "DEADLINE_EXCEEDED", getChannelType(), getProviderName()));
+        }
+        return deadline.bound(sendAsync(notification).toCompletableFuture(), () -> NotificationResult.failure(
+                "Deadline exceeded while waiting for the provider", "DEADLINE_EXCEEDED",
+                getChannelType(), getProviderName()));
+    }
+
+    default List<NotificationResult> sendBatch(List<T> notifications) {
+        List<NotificationResult> results = new ArrayList<>(notifications.size());
+        for (T notification : notifications) {
+            results.add(send(notification));
+        }
+        return results;
+    }
+
+    default int getMaxBatchSize() {
+        return 1;
+    }
+
+    // The positions sendBatch would send together in one API request. Notifications it
+    // rejects without calling the API belong to no request.
+    default List<List<Integer>> getBatchRequests(List<T> notifications) {
+        int chunkSize = Math.max(1, getMaxBatchSize());
+        List<List<Integer>> requests = new ArrayList<>();
+        for (int from = 0; from < notifications.size(); from += chunkSize) {
+            List<Integer> request = new ArrayList<>();
+            for (int i = from; i < Math.min(from + chunkSize, notifications.size()); i++) {
+                request.add(i);
+            }
+            requests.add(request);
+        }
+        return requests;
+    }
+
     default boolean isConfigured() {
         return true;
     }
 
+    default boolean isAvailable() {
+        return true;
+    }
+
+    // Why the provider is unavailable, when it can say more than "not ready".
+    default Optional<NotificationResult> getUnavailableResult() {
+        return Optional.empty();
+    }
+
     String getChannelType();
 }
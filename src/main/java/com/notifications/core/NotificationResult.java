@@ -1,7 +1,6 @@
 package com.notifications.core;
 
 import java.time.Instant;
-import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Optional;
@@ -12,24 +11,25 @@ public final class NotificationResult {
     private final String messageId;
     private final String error;
     private final String errorCode;
-    private final Instant timestamp;
+    private final long timestampMillis;
     private final String channel;
     private final String provider;
     private final int statusCode;
     private final Map<String, Object> providerMetadata;
+    // Materialised on first read; the millis are all most results ever need.
+    private Instant timestamp;
 
     private NotificationResult(Builder builder) {
         this.success = builder.success;
         this.messageId = builder.messageId;
         this.error = builder.error;
         this.errorCode = builder.errorCode;
-        this.timestamp = builder.timestamp != null ? builder.timestamp : Instant.now();
+        this.timestamp = builder.timestamp;
+        this.timestampMillis = builder.timestamp != null ? builder.timestamp.toEpochMilli() : System.currentTimeMillis();
         this.channel = builder.channel;
         this.provider = builder.provider;
-        this.statusCode = builder.statusCode != null ? builder.statusCode : (success ? 200 : 500);
-        this.providerMetadata = builder.providerMetadata != null 
-            ? Collections.unmodifiableMap(new HashMap<>(builder.providerMetadata)) 
-            : Map.of();
+        this.statusCode = builder.statusCodeSet ? builder.statusCode : (success ? 200 : 500);
+        this.providerMetadata = ProviderMetadata.copyOf(builder.providerMetadata);
     }
 
     public static NotificationResult success(String messageId, String channel, String provider) {
@@ -74,7 +74,16 @@ public final class NotificationResult {
     }
 
     public Instant getTimestamp() {
-        return timestamp;
+        Instant instant = timestamp;
+        if (instant == null) {
+            instant = Instant.ofEpochMilli(timestampMillis);
+            timestamp = instant;
+        }
+        return instant;
+    }
+
+    public long getTimestampMillis() {
+        return timestampMillis;
     }
 
     public String getChannel() {
@@ -97,10 +106,10 @@ public final class NotificationResult {
     public String toString() {
         if (success) {
             return String.format("NotificationResult{success=true, messageId='%s', channel='%s', provider='%s', statusCode=%d, timestamp=%s}",
-                    messageId, channel, provider, statusCode, timestamp);
+                    messageId, channel, provider, statusCode, getTimestamp());
         } else {
             return String.format("NotificationResult{success=false, error='%s', errorCode='%s', channel='%s', provider='%s', statusCode=%d, timestamp=%s}",
-                    error, errorCode, channel, provider, statusCode, timestamp);
+                    error, errorCode, channel, provider, statusCode, getTimestamp());
         }
     }
 
@@ -112,7 +121,8 @@ public final class NotificationResult {
         private Instant timestamp;
         private String channel;
         private String provider;
-        private Integer statusCode;
+        private int statusCode;
+        private boolean statusCodeSet;
         private Map<String, Object> providerMetadata;
 
         public Builder success(boolean success) {
@@ -152,17 +162,23 @@ public final class NotificationResult {
 
         public Builder statusCode(int statusCode) {
             this.statusCode = statusCode;
+            this.statusCodeSet = true;
             return this;
         }
 
+        // ProviderMetadata is immutable and taken as is; any other map is copied once.
         public Builder providerMetadata(Map<String, Object> providerMetadata) {
-            this.providerMetadata = providerMetadata != null ? new HashMap<>(providerMetadata) : null;
+            this.providerMetadata = providerMetadata instanceof ProviderMetadata || providerMetadata == null
+                    ? providerMetadata
+                    : new HashMap<>(providerMetadata);
             return this;
         }
 
         public Builder addMetadata(String key, Object value) {
             if (this.providerMetadata == null) {
                 this.providerMetadata = new HashMap<>();
+            } else if (this.providerMetadata instanceof ProviderMetadata compact) {
+                this.providerMetadata = new HashMap<>(compact);
             }
             this.providerMetadata.put(key, value);
             return this;
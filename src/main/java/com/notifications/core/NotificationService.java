@@ -1,23 +1,121 @@
 package com.notifications.core;
 
+import com.notifications.audit.AuditSink;
+import com.notifications.idempotency.IdempotencyCache;
+import com.notifications.idempotency.IdempotencyConfig;
+import com.notifications.idempotency.IdempotencyStats;
+import com.notifications.metrics.MetricsRegistry;
+import com.notifications.metrics.MetricsReporter;
+import com.notifications.metrics.MetricsSink;
+import com.notifications.metrics.MetricsSnapshot;
+import com.notifications.outbox.Outbox;
+import com.notifications.queue.DispatchQueue;
+import com.notifications.queue.DispatchQueueConfig;
+import com.notifications.queue.Priority;
+import com.notifications.queue.QueueStats;
+import com.notifications.resilience.Retrier;
+import com.notifications.resilience.RetryPolicy;
+import com.notifications.resilience.RetryStats;
+import com.notifications.scheduling.HashedWheelTimer;
+import com.notifications.scheduling.NotificationScheduler;
+import com.notifications.stream.NotificationProcessor;
+import com.notifications.stream.StreamConfig;
+import com.notifications.validation.ValidationResult;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.io.IOException;
+import java.time.Duration;
+import java.time.Instant;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
-import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Flow;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
 
 public final class NotificationService {
     
     private static final Logger logger = LoggerFactory.getLogger(NotificationService.class);
+    private static final long NO_OUTBOX_ENTRY = -1;
+    private static final long DRAIN_POLL_NANOS = TimeUnit.MILLISECONDS.toNanos(10);
     
-    private final List<NotificationChannel> channels;
+    private final ChannelRegistry channels;
+    private final Executor executor;
+    private final DispatchQueue dispatchQueue;
+    private final Outbox outbox;
+    private final Retrier retrier;
+    private final IdempotencyCache idempotencyCache;
+    private final MetricsRegistry metrics = new MetricsRegistry();
+    private final MetricsReporter metricsReporter;
+    private final NotificationScheduler scheduler;
+    private final AuditSink auditSink;
+    private final ExecutorService ownedExecutor;
+
+    // In-flight sends are counted on a striped adder so admission stays contention-free;
+    // the exact sum is only needed while draining.
+    private final LongAdder inFlight = new LongAdder();
+    private final BiConsumer<Object, Throwable> releaser = (result, error) -> release();
+    private final Object drainLock = new Object();
+    private volatile boolean shuttingDown;
+    private long shutdownStartNanos;
+    private int scheduledRemaining;
+    private ShutdownReport shutdownReport;
 
     private NotificationService(Builder builder) {
-        this.channels = new CopyOnWriteArrayList<>(builder.channels);
-        logger.info("NotificationService initialized with {} channel(s)", channels.size());
+        this.channels = new ChannelRegistry(builder.channels);
+        this.ownedExecutor = builder.executor == null ? Executors.newVirtualThreadPerTaskExecutor() : null;
+        this.executor = builder.executor != null ? builder.executor : ownedExecutor;
+        this.dispatchQueue = builder.dispatchQueueConfig != null
+                ? new DispatchQueue(builder.dispatchQueueConfig, this::dispatch)
+                : null;
+        this.outbox = builder.outbox;
+        this.metricsReporter = builder.metricsSink != null
+                ? new MetricsReporter(metrics, builder.metricsSink, builder.metricsInterval)
+                : null;
+        this.idempotencyCache = builder.idempotencyConfig != null
+                ? new IdempotencyCache(builder.idempotencyConfig)
+                : null;
+        this.retrier = builder.retryPolicy != null
+                ? new Retrier(builder.retryPolicy,
+                        new HashedWheelTimer("notification-retry-timer", Duration.ofMillis(10), 512), executor)
+                : null;
+        this.scheduler = builder.scheduler;
+        this.auditSink = builder.auditSink;
+        logger.info("NotificationService initialized with {} channel(s)", builder.channels.size());
+    }
+
+    private void replayOutbox() {
+        if (outbox == null) {
+            return;
+        }
+        List<Outbox.PendingNotification> pending = outbox.recover();
+        if (pending.isEmpty()) {
+            return;
+        }
+
+        logger.info("Replaying {} unfinished notification(s) from the outbox", pending.size());
+        for (Outbox.PendingNotification entry : pending) {
+            Notification notification = entry.getNotification();
+            inFlight.increment();
+            CompletableFuture.supplyAsync(() -> dispatch(notification, entry.getId(), Deadline.of(notification)), executor)
+                    .thenCompose(Function.identity())
+                    .whenComplete((result, error) -> outbox.complete(entry.getId()))
+                    .whenComplete(releaser);
+        }
     }
 
     public static Builder builder() {
@@ -26,79 +124,735 @@ public final class NotificationService {
 
     public NotificationResult send(Notification notification) {
         Objects.requireNonNull(notification, "Notification cannot be null");
-        
-        logger.debug("Attempting to send notification: {}", notification);
-        
-        if (!notification.isValid()) {
-            logger.warn("Invalid notification: {}", notification);
-            return NotificationResult.failure(
-                    "Notification validation failed",
-                    "VALIDATION_ERROR",
-                    notification.getChannelType(),
-                    "unknown"
-            );
+        return send(notification, Deadline.of(notification));
+    }
+
+    public NotificationResult send(Notification notification, Deadline deadline) {
+        Objects.requireNonNull(notification, "Notification cannot be null");
+        Objects.requireNonNull(deadline, "Deadline cannot be null");
+        if (!admit()) {
+            return serviceShutdown(notification);
+        }
+        try {
+            return dispatch(notification, deadline).join();
+        } finally {
+            release();
         }
+    }
 
+    public CompletableFuture<NotificationResult> sendAsync(Notification notification) {
+        return sendAsync(notification, executor);
+    }
+
+    public CompletableFuture<NotificationResult> sendAsync(Notification notification, Executor executor) {
+        Objects.requireNonNull(notification, "Notification cannot be null");
+        Objects.requireNonNull(executor, "Executor cannot be null");
+        return sendAsync(notification, Deadline.of(notification), executor);
+    }
+
+    public CompletableFuture<NotificationResult> sendAsync(Notification notification, Deadline deadline) {
+        Objects.requireNonNull(notification, "Notification cannot be null");
+        Objects.requireNonNull(deadline, "Deadline cannot be null");
+        return sendAsync(notification, deadline, executor);
+    }
+
+    private CompletableFuture<NotificationResult> sendAsync(Notification notification, Deadline deadline,
+                                                            Executor executor) {
+        if (!admit()) {
+            return CompletableFuture.completedFuture(serviceShutdown(notification));
+        }
+        try {
+            return tracked(CompletableFuture.supplyAsync(() -> dispatch(notification, deadline), executor)
+                    .thenCompose(Function.identity()));
+        } catch (RuntimeException e) {
+            release();
+            throw e;
+        }
+    }
+
+    // Scheduled deliveries were accepted before any shutdown began, so they are
+    // counted towards the drain but never turned away.
+    private CompletableFuture<NotificationResult> dispatchScheduled(Notification notification) {
+        inFlight.increment();
+        try {
+            return tracked(dispatch(notification));
+        } catch (RuntimeException e) {
+            release();
+            throw e;
+        }
+    }
+
+    private boolean admit() {
+        inFlight.increment();
+        if (shuttingDown) {
+            release();
+            return false;
+        }
+        return true;
+    }
+
+    // The caller's future is already complete when the count drops, so a finished drain
+    // never races with the last results being handed out.
+    private <T> CompletableFuture<T> tracked(CompletableFuture<T> future) {
+        future.whenComplete(releaser);
+        return future;
+    }
+
+    private void release() {
+        inFlight.decrement();
+        if (shuttingDown) {
+            synchronized (drainLock) {
+                drainLock.notifyAll();
+            }
+        }
+    }
+
+    private CompletableFuture<NotificationResult> dispatch(Notification notification) {
+        return dispatch(notification, Deadline.of(notification));
+    }
+
+    private CompletableFuture<NotificationResult> dispatch(Notification notification, Deadline deadline) {
+        if (idempotencyCache != null) {
+            return idempotencyCache.execute(notification, () -> dispatch(notification, NO_OUTBOX_ENTRY, deadline));
+        }
+        return dispatch(notification, NO_OUTBOX_ENTRY, deadline);
+    }
+
+    private CompletableFuture<NotificationResult> dispatch(Notification notification, long outboxEntry,
+                                                           Deadline deadline) {
+        String channelType = notification.getChannelType();
+        long start = System.nanoTime();
+        metrics.recordStart(channelType);
+        return route(notification, outboxEntry, deadline).whenComplete((result, error) -> {
+            metrics.recordCompletion(channelType, result, System.nanoTime() - start);
+            audit(result);
+        });
+    }
+
+    // Auditing must never fail a send, so a broken sink is logged and skipped.
+    private void audit(NotificationResult result) {
+        if (auditSink == null || result == null) {
+            return;
+        }
+        try {
+            auditSink.record(result);
+        } catch (RuntimeException e) {
+            logger.error("AuditSink failed to record result for message {}", result.getMessageId().orElse("unknown"), e);
+        }
+    }
+
+    private CompletableFuture<NotificationResult> route(Notification notification, long outboxEntry,
+                                                        Deadline deadline) {
+        logger.debug("Attempting to send notification: {}", notification);
+
+        if (deadline.isExpired()) {
+            logger.warn("Deadline already expired for notification: {}", notification);
+            return CompletableFuture.completedFuture(deadlineExceeded(notification));
+        }
+        
         NotificationChannel channel = findChannel(notification);
         if (channel == null) {
+            if (!notification.isValid()) {
+                logger.warn("Invalid notification: {}", notification);
+                return CompletableFuture.completedFuture(validationFailure(notification, null));
+            }
             logger.error("No channel found for notification type: {}", notification.getChannelType());
-            return NotificationResult.failure(
-                    String.format("No channel configured for type: %s", notification.getChannelType()),
-                    "CHANNEL_NOT_FOUND",
-                    notification.getChannelType(),
-                    "unknown"
-            );
+            return CompletableFuture.completedFuture(channelNotFound(notification.getChannelType()));
+        }
+
+        ValidationResult verdict = channel.validate(notification);
+        if (verdict.isInvalid()) {
+            logger.warn("Invalid notification: {}", notification);
+            return CompletableFuture.completedFuture(validationFailure(notification, verdict));
         }
 
         if (!channel.isReady()) {
             logger.warn("Channel {} is not ready", channel.getChannelType());
-            return NotificationResult.failure(
-                    String.format("Channel %s is not ready", channel.getChannelType()),
-                    "CHANNEL_NOT_READY",
-                    notification.getChannelType(),
-                    "unknown"
-            );
+            return CompletableFuture.completedFuture(channelNotReady(channel, notification.getChannelType()));
+        }
+
+        if (outbox == null || outboxEntry != NO_OUTBOX_ENTRY || !outbox.supports(notification)) {
+            return deliver(channel, notification, deadline);
         }
 
+        // The durable future completes on the log's single flusher thread; delivery moves
+        // to the executor so a slow provider never holds up group commit.
+        return outbox.append(notification)
+                .thenComposeAsync(id -> deliver(channel, notification, deadline)
+                        .whenComplete((result, error) -> outbox.complete(id)), executor)
+                .exceptionally(error -> {
+                    logger.error("Failed to persist notification in the outbox", error);
+                    return outboxFailure(notification, error);
+                });
+    }
+
+    private CompletableFuture<NotificationResult> deliver(NotificationChannel channel, Notification notification,
+                                                          Deadline deadline) {
+        if (retrier == null) {
+            return attempt(channel, notification, deadline);
+        }
+        return retrier.execute(() -> attempt(channel, notification, deadline), deadline);
+    }
+
+    private CompletableFuture<NotificationResult> attempt(NotificationChannel channel, Notification notification,
+                                                          Deadline deadline) {
+        CompletionStage<NotificationResult> pending;
         try {
             logger.info("Sending notification via channel: {}", channel.getChannelType());
-            NotificationResult result = channel.send(notification);
-            
+            pending = channel.sendAsync(notification, deadline);
+        } catch (Exception e) {
+            logger.error("Unexpected error sending notification", e);
+            return CompletableFuture.completedFuture(unexpectedFailure(notification, e));
+        }
+
+        return pending.toCompletableFuture().handle((result, error) -> {
+            if (error != null) {
+                Throwable cause = error instanceof CompletionException && error.getCause() != null
+                        ? error.getCause() : error;
+                logger.error("Unexpected error sending notification", cause);
+                return unexpectedFailure(notification, cause);
+            }
+
             if (result.isSuccess()) {
                 logger.info("Notification sent successfully. Message ID: {}", result.getMessageId().orElse("unknown"));
             } else {
                 logger.warn("Notification failed: {}", result.getError().orElse("Unknown error"));
             }
-            
             return result;
-        } catch (Exception e) {
-            logger.error("Unexpected error sending notification", e);
-            return NotificationResult.failure(
-                    String.format("Unexpected error: %s", e.getMessage()),
-                    "UNEXPECTED_ERROR",
-                    notification.getChannelType(),
-                    "unknown"
-            );
+        });
+    }
+
+    public long sendAt(Notification notification, Instant deliverAt) {
+        Objects.requireNonNull(notification, "Notification cannot be null");
+        Objects.requireNonNull(deliverAt, "Delivery time cannot be null");
+        if (scheduler == null) {
+            throw new IllegalStateException("Scheduling is not enabled; configure a scheduler on the builder");
+        }
+        return scheduler.schedule(notification, deliverAt);
+    }
+
+    public long sendAfter(Notification notification, Duration delay) {
+        Objects.requireNonNull(delay, "Delay cannot be null");
+        return sendAt(notification, Instant.now().plus(delay));
+    }
+
+    public boolean cancelScheduled(long scheduleId) {
+        return scheduler != null && scheduler.cancel(scheduleId);
+    }
+
+    public int getScheduledCount() {
+        return scheduler != null ? scheduler.getScheduledCount() : 0;
+    }
+
+    public Flow.Processor<Notification, NotificationResult> stream(StreamConfig config) {
+        return new NotificationProcessor(this, config);
+    }
+
+    public CompletableFuture<NotificationResult> submit(Notification notification) {
+        Objects.requireNonNull(notification, "Notification cannot be null");
+        return submit(notification, Priority.of(notification));
+    }
+
+    public CompletableFuture<NotificationResult> submit(Notification notification, Priority priority) {
+        Objects.requireNonNull(notification, "Notification cannot be null");
+        Objects.requireNonNull(priority, "Priority cannot be null");
+        if (dispatchQueue == null) {
+            throw new IllegalStateException("Queued mode is not enabled; configure a dispatch queue on the builder");
+        }
+        if (!admit()) {
+            return CompletableFuture.completedFuture(serviceShutdown(notification));
+        }
+        long start = System.nanoTime();
+        try {
+            return tracked(dispatchQueue.submit(notification, priority).whenComplete((result, error) ->
+                    metrics.recordPriority(priority.name(), System.nanoTime() - start)));
+        } catch (RuntimeException e) {
+            release();
+            throw e;
+        }
+    }
+
+    // Stops admitting work: new sends fail fast with SERVICE_SHUTDOWN while everything
+    // already accepted keeps running. Pending schedules stay in their log when it is persistent.
+    public void shutdown() {
+        synchronized (this) {
+            if (shuttingDown) {
+                return;
+            }
+            shuttingDown = true;
+            shutdownStartNanos = System.nanoTime();
+        }
+        logger.info("Shutting down NotificationService with {} send(s) in flight", inFlight.sum());
+
+        if (dispatchQueue != null) {
+            dispatchQueue.shutdown();
+        }
+        if (scheduler != null) {
+            int remaining = scheduler.getScheduledCount();
+            try {
+                scheduler.close();
+            } catch (IOException e) {
+                logger.error("Failed to close the notification scheduler", e);
+            }
+            synchronized (this) {
+                scheduledRemaining = remaining;
+            }
+        }
+    }
+
+    // Waits for in-flight sends to settle, then releases every resource. Whatever is still
+    // queued or waiting for a retry when the timeout elapses is completed with a failure
+    // and counted in the report, so no caller is left hanging.
+    public ShutdownReport awaitTermination(Duration timeout) throws InterruptedException {
+        Objects.requireNonNull(timeout, "Timeout cannot be null");
+        shutdown();
+
+        Deadline deadline = Deadline.after(timeout);
+        synchronized (drainLock) {
+            while (inFlight.sum() > 0 && !deadline.isExpired()) {
+                TimeUnit.NANOSECONDS.timedWait(drainLock, Math.min(deadline.remainingNanos(), DRAIN_POLL_NANOS));
+            }
+        }
+        return terminate();
+    }
+
+    private synchronized ShutdownReport terminate() {
+        if (shutdownReport != null) {
+            return shutdownReport;
+        }
+
+        long abandonedInFlight = inFlight.sum();
+        int abandonedQueued = dispatchQueue != null ? dispatchQueue.close() : 0;
+        int abandonedRetries = retrier != null ? retrier.close() : 0;
+        if (metricsReporter != null) {
+            metricsReporter.close();
+        }
+        if (outbox != null) {
+            try {
+                outbox.close();
+            } catch (IOException e) {
+                logger.error("Failed to close the outbox", e);
+            }
+        }
+        if (auditSink instanceof AutoCloseable closeable) {
+            try {
+                closeable.close();
+            } catch (Exception e) {
+                logger.error("Failed to close the audit sink", e);
+            }
+        }
+        if (ownedExecutor != null) {
+            ownedExecutor.shutdown();
+        }
+
+        shutdownReport = new ShutdownReport(abandonedInFlight == 0, abandonedInFlight, abandonedQueued,
+                abandonedRetries, scheduledRemaining, Duration.ofNanos(System.nanoTime() - shutdownStartNanos));
+        if (shutdownReport.isDrained()) {
+            logger.info("NotificationService terminated: {}", shutdownReport);
+        } else {
+            logger.warn("NotificationService terminated before draining: {}", shutdownReport);
+        }
+        return shutdownReport;
+    }
+
+    public boolean isShutdown() {
+        return shuttingDown;
+    }
+
+    public synchronized boolean isTerminated() {
+        return shutdownReport != null;
+    }
+
+    public List<QueueStats> getQueueStats() {
+        return dispatchQueue != null ? dispatchQueue.getStats() : List.of();
+    }
+
+    public Optional<RetryStats> getRetryStats() {
+        return Optional.ofNullable(retrier).map(Retrier::getStats);
+    }
+
+    public MetricsSnapshot getMetrics() {
+        return metrics.snapshot();
+    }
+
+    public Optional<IdempotencyStats> getIdempotencyStats() {
+        return Optional.ofNullable(idempotencyCache).map(IdempotencyCache::getStats);
+    }
+
+    public BatchResult sendAll(Collection<? extends Notification> notifications) {
+        Objects.requireNonNull(notifications, "Notifications cannot be null");
+        if (notifications.isEmpty()) {
+            return BatchResult.empty();
+        }
+
+        Notification[] items = notifications.toArray(new Notification[0]);
+        for (Notification item : items) {
+            Objects.requireNonNull(item, "Notification cannot be null");
+        }
+
+        if (!admit()) {
+            NotificationResult[] failures = new NotificationResult[items.length];
+            for (int i = 0; i < items.length; i++) {
+                failures[i] = serviceShutdown(items[i]);
+            }
+            return BatchResult.of(items.length, 0, failures);
+        }
+        try {
+            return sendAll(items);
+        } finally {
+            release();
+        }
+    }
+
+    private BatchResult sendAll(Notification[] items) {
+        Map<String, int[]> partitions = partitionByChannelType(items);
+        logger.info("Sending batch of {} notification(s) across {} channel type(s)", items.length, partitions.size());
+
+        NotificationResult[] failures = new NotificationResult[items.length];
+        List<CompletableFuture<Integer>> dispatches = new ArrayList<>(partitions.size());
+        partitions.forEach((channelType, indexes) -> dispatches.add(CompletableFuture.supplyAsync(
+                () -> dispatchPartition(channelType, indexes, items, failures), executor)));
+
+        int successCount = 0;
+        for (CompletableFuture<Integer> dispatch : dispatches) {
+            successCount += dispatch.join();
+        }
+
+        BatchResult result = BatchResult.of(items.length, successCount, failures);
+        logger.info("Batch finished: {} succeeded, {} failed", result.getSuccessCount(), result.getFailureCount());
+        return result;
+    }
+
+    private Map<String, int[]> partitionByChannelType(Notification[] items) {
+        Map<String, int[]> counters = new HashMap<>();
+        for (Notification item : items) {
+            counters.computeIfAbsent(item.getChannelType(), channelType -> new int[1])[0]++;
+        }
+
+        Map<String, int[]> partitions = new HashMap<>();
+        counters.forEach((channelType, counter) -> {
+            partitions.put(channelType, new int[counter[0]]);
+            counter[0] = 0;
+        });
+        for (int i = 0; i < items.length; i++) {
+            String channelType = items[i].getChannelType();
+            partitions.get(channelType)[counters.get(channelType)[0]++] = i;
+        }
+        return partitions;
+    }
+
+    private int dispatchPartition(String channelType, int[] indexes, Notification[] items,
+                                  NotificationResult[] failures) {
+        long start = System.nanoTime();
+        int successCount = deliverPartition(channelType, indexes, items, failures);
+
+        long latency = System.nanoTime() - start;
+        NotificationResult success = null;
+        for (int index : indexes) {
+            NotificationResult failure = failures[index];
+            if (failure != null) {
+                metrics.recordResult(channelType, failure, latency);
+                audit(failure);
+            } else {
+                if (success == null) {
+                    success = NotificationResult.success(null, channelType, null);
+                }
+                metrics.recordResult(channelType, success, latency);
+            }
+        }
+        return successCount;
+    }
+
+    private int deliverPartition(String channelType, int[] indexes, Notification[] items,
+                                 NotificationResult[] failures) {
+        NotificationChannel channel = findChannel(items[indexes[0]]);
+        if (channel == null) {
+            logger.error("No channel found for notification type: {}", channelType);
+            NotificationResult failure = channelNotFound(channelType);
+            for (int index : indexes) {
+                failures[index] = failure;
+            }
+            return 0;
+        }
+
+        if (!channel.isReady()) {
+            logger.warn("Channel {} is not ready", channel.getChannelType());
+            NotificationResult failure = channelNotReady(channel, channelType);
+            for (int index : indexes) {
+                failures[index] = failure;
+            }
+            return 0;
+        }
+
+        List<Notification> accepted = new ArrayList<>(indexes.length);
+        int[] acceptedIndexes = new int[indexes.length];
+        for (int index : indexes) {
+            Notification notification = items[index];
+            if (Deadline.of(notification).isExpired()) {
+                failures[index] = deadlineExceeded(notification);
+                continue;
+            }
+            ValidationResult verdict = channel.validate(notification);
+            if (verdict.isValid()) {
+                acceptedIndexes[accepted.size()] = index;
+                accepted.add(notification);
+            } else {
+                failures[index] = validationFailure(notification, verdict);
+            }
+        }
+
+        CompletableFuture<NotificationResult>[] slots = null;
+        int[] duplicateIndexes = null;
+        List<CompletableFuture<NotificationResult>> duplicates = List.of();
+        if (idempotencyCache != null && !accepted.isEmpty()) {
+            slots = newSlots(items.length);
+            duplicateIndexes = new int[accepted.size()];
+            duplicates = new ArrayList<>();
+            accepted = claim(accepted, acceptedIndexes, slots, duplicateIndexes, duplicates);
+        }
+
+        int successCount;
+        try {
+            successCount = sendAccepted(channel, accepted, acceptedIndexes, slots, failures);
+        } finally {
+            if (slots != null) {
+                settle(slots, indexes, items, failures);
+            }
+        }
+
+        for (int i = 0; i < duplicates.size(); i++) {
+            int index = duplicateIndexes[i];
+            NotificationResult result;
+            try {
+                result = duplicates.get(i).join();
+            } catch (CompletionException e) {
+                result = unexpectedFailure(items[index], e.getCause());
+            }
+            if (result.isSuccess()) {
+                successCount++;
+            } else {
+                failures[index] = result;
+            }
+        }
+        logger.debug("Channel {} delivered {}/{} notification(s)", channelType, successCount, indexes.length);
+        return successCount;
+    }
+
+    private int sendAccepted(NotificationChannel channel, List<Notification> accepted, int[] acceptedIndexes,
+                             CompletableFuture<NotificationResult>[] slots, NotificationResult[] failures) {
+        long[] outboxEntries = null;
+        if (outbox != null && !accepted.isEmpty()) {
+            outboxEntries = new long[accepted.size()];
+            accepted = persist(accepted, acceptedIndexes, outboxEntries, failures);
+        }
+
+        int successCount = 0;
+        if (!accepted.isEmpty()) {
+            List<NotificationResult> results;
+            try {
+                results = channel.sendBatch(accepted);
+            } catch (Exception e) {
+                logger.error("Unexpected error sending notification batch", e);
+                NotificationResult failure = unexpectedFailure(accepted.get(0), e);
+                results = Collections.nCopies(accepted.size(), failure);
+            } finally {
+                if (outboxEntries != null) {
+                    for (int i = 0; i < accepted.size(); i++) {
+                        if (outboxEntries[i] != NO_OUTBOX_ENTRY) {
+                            outbox.complete(outboxEntries[i]);
+                        }
+                    }
+                }
+            }
+
+            for (int i = 0; i < results.size(); i++) {
+                NotificationResult result = results.get(i);
+                if (slots != null) {
+                    slots[acceptedIndexes[i]].complete(result);
+                }
+                if (result.isSuccess()) {
+                    audit(result);
+                    successCount++;
+                } else {
+                    failures[acceptedIndexes[i]] = result;
+                }
+            }
+        }
+        return successCount;
+    }
+
+    // Each item claims its idempotency key with a slot that the batch result fills in. An
+    // item whose key is already taken, by another send or by an earlier item of this batch,
+    // is left out and reports that send's result instead.
+    private List<Notification> claim(List<Notification> accepted, int[] acceptedIndexes,
+                                     CompletableFuture<NotificationResult>[] slots, int[] duplicateIndexes,
+                                     List<CompletableFuture<NotificationResult>> duplicates) {
+        List<Notification> claimed = new ArrayList<>(accepted.size());
+        for (int i = 0; i < accepted.size(); i++) {
+            Notification notification = accepted.get(i);
+            int index = acceptedIndexes[i];
+            CompletableFuture<NotificationResult> shared = idempotencyCache.execute(notification, () -> {
+                slots[index] = new CompletableFuture<>();
+                return slots[index];
+            });
+            if (slots[index] != null) {
+                acceptedIndexes[claimed.size()] = index;
+                claimed.add(notification);
+            } else {
+                duplicateIndexes[duplicates.size()] = index;
+                duplicates.add(shared);
+            }
         }
+        return claimed;
+    }
+
+    // Every claimed slot must complete, or duplicates waiting on it would hang. Items that
+    // never reached sendBatch already carry their failure.
+    private void settle(CompletableFuture<NotificationResult>[] slots, int[] indexes, Notification[] items,
+                        NotificationResult[] failures) {
+        for (int index : indexes) {
+            CompletableFuture<NotificationResult> slot = slots[index];
+            if (slot != null && !slot.isDone()) {
+                slot.complete(failures[index] != null
+                        ? failures[index]
+                        : unexpectedFailure(items[index], new IllegalStateException("Batch was aborted")));
+            }
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static CompletableFuture<NotificationResult>[] newSlots(int size) {
+        return (CompletableFuture<NotificationResult>[]) new CompletableFuture<?>[size];
+    }
+
+    // All appends are issued before any is awaited, so the partition shares one group
+    // commit. Whatever could not be written fails with OUTBOX_ERROR and stays out of the
+    // batch; the survivors are compacted to the front of acceptedIndexes and entries.
+    private List<Notification> persist(List<Notification> accepted, int[] acceptedIndexes, long[] entries,
+                                       NotificationResult[] failures) {
+        List<CompletableFuture<Long>> appends = new ArrayList<>(accepted.size());
+        for (Notification notification : accepted) {
+            appends.add(outbox.supports(notification)
+                    ? outbox.append(notification)
+                    : CompletableFuture.completedFuture(NO_OUTBOX_ENTRY));
+        }
+
+        List<Notification> persisted = new ArrayList<>(accepted.size());
+        for (int i = 0; i < accepted.size(); i++) {
+            Notification notification = accepted.get(i);
+            try {
+                entries[persisted.size()] = appends.get(i).join();
+                acceptedIndexes[persisted.size()] = acceptedIndexes[i];
+                persisted.add(notification);
+            } catch (CompletionException e) {
+                logger.error("Failed to persist notification in the outbox", e.getCause());
+                failures[acceptedIndexes[i]] = outboxFailure(notification, e.getCause());
+            }
+        }
+        return persisted;
     }
 
     private NotificationChannel findChannel(Notification notification) {
-        return channels.stream()
-                .filter(channel -> channel.canHandle(notification))
-                .findFirst()
-                .orElse(null);
+        return channels.resolve(notification);
+    }
+
+    private NotificationResult validationFailure(Notification notification, ValidationResult verdict) {
+        return NotificationResult.failure(
+                verdict != null
+                        ? verdict.getErrorMessage().orElse("Notification validation failed")
+                        : "Notification validation failed",
+                "VALIDATION_ERROR",
+                notification.getChannelType(),
+                "unknown"
+        );
+    }
+
+    private NotificationResult channelNotFound(String channelType) {
+        return NotificationResult.failure(
+                String.format("No channel configured for type: %s", channelType),
+                "CHANNEL_NOT_FOUND",
+                channelType,
+                "unknown"
+        );
+    }
+
+    private NotificationResult channelNotReady(NotificationChannel channel, String channelType) {
+        return channel.getNotReadyResult().orElseGet(() -> NotificationResult.failure(
+                String.format("Channel %s is not ready", channel.getChannelType()),
+                "CHANNEL_NOT_READY",
+                channelType,
+                "unknown"
+        ));
+    }
+
+    private NotificationResult deadlineExceeded(Notification notification) {
+        return NotificationResult.failure(
+                "Deadline exceeded before sending",
+                "DEADLINE_EXCEEDED",
+                notification.getChannelType(),
+                "unknown"
+        );
+    }
+
+    private NotificationResult outboxFailure(Notification notification, Throwable error) {
+        return NotificationResult.failure(
+                String.format("Outbox error: %s", error.getMessage()),
+                "OUTBOX_ERROR",
+                notification.getChannelType(),
+                "unknown"
+        );
+    }
+
+    private NotificationResult serviceShutdown(Notification notification) {
+        return NotificationResult.failure(
+                "Notification service is shutting down",
+                "SERVICE_SHUTDOWN",
+                notification.getChannelType(),
+                "unknown"
+        );
+    }
+
+    private NotificationResult unexpectedFailure(Notification notification, Throwable e) {
+        return NotificationResult.failure(
+                String.format("Unexpected error: %s", e.getMessage()),
+                "UNEXPECTED_ERROR",
+                notification.getChannelType(),
+                "unknown"
+        );
+    }
+
+    public void addChannel(NotificationChannel channel) {
+        channels.register(channel);
+        logger.info("Channel {} added", channel.getChannelType());
+    }
+
+    public boolean removeChannel(NotificationChannel channel) {
+        boolean removed = channels.unregister(channel);
+        if (removed) {
+            logger.info("Channel {} removed", channel.getChannelType());
+        }
+        return removed;
     }
 
     public List<NotificationChannel> getChannels() {
-        return Collections.unmodifiableList(channels);
+        return channels.channels();
     }
 
     public int getChannelCount() {
-        return channels.size();
+        return channels.channels().size();
     }
 
     public static class Builder {
         private final List<NotificationChannel> channels = new ArrayList<>();
+        private Executor executor;
+        private DispatchQueueConfig dispatchQueueConfig;
+        private Outbox outbox;
+        private RetryPolicy retryPolicy;
+        private IdempotencyConfig idempotencyConfig;
+        private MetricsSink metricsSink;
+        private Duration metricsInterval;
+        private NotificationScheduler scheduler;
+        private AuditSink auditSink;
 
         public Builder addChannel(NotificationChannel channel) {
             Objects.requireNonNull(channel, "Channel cannot be null");
@@ -112,11 +866,57 @@ public final class NotificationService {
             return this;
         }
 
+        public Builder executor(Executor executor) {
+            this.executor = Objects.requireNonNull(executor, "Executor cannot be null");
+            return this;
+        }
+
+        public Builder dispatchQueue(DispatchQueueConfig dispatchQueueConfig) {
+            this.dispatchQueueConfig = Objects.requireNonNull(dispatchQueueConfig, "DispatchQueueConfig cannot be null");
+            return this;
+        }
+
+        public Builder outbox(Outbox outbox) {
+            this.outbox = Objects.requireNonNull(outbox, "Outbox cannot be null");
+            return this;
+        }
+
+        public Builder retryPolicy(RetryPolicy retryPolicy) {
+            this.retryPolicy = Objects.requireNonNull(retryPolicy, "RetryPolicy cannot be null");
+            return this;
+        }
+
+        public Builder idempotency(IdempotencyConfig idempotencyConfig) {
+            this.idempotencyConfig = Objects.requireNonNull(idempotencyConfig, "IdempotencyConfig cannot be null");
+            return this;
+        }
+
+        public Builder metricsSink(MetricsSink metricsSink, Duration interval) {
+            this.metricsSink = Objects.requireNonNull(metricsSink, "MetricsSink cannot be null");
+            this.metricsInterval = Objects.requireNonNull(interval, "Interval cannot be null");
+            return this;
+        }
+
+        public Builder scheduler(NotificationScheduler scheduler) {
+            this.scheduler = Objects.requireNonNull(scheduler, "NotificationScheduler cannot be null");
+            return this;
+        }
+
+        public Builder auditSink(AuditSink auditSink) {
+            this.auditSink = Objects.requireNonNull(auditSink, "AuditSink cannot be null");
+            return this;
+        }
+
         public NotificationService build() {
             if (channels.isEmpty()) {
                 throw new IllegalStateException("At least one channel must be configured");
             }
-            return new NotificationService(this);
+            NotificationService service = new NotificationService(this);
+            service.replayOutbox();
+            if (scheduler != null) {
+                scheduler.start(service::dispatchScheduled, service.executor);
+            }
+            return service;
         }
     }
 }
@@ -0,0 +1,150 @@
+package com.notifications.core;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.BiConsumer;
+
+// Immutable provider metadata stored as alternating keys and values in one array.
+// Results carry a handful of entries, so a linear scan beats hashing, and the map is
+// built once by the provider and shared by the result instead of being copied twice.
+public final class ProviderMetadata extends AbstractMap<String, Object> {
+
+    private static final ProviderMetadata EMPTY = new ProviderMetadata(new Object[0]);
+    private static final int MIN_STATUS_CODE = 100;
+    private static final Integer[] STATUS_CODES = new Integer[500];
+
+    static {
+        for (int i = 0; i < STATUS_CODES.length; i++) {
+            STATUS_CODES[i] = MIN_STATUS_CODE + i;
+        }
+    }
+
+    private final Object[] entries;
+
+    private ProviderMetadata(Object[] entries) {
+        this.entries = entries;
+    }
+
+    public static ProviderMetadata empty() {
+        return EMPTY;
+    }
+
+    public static ProviderMetadata of(String key, Object value) {
+        return new ProviderMetadata(new Object[]{key, value});
+    }
+
+    public static ProviderMetadata of(String key1, Object value1, String key2, Object value2) {
+        requireDistinct(key1, key2);
+        return new ProviderMetadata(new Object[]{key1, value1, key2, value2});
+    }
+
+    public static ProviderMetadata of(String key1, Object value1, String key2, Object value2,
+                                      String key3, Object value3) {
+        requireDistinct(key1, key2);
+        requireDistinct(key1, key3);
+        requireDistinct(key2, key3);
+        return new ProviderMetadata(new Object[]{key1, value1, key2, value2, key3, value3});
+    }
+
+    public static ProviderMetadata copyOf(Map<String, ?> metadata) {
+        if (metadata == null || metadata.isEmpty()) {
+            return EMPTY;
+        }
+        if (metadata instanceof ProviderMetadata compact) {
+            return compact;
+        }
+        Object[] entries = new Object[metadata.size() * 2];
+        int i = 0;
+        for (Map.Entry<String, ?> entry : metadata.entrySet()) {
+            entries[i++] = entry.getKey();
+            entries[i++] = entry.getValue();
+        }
+        return new ProviderMetadata(entries);
+    }
+
+    // HTTP status codes are boxed from a shared table, since Integer.valueOf only caches up to 127.
+    public static Integer statusCode(int code) {
+        int index = code - MIN_STATUS_CODE;
+        return index >= 0 && index < STATUS_CODES.length ? STATUS_CODES[index] : Integer.valueOf(code);
+    }
+
+    private static void requireDistinct(String key, String other) {
+        if (Objects.equals(key, other)) {
+            throw new IllegalArgumentException("Duplicate metadata key: " + key);
+        }
+    }
+
+    @Override
+    public Object get(Object key) {
+        for (int i = 0; i < entries.length; i += 2) {
+            if (Objects.equals(entries[i], key)) {
+                return entries[i + 1];
+            }
+        }
+        return null;
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        for (int i = 0; i < entries.length; i += 2) {
+            if (Objects.equals(entries[i], key)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public int size() {
+        return entries.length / 2;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return entries.length == 0;
+    }
+
+    @Override
+    public void forEach(BiConsumer<? super String, ? super Object> action) {
+        for (int i = 0; i < entries.length; i += 2) {
+            action.accept((String) entries[i], entries[i + 1]);
+        }
+    }
+
+    @Override
+    public Set<Entry<String, Object>> entrySet() {
+        return new AbstractSet<>() {
+            @Override
+            public Iterator<Entry<String, Object>> iterator() {
+                return new Iterator<>() {
+                    private int next;
+
+                    @Override
+                    public boolean hasNext() {
+                        return next < entries.length;
+                    }
+
+                    @Override
+                    public Entry<String, Object> next() {
+                        if (next >= entries.length) {
+                            throw new NoSuchElementException();
+                        }
+                        Entry<String, Object> entry = new SimpleImmutableEntry<>((String) entries[next], entries[next + 1]);
+                        next += 2;
+                        return entry;
+                    }
+                };
+            }
+
+            @Override
+            public int size() {
+                return entries.length / 2;
+            }
+        };
+    }
+}
@@ -0,0 +1,53 @@
+package com.notifications.core;
+
+import java.time.Duration;
+
+public final class ShutdownReport {
+
+    private final boolean drained;
+    private final long abandonedInFlight;
+    private final int abandonedQueued;
+    private final int abandonedRetries;
+    private final int scheduledRemaining;
+    private final Duration elapsed;
+
+    public ShutdownReport(boolean drained, long abandonedInFlight, int abandonedQueued, int abandonedRetries,
+                          int scheduledRemaining, Duration elapsed) {
+        this.drained = drained;
+        this.abandonedInFlight = abandonedInFlight;
+        this.abandonedQueued = abandonedQueued;
+        this.abandonedRetries = abandonedRetries;
+        this.scheduledRemaining = scheduledRemaining;
+        this.elapsed = elapsed;
+    }
+
+    public boolean isDrained() {
+        return drained;
+    }
+
+    public long getAbandonedInFlight() {
+        return abandonedInFlight;
+    }
+
+    public int getAbandonedQueued() {
+        return abandonedQueued;
+    }
+
+    public int getAbandonedRetries() {
+        return abandonedRetries;
+    }
+
+    public int getScheduledRemaining() {
+        return scheduledRemaining;
+    }
+
+    public Duration getElapsed() {
+        return elapsed;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("ShutdownReport{drained=%s, abandonedInFlight=%d, abandonedQueued=%d, abandonedRetries=%d, scheduledRemaining=%d, elapsedMillis=%d}",
+                drained, abandonedInFlight, abandonedQueued, abandonedRetries, scheduledRemaining, elapsed.toMillis());
+    }
+}
@@ -0,0 +1,120 @@
+package com.notifications.idempotency;
+
+import com.notifications.core.Notification;
+import com.notifications.core.NotificationResult;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Objects;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+// Every entry lives for the same TTL, so insertion order is also expiry order and a
+// FIFO queue is enough to evict both expired entries and the overflow.
+public final class IdempotencyCache {
+
+    private static final Logger logger = LoggerFactory.getLogger(IdempotencyCache.class);
+
+    private final long ttlNanos;
+    private final int maxEntries;
+    private final LongSupplier clock;
+    private final ConcurrentHashMap<IdempotencyKey, Entry> entries = new ConcurrentHashMap<>();
+    private final Queue<Entry> insertionOrder = new ConcurrentLinkedQueue<>();
+    private final AtomicBoolean evicting = new AtomicBoolean();
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    public IdempotencyCache(IdempotencyConfig config) {
+        this(config, System::nanoTime);
+    }
+
+    IdempotencyCache(IdempotencyConfig config, LongSupplier clock) {
+        Objects.requireNonNull(config, "IdempotencyConfig cannot be null");
+        this.ttlNanos = config.getTtl().toNanos();
+        this.maxEntries = config.getMaxEntries();
+        this.clock = clock;
+    }
+
+    public CompletableFuture<NotificationResult> execute(Notification notification,
+                                                         Supplier<CompletableFuture<NotificationResult>> send) {
+        IdempotencyKey key = IdempotencyKey.of(notification);
+        long now = clock.getAsLong();
+        Entry candidate = new Entry(key, now + ttlNanos);
+
+        Entry winner = entries.compute(key, (k, existing) ->
+                existing != null && existing.expiresAt - now > 0 ? existing : candidate);
+        if (winner != candidate) {
+            hits.increment();
+            logger.info("Suppressed duplicate {} notification (key {})", notification.getChannelType(), key);
+            return winner.result;
+        }
+
+        misses.increment();
+        insertionOrder.add(candidate);
+        evict(now);
+
+        CompletableFuture<NotificationResult> pending;
+        try {
+            pending = send.get();
+        } catch (RuntimeException e) {
+            entries.remove(key, candidate);
+            candidate.result.completeExceptionally(e);
+            return candidate.result;
+        }
+
+        pending.whenComplete((result, error) -> {
+            // Failures are forgotten so that a later attempt can still go through.
+            if (error != null || result.isFailure()) {
+                entries.remove(key, candidate);
+            }
+            if (error != null) {
+                candidate.result.completeExceptionally(error);
+            } else {
+                candidate.result.complete(result);
+            }
+        });
+        return candidate.result;
+    }
+
+    public IdempotencyStats getStats() {
+        return new IdempotencyStats(hits.sum(), misses.sum(), entries.size());
+    }
+
+    // A single thread evicts at a time; the others skip instead of waiting.
+    private void evict(long now) {
+        if (!evicting.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            Entry oldest;
+            while ((oldest = insertionOrder.peek()) != null) {
+                boolean expired = oldest.expiresAt - now <= 0;
+                if (!expired && entries.size() <= maxEntries) {
+                    return;
+                }
+                insertionOrder.poll();
+                entries.remove(oldest.key, oldest);
+            }
+        } finally {
+            evicting.set(false);
+        }
+    }
+
+    private static final class Entry {
+        private final IdempotencyKey key;
+        private final long expiresAt;
+        private final CompletableFuture<NotificationResult> result = new CompletableFuture<>();
+
+        private Entry(IdempotencyKey key, long expiresAt) {
+            this.key = key;
+            this.expiresAt = expiresAt;
+        }
+    }
+}
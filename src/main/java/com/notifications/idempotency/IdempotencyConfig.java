@@ -0,0 +1,23 @@
+package com.notifications.idempotency;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.Duration;
+
+@Getter
+@Builder
+public final class IdempotencyConfig {
+
+    private final Duration ttl;
+    private final int maxEntries;
+
+    public IdempotencyConfig(Duration ttl, int maxEntries) {
+        this.ttl = ttl != null ? ttl : Duration.ofMinutes(10);
+        this.maxEntries = maxEntries > 0 ? maxEntries : 100_000;
+    }
+
+    public static IdempotencyConfig defaults() {
+        return IdempotencyConfig.builder().build();
+    }
+}
@@ -0,0 +1,70 @@
+package com.notifications.idempotency;
+
+import com.notifications.channels.email.EmailNotification;
+import com.notifications.core.Notification;
+import com.notifications.model.NotificationContent;
+import com.notifications.model.NotificationMetadata;
+import com.notifications.model.Recipient;
+
+import java.util.List;
+
+final class IdempotencyKey {
+
+    private static final long SEED = 0x9747b28cL;
+
+    private final long high;
+    private final long low;
+
+    IdempotencyKey(long high, long low) {
+        this.high = high;
+        this.low = low;
+    }
+
+    static IdempotencyKey of(Notification notification) {
+        Murmur3Hasher hasher = new Murmur3Hasher(SEED).putString(notification.getChannelType());
+
+        String explicitKey = notification.getMetadata().get(NotificationMetadata.IDEMPOTENCY_KEY);
+        if (explicitKey != null) {
+            return hasher.putBoolean(true).putString(explicitKey).hash();
+        }
+
+        hasher.putBoolean(false).putInt(notification.getRecipients().size());
+        for (Recipient recipient : notification.getRecipients()) {
+            hasher.putString(recipient.getAddress());
+        }
+        // Copies are recipients too: the same email with a different CC is a different send.
+        if (notification instanceof EmailNotification email) {
+            putAll(hasher, email.getCcRecipients());
+            putAll(hasher, email.getBccRecipients());
+        }
+        NotificationContent content = notification.getContent();
+        return hasher.putString(content.getSubject())
+                .putString(content.getBody())
+                .putBoolean(content.isHtml())
+                .hash();
+    }
+
+    private static void putAll(Murmur3Hasher hasher, List<String> addresses) {
+        hasher.putInt(addresses.size());
+        for (String address : addresses) {
+            hasher.putString(address);
+        }
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof IdempotencyKey that)) return false;
+        return high == that.high && low == that.low;
+    }
+
+    @Override
+    public int hashCode() {
+        return (int) (high ^ (high >>> 32));
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%016x%016x", high, low);
+    }
+}
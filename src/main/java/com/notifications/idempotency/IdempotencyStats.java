@@ -0,0 +1,31 @@
+package com.notifications.idempotency;
+
+public final class IdempotencyStats {
+
+    private final long hits;
+    private final long misses;
+    private final int size;
+
+    public IdempotencyStats(long hits, long misses, int size) {
+        this.hits = hits;
+        this.misses = misses;
+        this.size = size;
+    }
+
+    public long getHits() {
+        return hits;
+    }
+
+    public long getMisses() {
+        return misses;
+    }
+
+    public int getSize() {
+        return size;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("IdempotencyStats{hits=%d, misses=%d, size=%d}", hits, misses, size);
+    }
+}
@@ -0,0 +1,112 @@
+package com.notifications.idempotency;
+
+// Streaming MurmurHash3 x64 128-bit over the UTF-16 code units of the fields fed in,
+// so a key is hashed without building an intermediate byte array.
+final class Murmur3Hasher {
+
+    private static final long C1 = 0x87c37b91114253d5L;
+    private static final long C2 = 0x4cf5ad432745937fL;
+
+    private long h1;
+    private long h2;
+    private long k1;
+    private long k2;
+    private int buffered;
+    private long length;
+
+    Murmur3Hasher(long seed) {
+        this.h1 = seed;
+        this.h2 = seed;
+    }
+
+    Murmur3Hasher putString(String value) {
+        if (value == null) {
+            return putInt(-1);
+        }
+        putInt(value.length());
+        for (int i = 0; i < value.length(); i++) {
+            putChar(value.charAt(i));
+        }
+        return this;
+    }
+
+    Murmur3Hasher putInt(int value) {
+        putChar((char) value);
+        putChar((char) (value >>> 16));
+        return this;
+    }
+
+    Murmur3Hasher putBoolean(boolean value) {
+        putChar(value ? (char) 1 : (char) 0);
+        return this;
+    }
+
+    Murmur3Hasher putChar(char value) {
+        if (buffered < 8) {
+            k1 |= (long) value << (buffered * 8);
+        } else {
+            k2 |= (long) value << ((buffered - 8) * 8);
+        }
+        buffered += 2;
+        length += 2;
+        if (buffered == 16) {
+            mixBlock(k1, k2);
+            k1 = 0;
+            k2 = 0;
+            buffered = 0;
+        }
+        return this;
+    }
+
+    IdempotencyKey hash() {
+        if (buffered > 8) {
+            h2 ^= mixK2(k2);
+        }
+        if (buffered > 0) {
+            h1 ^= mixK1(k1);
+        }
+
+        h1 ^= length;
+        h2 ^= length;
+        h1 += h2;
+        h2 += h1;
+        h1 = fmix64(h1);
+        h2 = fmix64(h2);
+        h1 += h2;
+        h2 += h1;
+        return new IdempotencyKey(h1, h2);
+    }
+
+    private void mixBlock(long block1, long block2) {
+        h1 ^= mixK1(block1);
+        h1 = Long.rotateLeft(h1, 27);
+        h1 += h2;
+        h1 = h1 * 5 + 0x52dce729;
+
+        h2 ^= mixK2(block2);
+        h2 = Long.rotateLeft(h2, 31);
+        h2 += h1;
+        h2 = h2 * 5 + 0x38495ab5;
+    }
+
+    private static long mixK1(long k) {
+        k *= C1;
+        k = Long.rotateLeft(k, 31);
+        return k * C2;
+    }
+
+    private static long mixK2(long k) {
+        k *= C2;
+        k = Long.rotateLeft(k, 33);
+        return k * C1;
+    }
+
+    private static long fmix64(long k) {
+        k ^= k >>> 33;
+        k *= 0xff51afd7ed558ccdL;
+        k ^= k >>> 33;
+        k *= 0xc4ceb9fe1a85ec53L;
+        k ^= k >>> 33;
+        return k;
+    }
+}
@@ -0,0 +1,31 @@
+package com.notifications.metrics;
+
+public final class LatencySnapshot {
+
+    private final String channel;
+    private final String provider;
+    private final HistogramSnapshot histogram;
+
+    public LatencySnapshot(String channel, String provider, HistogramSnapshot histogram) {
+        this.channel = channel;
+        this.provider = provider;
+        this.histogram = histogram;
+    }
+
+    public String getChannel() {
+        return channel;
+    }
+
+    public String getProvider() {
+        return provider;
+    }
+
+    public HistogramSnapshot getHistogram() {
+        return histogram;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("LatencySnapshot{channel='%s', provider='%s', %s}", channel, provider, histogram);
+    }
+}
@@ -0,0 +1,126 @@
+package com.notifications.metrics;
+
+import com.notifications.core.NotificationResult;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+// Recording only reads from maps that already hold the key, so after the first
+// notification for a channel/provider/code nothing on the hot path allocates.
+public final class MetricsRegistry {
+
+    private static final int MAX_STATUS_CODE = 599;
+    private static final String UNKNOWN = "unknown";
+
+    private final ConcurrentHashMap<String, ChannelMetrics> channels = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<String, LongAdder> errorCodes = new ConcurrentHashMap<>();
+    private final LongAdder[] statusCodes = new LongAdder[MAX_STATUS_CODE + 1];
+    private final ConcurrentHashMap<String, LogLinearHistogram> priorityLatencies = new ConcurrentHashMap<>();
+
+    public MetricsRegistry() {
+        for (int i = 0; i < statusCodes.length; i++) {
+            statusCodes[i] = new LongAdder();
+        }
+    }
+
+    public void recordStart(String channelType) {
+        channel(channelType).inFlight.increment();
+    }
+
+    public void recordCompletion(String channelType, NotificationResult result, long latencyNanos) {
+        ChannelMetrics metrics = channel(channelType);
+        metrics.inFlight.decrement();
+        if (result != null) {
+            record(metrics, result, latencyNanos);
+        }
+    }
+
+    public void recordResult(String channelType, NotificationResult result, long latencyNanos) {
+        record(channel(channelType), result, latencyNanos);
+    }
+
+    // End-to-end latency of queued notifications, from submit to result, per priority class.
+    public void recordPriority(String priority, long latencyNanos) {
+        LogLinearHistogram histogram = priorityLatencies.get(priority);
+        if (histogram == null) {
+            histogram = priorityLatencies.computeIfAbsent(priority, name -> new LogLinearHistogram());
+        }
+        histogram.record(latencyNanos);
+    }
+
+    public MetricsSnapshot snapshot() {
+        List<LatencySnapshot> latencies = new ArrayList<>();
+        Map<String, Long> inFlight = new HashMap<>();
+        Map<String, Long> validationFailures = new HashMap<>();
+        channels.forEach((channelType, metrics) -> {
+            metrics.latencies.forEach((provider, histogram) ->
+                    latencies.add(new LatencySnapshot(channelType, provider, histogram.snapshot())));
+            inFlight.put(channelType, metrics.inFlight.sum());
+            validationFailures.put(channelType, metrics.validationFailures.sum());
+        });
+
+        Map<String, Long> errors = new HashMap<>();
+        errorCodes.forEach((code, counter) -> errors.put(code, counter.sum()));
+
+        Map<Integer, Long> statuses = new HashMap<>();
+        for (int code = 0; code < statusCodes.length; code++) {
+            long count = statusCodes[code].sum();
+            if (count > 0) {
+                statuses.put(code, count);
+            }
+        }
+        Map<String, HistogramSnapshot> priorities = new HashMap<>();
+        priorityLatencies.forEach((priority, histogram) -> priorities.put(priority, histogram.snapshot()));
+        return new MetricsSnapshot(Instant.now(), latencies, errors, statuses, inFlight, validationFailures,
+                priorities);
+    }
+
+    public void publishTo(MetricsSink sink) {
+        Objects.requireNonNull(sink, "MetricsSink cannot be null").publish(snapshot());
+    }
+
+    private void record(ChannelMetrics metrics, NotificationResult result, long latencyNanos) {
+        metrics.latency(result.getProvider()).record(latencyNanos);
+
+        int status = result.getStatusCode();
+        if (status >= 0 && status <= MAX_STATUS_CODE) {
+            statusCodes[status].increment();
+        }
+
+        String errorCode = result.getErrorCode().orElse(null);
+        if (errorCode != null) {
+            LongAdder counter = errorCodes.get(errorCode);
+            if (counter == null) {
+                counter = errorCodes.computeIfAbsent(errorCode, code -> new LongAdder());
+            }
+            counter.increment();
+            if ("VALIDATION_ERROR".equals(errorCode)) {
+                metrics.validationFailures.increment();
+            }
+        }
+    }
+
+    private ChannelMetrics channel(String channelType) {
+        String key = channelType != null ? channelType : UNKNOWN;
+        ChannelMetrics metrics = channels.get(key);
+        return metrics != null ? metrics : channels.computeIfAbsent(key, type -> new ChannelMetrics());
+    }
+
+    private static final class ChannelMetrics {
+        private final ConcurrentHashMap<String, LogLinearHistogram> latencies = new ConcurrentHashMap<>();
+        private final LongAdder inFlight = new LongAdder();
+        private final LongAdder validationFailures = new LongAdder();
+
+        private LogLinearHistogram latency(String provider) {
+            String key = provider != null ? provider : UNKNOWN;
+            LogLinearHistogram histogram = latencies.get(key);
+            return histogram != null ? histogram : latencies.computeIfAbsent(key, name -> new LogLinearHistogram());
+        }
+    }
+}
@@ -0,0 +1,62 @@
+package com.notifications.metrics;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.util.Objects;
+import java.util.concurrent.locks.LockSupport;
+
+public final class MetricsReporter implements AutoCloseable {
+
+    private static final Logger logger = LoggerFactory.getLogger(MetricsReporter.class);
+
+    private final MetricsRegistry registry;
+    private final MetricsSink sink;
+    private final long intervalNanos;
+    private final Thread thread;
+    private volatile boolean running = true;
+
+    public MetricsReporter(MetricsRegistry registry, MetricsSink sink, Duration interval) {
+        this.registry = Objects.requireNonNull(registry, "MetricsRegistry cannot be null");
+        this.sink = Objects.requireNonNull(sink, "MetricsSink cannot be null");
+        this.intervalNanos = Objects.requireNonNull(interval, "Interval cannot be null").toNanos();
+        if (intervalNanos <= 0) {
+            throw new IllegalArgumentException("Interval must be positive");
+        }
+        this.thread = Thread.ofPlatform().name("notification-metrics-reporter").daemon(true).start(this::run);
+    }
+
+    @Override
+    public void close() {
+        running = false;
+        LockSupport.unpark(thread);
+        try {
+            thread.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        publish();
+    }
+
+    private void run() {
+        long next = System.nanoTime() + intervalNanos;
+        while (running) {
+            long remaining = next - System.nanoTime();
+            if (remaining > 0) {
+                LockSupport.parkNanos(remaining);
+                continue;
+            }
+            publish();
+            next += intervalNanos;
+        }
+    }
+
+    private void publish() {
+        try {
+            registry.publishTo(sink);
+        } catch (RuntimeException e) {
+            logger.warn("MetricsSink failed to publish snapshot", e);
+        }
+    }
+}
@@ -0,0 +1,6 @@
+package com.notifications.metrics;
+
+public interface MetricsSink {
+
+    void publish(MetricsSnapshot snapshot);
+}
@@ -0,0 +1,62 @@
+package com.notifications.metrics;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+
+public final class MetricsSnapshot {
+
+    private final Instant timestamp;
+    private final List<LatencySnapshot> latencies;
+    private final Map<String, Long> errorCodes;
+    private final Map<Integer, Long> statusCodes;
+    private final Map<String, Long> inFlight;
+    private final Map<String, Long> validationFailures;
+    private final Map<String, HistogramSnapshot> priorityLatencies;
+
+    public MetricsSnapshot(Instant timestamp, List<LatencySnapshot> latencies, Map<String, Long> errorCodes,
+                           Map<Integer, Long> statusCodes, Map<String, Long> inFlight,
+                           Map<String, Long> validationFailures, Map<String, HistogramSnapshot> priorityLatencies) {
+        this.timestamp = timestamp;
+        this.latencies = List.copyOf(latencies);
+        this.errorCodes = Map.copyOf(errorCodes);
+        this.statusCodes = Map.copyOf(statusCodes);
+        this.inFlight = Map.copyOf(inFlight);
+        this.validationFailures = Map.copyOf(validationFailures);
+        this.priorityLatencies = Map.copyOf(priorityLatencies);
+    }
+
+    public Instant getTimestamp() {
+        return timestamp;
+    }
+
+    public List<LatencySnapshot> getLatencies() {
+        return latencies;
+    }
+
+    public Map<String, Long> getErrorCodes() {
+        return errorCodes;
+    }
+
+    public Map<Integer, Long> getStatusCodes() {
+        return statusCodes;
+    }
+
+    public Map<String, Long> getInFlight() {
+        return inFlight;
+    }
+
+    public Map<String, Long> getValidationFailures() {
+        return validationFailures;
+    }
+
+    public Map<String, HistogramSnapshot> getPriorityLatencies() {
+        return priorityLatencies;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("MetricsSnapshot{timestamp=%s, latencies=%s, errorCodes=%s, statusCodes=%s, inFlight=%s, validationFailures=%s, priorityLatencies=%s}",
+                timestamp, latencies, errorCodes, statusCodes, inFlight, validationFailures, priorityLatencies);
+    }
+}
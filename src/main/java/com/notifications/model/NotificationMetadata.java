@@ -6,6 +6,11 @@ import java.util.Map;
 import java.util.Objects;
 
 public final class NotificationMetadata {
+
+    public static final String IDEMPOTENCY_KEY = "idempotency_key";
+    public static final String PRIORITY = "priority";
+    public static final String TENANT_ID = "tenant_id";
+    public static final String DEADLINE = "deadline";
     
     private final Map<String, String> properties;
 
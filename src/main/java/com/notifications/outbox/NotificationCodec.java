@@ -0,0 +1,174 @@
+package com.notifications.outbox;
+
+import com.notifications.channels.email.EmailNotification;
+import com.notifications.channels.push.PushNotification;
+import com.notifications.channels.sms.SmsNotification;
+import com.notifications.core.Notification;
+import com.notifications.model.NotificationContent;
+import com.notifications.model.NotificationMetadata;
+import com.notifications.model.Recipient;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+public final class NotificationCodec {
+
+    private static final byte VERSION = 1;
+    private static final byte EMAIL = 1;
+    private static final byte SMS = 2;
+    private static final byte PUSH = 3;
+
+    private NotificationCodec() {
+    }
+
+    public static boolean supports(Notification notification) {
+        return notification instanceof EmailNotification
+                || notification instanceof SmsNotification
+                || notification instanceof PushNotification;
+    }
+
+    public static byte[] encode(Notification notification) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(256);
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            out.writeByte(VERSION);
+            out.writeByte(typeOf(notification));
+
+            out.writeInt(notification.getRecipients().size());
+            for (Recipient recipient : notification.getRecipients()) {
+                out.writeUTF(recipient.getAddress());
+                writeNullable(out, recipient.getName());
+            }
+
+            NotificationContent content = notification.getContent();
+            writeLongString(out, content.getSubject());
+            writeLongString(out, content.getBody());
+            out.writeBoolean(content.isHtml());
+
+            Map<String, String> metadata = notification.getMetadata().getAll();
+            out.writeInt(metadata.size());
+            for (Map.Entry<String, String> entry : metadata.entrySet()) {
+                out.writeUTF(entry.getKey());
+                writeLongString(out, entry.getValue());
+            }
+
+            if (notification instanceof EmailNotification email) {
+                writeStrings(out, email.getCcRecipients());
+                writeStrings(out, email.getBccRecipients());
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to encode notification", e);
+        }
+        return bytes.toByteArray();
+    }
+
+    public static Notification decode(byte[] payload) {
+        try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(payload))) {
+            byte version = in.readByte();
+            if (version != VERSION) {
+                throw new IllegalArgumentException(String.format("Unsupported notification encoding version: %d", version));
+            }
+            byte type = in.readByte();
+
+            int recipientCount = in.readInt();
+            List<Recipient> recipients = new ArrayList<>(recipientCount);
+            for (int i = 0; i < recipientCount; i++) {
+                recipients.add(new Recipient(in.readUTF(), readNullable(in)));
+            }
+
+            NotificationContent content = new NotificationContent(readLongString(in), readLongString(in), in.readBoolean());
+
+            int metadataCount = in.readInt();
+            Map<String, String> properties = new HashMap<>();
+            for (int i = 0; i < metadataCount; i++) {
+                properties.put(in.readUTF(), readLongString(in));
+            }
+            NotificationMetadata metadata = NotificationMetadata.of(properties);
+
+            return switch (type) {
+                case EMAIL -> EmailNotification.builder()
+                        .recipients(recipients)
+                        .content(content)
+                        .metadata(metadata)
+                        .ccRecipients(readStrings(in))
+                        .bccRecipients(readStrings(in))
+                        .build();
+                case SMS -> SmsNotification.builder()
+                        .recipients(recipients)
+                        .content(content)
+                        .metadata(metadata)
+                        .build();
+                case PUSH -> PushNotification.builder()
+                        .recipients(recipients)
+                        .content(content)
+                        .metadata(metadata)
+                        .build();
+                default -> throw new IllegalArgumentException(String.format("Unknown notification type: %d", type));
+            };
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to decode notification", e);
+        }
+    }
+
+    private static byte typeOf(Notification notification) {
+        if (notification instanceof EmailNotification) {
+            return EMAIL;
+        }
+        if (notification instanceof SmsNotification) {
+            return SMS;
+        }
+        if (notification instanceof PushNotification) {
+            return PUSH;
+        }
+        throw new IllegalArgumentException(
+                String.format("Unsupported notification type: %s", notification.getClass().getName()));
+    }
+
+    private static void writeNullable(DataOutputStream out, String value) throws IOException {
+        out.writeBoolean(value != null);
+        if (value != null) {
+            out.writeUTF(value);
+        }
+    }
+
+    private static String readNullable(DataInputStream in) throws IOException {
+        return in.readBoolean() ? in.readUTF() : null;
+    }
+
+    // writeUTF is limited to 64KB, which is too small for HTML bodies.
+    private static void writeLongString(DataOutputStream out, String value) throws IOException {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    private static String readLongString(DataInputStream in) throws IOException {
+        byte[] bytes = new byte[in.readInt()];
+        in.readFully(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static void writeStrings(DataOutputStream out, List<String> values) throws IOException {
+        out.writeInt(values.size());
+        for (String value : values) {
+            out.writeUTF(value);
+        }
+    }
+
+    private static List<String> readStrings(DataInputStream in) throws IOException {
+        int count = in.readInt();
+        List<String> values = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            values.add(in.readUTF());
+        }
+        return values;
+    }
+}
@@ -0,0 +1,92 @@
+package com.notifications.outbox;
+
+import com.notifications.core.Notification;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+
+public final class Outbox implements Closeable {
+
+    private static final Logger logger = LoggerFactory.getLogger(Outbox.class);
+
+    private final WriteAheadLog log;
+
+    private Outbox(WriteAheadLog log) {
+        this.log = log;
+    }
+
+    public static Outbox open(OutboxConfig config) throws IOException {
+        Objects.requireNonNull(config, "OutboxConfig cannot be null");
+        return new Outbox(WriteAheadLog.open(config.getDirectory(), config.getSegmentSize(), config.getFlushInterval()));
+    }
+
+    public boolean supports(Notification notification) {
+        return NotificationCodec.supports(notification);
+    }
+
+    public CompletableFuture<Long> append(Notification notification) {
+        CompletableFuture<Long> durable = new CompletableFuture<>();
+        try {
+            log.append(NotificationCodec.encode(notification), durable);
+        } catch (Exception e) {
+            durable.completeExceptionally(e);
+        }
+        return durable;
+    }
+
+    public void complete(long id) {
+        try {
+            log.complete(id);
+        } catch (IOException e) {
+            logger.error("Failed to mark outbox entry {} as complete", id, e);
+        }
+    }
+
+    public List<PendingNotification> recover() {
+        Map<Long, byte[]> recovered = log.getRecovered();
+        List<PendingNotification> pending = new ArrayList<>(recovered.size());
+        recovered.forEach((id, payload) -> {
+            try {
+                pending.add(new PendingNotification(id, NotificationCodec.decode(payload)));
+            } catch (RuntimeException e) {
+                logger.error("Discarding unreadable outbox entry {}", id, e);
+                complete(id);
+            }
+        });
+        return pending;
+    }
+
+    public int getPendingCount() {
+        return log.getOutstandingCount();
+    }
+
+    @Override
+    public void close() throws IOException {
+        log.close();
+    }
+
+    public static final class PendingNotification {
+        private final long id;
+        private final Notification notification;
+
+        private PendingNotification(long id, Notification notification) {
+            this.id = id;
+            this.notification = notification;
+        }
+
+        public long getId() {
+            return id;
+        }
+
+        public Notification getNotification() {
+            return notification;
+        }
+    }
+}
@@ -0,0 +1,23 @@
+package com.notifications.outbox;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Objects;
+
+@Getter
+@Builder
+public final class OutboxConfig {
+
+    private final Path directory;
+    private final int segmentSize;
+    private final Duration flushInterval;
+
+    public OutboxConfig(Path directory, int segmentSize, Duration flushInterval) {
+        this.directory = Objects.requireNonNull(directory, "Directory cannot be null");
+        this.segmentSize = segmentSize > 0 ? segmentSize : 64 * 1024 * 1024;
+        this.flushInterval = flushInterval != null ? flushInterval : Duration.ofMillis(2);
+    }
+}
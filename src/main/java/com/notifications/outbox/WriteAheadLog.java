@@ -0,0 +1,366 @@
+package com.notifications.outbox;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+import java.util.stream.Stream;
+import java.util.zip.CRC32C;
+
+public final class WriteAheadLog implements Closeable {
+
+    private static final Logger logger = LoggerFactory.getLogger(WriteAheadLog.class);
+
+    private static final String SEGMENT_PREFIX = "wal-";
+    private static final String SEGMENT_SUFFIX = ".log";
+    private static final int HEADER_SIZE = 8;
+    private static final int RECORD_OVERHEAD = HEADER_SIZE + 1 + 8;
+    private static final byte APPEND = 1;
+    private static final byte COMPLETE = 2;
+
+    private final Path directory;
+    private final int segmentSize;
+    private final long flushIntervalNanos;
+    private final Deque<Segment> segments = new ArrayDeque<>();
+    private final List<Segment> unflushed = new ArrayList<>();
+    private final Map<Long, Segment> outstanding = new ConcurrentHashMap<>();
+    private final ConcurrentLinkedQueue<PendingFlush> pendingFlushes = new ConcurrentLinkedQueue<>();
+    private final Map<Long, byte[]> recovered;
+    private final Object flushLock = new Object();
+    private final Thread flusher;
+
+    private Segment active;
+    private long nextId;
+    private long lastWrittenId;
+    private volatile boolean closed;
+
+    private WriteAheadLog(Path directory, int segmentSize, Duration flushInterval) throws IOException {
+        this.directory = directory;
+        this.segmentSize = segmentSize;
+        this.flushIntervalNanos = flushInterval.toNanos();
+        Files.createDirectories(directory);
+
+        this.recovered = recover();
+        this.active = openSegment(segments.isEmpty() ? 0 : segments.peekLast().index + 1);
+        segments.addLast(active);
+        deleteAcknowledgedSegments();
+
+        this.flusher = Thread.ofPlatform()
+                .name("wal-flusher-" + directory.getFileName())
+                .daemon(true)
+                .start(this::runFlusher);
+        logger.info("Write-ahead log opened at {} with {} unfinished record(s)", directory, recovered.size());
+    }
+
+    public static WriteAheadLog open(Path directory, int segmentSize, Duration flushInterval) throws IOException {
+        Objects.requireNonNull(directory, "Directory cannot be null");
+        Objects.requireNonNull(flushInterval, "Flush interval cannot be null");
+        if (segmentSize < 4096) {
+            throw new IllegalArgumentException("Segment size must be at least 4096 bytes");
+        }
+        return new WriteAheadLog(directory, segmentSize, flushInterval);
+    }
+
+    public Map<Long, byte[]> getRecovered() {
+        return Collections.unmodifiableMap(recovered);
+    }
+
+    public long append(byte[] payload, CompletableFuture<Long> durable) throws IOException {
+        Objects.requireNonNull(payload, "Payload cannot be null");
+        if (payload.length + RECORD_OVERHEAD > segmentSize) {
+            throw new IllegalArgumentException(String.format(
+                    "Record of %d bytes does not fit in a %d byte segment", payload.length, segmentSize));
+        }
+
+        synchronized (this) {
+            ensureOpen();
+            long id = nextId++;
+            Segment segment = write(APPEND, id, payload);
+            segment.outstanding.incrementAndGet();
+            outstanding.put(id, segment);
+            lastWrittenId = id;
+            if (durable != null) {
+                pendingFlushes.add(new PendingFlush(id, durable));
+            }
+            return id;
+        }
+    }
+
+    public void complete(long id) throws IOException {
+        Segment segment = outstanding.remove(id);
+        if (segment == null) {
+            return;
+        }
+
+        synchronized (this) {
+            ensureOpen();
+            write(COMPLETE, id, new byte[0]);
+            segment.outstanding.decrementAndGet();
+            deleteAcknowledgedSegments();
+        }
+    }
+
+    public int getOutstandingCount() {
+        return outstanding.size();
+    }
+
+    public synchronized int getSegmentCount() {
+        return segments.size();
+    }
+
+    private Segment write(byte type, long id, byte[] payload) throws IOException {
+        int length = 1 + 8 + payload.length;
+        if (active.writePosition + HEADER_SIZE + length > segmentSize) {
+            roll();
+        }
+
+        MappedByteBuffer buffer = active.buffer;
+        int position = active.writePosition;
+        buffer.put(position + HEADER_SIZE, type);
+        buffer.putLong(position + HEADER_SIZE + 1, id);
+        buffer.put(position + HEADER_SIZE + 9, payload);
+
+        CRC32C crc = new CRC32C();
+        crc.update(buffer.slice(position + HEADER_SIZE, length));
+        buffer.putInt(position + 4, (int) crc.getValue());
+        // The length goes last so a torn write is never mistaken for a complete record.
+        buffer.putInt(position, length);
+
+        active.writePosition = position + HEADER_SIZE + length;
+        if (!unflushed.contains(active)) {
+            unflushed.add(active);
+        }
+        return active;
+    }
+
+    private void roll() throws IOException {
+        Segment next = openSegment(active.index + 1);
+        segments.addLast(next);
+        active = next;
+        logger.debug("Rolled write-ahead log to segment {}", next.index);
+    }
+
+    private void deleteAcknowledgedSegments() {
+        // Only a fully acknowledged prefix is deleted, so a completion record is never
+        // removed while the segment holding its append record still exists.
+        while (segments.size() > 1) {
+            Segment oldest = segments.peekFirst();
+            if (oldest == active || oldest.outstanding.get() > 0 || unflushed.contains(oldest)) {
+                return;
+            }
+            segments.pollFirst();
+            try {
+                oldest.channel.close();
+                Files.deleteIfExists(oldest.path);
+                logger.debug("Deleted acknowledged write-ahead log segment {}", oldest.index);
+            } catch (IOException e) {
+                logger.warn("Failed to delete write-ahead log segment {}", oldest.path, e);
+            }
+        }
+    }
+
+    private void runFlusher() {
+        while (!closed) {
+            LockSupport.parkNanos(flushIntervalNanos);
+            flush();
+        }
+    }
+
+    // Group commit: every record written since the previous flush becomes durable
+    // with a single force per dirty segment, then all of their waiters complete.
+    // Waiters are completed after the lock is released, so whatever runs in their
+    // callbacks cannot hold up the next group commit.
+    public void flush() {
+        List<PendingFlush> durable = new ArrayList<>();
+        synchronized (flushLock) {
+            List<Segment> dirty;
+            long flushedId;
+            int[] limits;
+            synchronized (this) {
+                if (unflushed.isEmpty()) {
+                    return;
+                }
+                dirty = new ArrayList<>(unflushed);
+                limits = new int[dirty.size()];
+                for (int i = 0; i < dirty.size(); i++) {
+                    limits[i] = dirty.get(i).writePosition;
+                }
+                flushedId = lastWrittenId;
+                unflushed.clear();
+            }
+
+            for (int i = 0; i < dirty.size(); i++) {
+                Segment segment = dirty.get(i);
+                int from = segment.flushedPosition;
+                if (limits[i] > from) {
+                    segment.buffer.force(from, limits[i] - from);
+                    segment.flushedPosition = limits[i];
+                }
+            }
+
+            PendingFlush pending;
+            while ((pending = pendingFlushes.peek()) != null && pending.id <= flushedId) {
+                pendingFlushes.poll();
+                durable.add(pending);
+            }
+        }
+
+        synchronized (this) {
+            deleteAcknowledgedSegments();
+        }
+        for (PendingFlush pending : durable) {
+            pending.durable.complete(pending.id);
+        }
+    }
+
+    private Map<Long, byte[]> recover() throws IOException {
+        List<Path> files;
+        try (Stream<Path> listing = Files.list(directory)) {
+            files = listing
+                    .filter(path -> path.getFileName().toString().startsWith(SEGMENT_PREFIX))
+                    .filter(path -> path.getFileName().toString().endsWith(SEGMENT_SUFFIX))
+                    .sorted()
+                    .toList();
+        }
+
+        Map<Long, byte[]> pending = new LinkedHashMap<>();
+        Map<Long, Segment> owners = new ConcurrentHashMap<>();
+        long maxId = -1;
+        for (Path file : files) {
+            Segment segment = mapSegment(file, indexOf(file), Files.size(file));
+            segments.addLast(segment);
+
+            MappedByteBuffer buffer = segment.buffer;
+            int position = 0;
+            while (position + HEADER_SIZE <= buffer.capacity()) {
+                int length = buffer.getInt(position);
+                if (length < 9 || position + HEADER_SIZE + length > buffer.capacity()) {
+                    break;
+                }
+                CRC32C crc = new CRC32C();
+                crc.update(buffer.slice(position + HEADER_SIZE, length));
+                if ((int) crc.getValue() != buffer.getInt(position + 4)) {
+                    logger.warn("Torn record in {} at offset {}, ignoring the rest of the segment", file, position);
+                    break;
+                }
+
+                byte type = buffer.get(position + HEADER_SIZE);
+                long id = buffer.getLong(position + HEADER_SIZE + 1);
+                if (type == APPEND) {
+                    byte[] payload = new byte[length - 9];
+                    buffer.get(position + HEADER_SIZE + 9, payload);
+                    pending.put(id, payload);
+                    owners.put(id, segment);
+                } else if (type == COMPLETE) {
+                    pending.remove(id);
+                    owners.remove(id);
+                }
+                maxId = Math.max(maxId, id);
+                position += HEADER_SIZE + length;
+            }
+            segment.writePosition = position;
+            segment.flushedPosition = position;
+        }
+
+        owners.forEach((id, segment) -> {
+            segment.outstanding.incrementAndGet();
+            outstanding.put(id, segment);
+        });
+        nextId = maxId + 1;
+        lastWrittenId = maxId;
+        return pending;
+    }
+
+    private Segment openSegment(long index) throws IOException {
+        Path path = directory.resolve(String.format("%s%020d%s", SEGMENT_PREFIX, index, SEGMENT_SUFFIX));
+        return mapSegment(path, index, segmentSize);
+    }
+
+    private Segment mapSegment(Path path, long index, long size) throws IOException {
+        FileChannel channel = FileChannel.open(path,
+                StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, size);
+        return new Segment(index, path, channel, buffer);
+    }
+
+    private long indexOf(Path file) {
+        String name = file.getFileName().toString();
+        return Long.parseLong(name.substring(SEGMENT_PREFIX.length(), name.length() - SEGMENT_SUFFIX.length()));
+    }
+
+    private void ensureOpen() throws IOException {
+        if (closed) {
+            throw new IOException("Write-ahead log is closed");
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        synchronized (this) {
+            if (closed) {
+                return;
+            }
+            closed = true;
+        }
+        LockSupport.unpark(flusher);
+        try {
+            flusher.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        flush();
+        synchronized (this) {
+            for (Segment segment : segments) {
+                segment.channel.close();
+            }
+        }
+        logger.info("Write-ahead log at {} closed", directory);
+    }
+
+    private static final class Segment {
+        private final long index;
+        private final Path path;
+        private final FileChannel channel;
+        private final MappedByteBuffer buffer;
+        private final AtomicInteger outstanding = new AtomicInteger();
+        private int writePosition;
+        private int flushedPosition;
+
+        private Segment(long index, Path path, FileChannel channel, MappedByteBuffer buffer) {
+            this.index = index;
+            this.path = path;
+            this.channel = channel;
+            this.buffer = buffer;
+        }
+    }
+
+    private static final class PendingFlush {
+        private final long id;
+        private final CompletableFuture<Long> durable;
+
+        private PendingFlush(long id, CompletableFuture<Long> durable) {
+            this.id = id;
+            this.durable = durable;
+        }
+    }
+}
@@ -2,23 +2,36 @@ package com.notifications.providers.email;
 
 import com.notifications.channels.email.EmailConfig;
 import com.notifications.channels.email.EmailNotification;
+import com.notifications.core.Deadline;
 import com.notifications.core.NotificationProvider;
 import com.notifications.core.NotificationResult;
+import com.notifications.core.ProviderMetadata;
+import com.notifications.model.NotificationContent;
 import com.notifications.providers.email.dto.*;
+import com.notifications.validation.EmailValidator;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 
 public final class SendGridProvider implements NotificationProvider<EmailNotification> {
     
     private static final Logger logger = LoggerFactory.getLogger(SendGridProvider.class);
+    private static final int MAX_PERSONALIZATIONS = 1000;
+    private static final Executor API_LATENCY = CompletableFuture.delayedExecutor(50, TimeUnit.MILLISECONDS);
     
     private final EmailConfig config;
+    private final boolean fromEmailValid;
 
     public SendGridProvider(EmailConfig config) {
         this.config = config;
+        // The sender never changes, so it is checked once instead of on every send.
+        this.fromEmailValid = config != null && EmailValidator.isValidEmail(config.getFromEmail());
     }
 
     @Override
@@ -31,14 +44,33 @@ public final class SendGridProvider implements NotificationProvider<EmailNotific
         return "email";
     }
 
+    @Override
+    public int getMaxBatchSize() {
+        return MAX_PERSONALIZATIONS;
+    }
+
     @Override
     public NotificationResult send(EmailNotification notification) {
+        return sendAsync(notification).join();
+    }
+
+    @Override
+    public CompletableFuture<NotificationResult> sendAsync(EmailNotification notification) {
+        return sendAsync(notification, Deadline.of(notification));
+    }
+
+    @Override
+    public CompletableFuture<NotificationResult> sendAsync(EmailNotification notification, Deadline deadline) {
+        if (deadline.isExpired()) {
+            return CompletableFuture.completedFuture(buildDeadlineExceededResult());
+        }
         logger.info("Simulating SendGrid API call:");
         logger.debug("Authorization: Bearer {}", maskApiKey(config.getApiKey()));
 
         try {
-            if (config.getFromEmail() == null || !isValidEmail(config.getFromEmail())) {
-                return buildErrorResult("Invalid 'from' email address", "VALIDATION_ERROR", 400);
+            if (!fromEmailValid) {
+                return CompletableFuture.completedFuture(
+                        buildErrorResult("Invalid 'from' email address", "VALIDATION_ERROR", 400));
             }
 
             SendGridMailPayload payload = buildSendGridPayload(notification);
@@ -48,16 +80,119 @@ public final class SendGridProvider implements NotificationProvider<EmailNotific
                     payload.getPersonalizations().isEmpty() ? 0 : payload.getPersonalizations().get(0).getTo().size(),
                     payload.getPersonalizations().isEmpty() ? "" : payload.getPersonalizations().get(0).getSubject());
 
-            Thread.sleep(50);
+            return deadline.bound(CompletableFuture.supplyAsync(this::buildSuccessResult, API_LATENCY),
+                            this::buildDeadlineExceededResult)
+                    .exceptionally(this::buildProviderErrorResult);
+        } catch (Exception e) {
+            return CompletableFuture.completedFuture(buildProviderErrorResult(e));
+        }
+    }
+
+    private NotificationResult buildSuccessResult() {
+        String messageId = "filter0001." + UUID.randomUUID().toString().substring(0, 8) + ".sendgrid.net";
+        logger.info("SendGrid email sent successfully. Message ID: {}", messageId);
+
+        ProviderMetadata metadata = ProviderMetadata.of(
+                "sendgrid_message_id", messageId,
+                "status_code", ProviderMetadata.statusCode(202));
+
+        return new NotificationResult.Builder()
+                .success(true)
+                .messageId(messageId)
+                .channel(getChannelType())
+                .provider(getProviderName())
+                .statusCode(202)
+                .providerMetadata(metadata)
+                .build();
+    }
+
+    private NotificationResult buildProviderErrorResult(Throwable error) {
+        Throwable cause = error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+        logger.error("Error sending email via SendGrid", cause);
+        return buildErrorResult(
+                String.format("SendGrid API error: %s", cause.getMessage()),
+                "PROVIDER_ERROR",
+                500
+        );
+    }
+
+    @Override
+    public List<NotificationResult> sendBatch(List<EmailNotification> notifications) {
+        NotificationResult[] results = new NotificationResult[notifications.size()];
+        if (!fromEmailValid) {
+            Arrays.fill(results, buildErrorResult("Invalid 'from' email address", "VALIDATION_ERROR", 400));
+            return Arrays.asList(results);
+        }
+
+        List<CompletableFuture<Void>> requests = new ArrayList<>();
+        for (List<Integer> chunk : getBatchRequests(notifications)) {
+            requests.add(sendChunk(notifications, chunk, results));
+        }
+        CompletableFuture.allOf(requests.toArray(new CompletableFuture<?>[0])).join();
+        return Arrays.asList(results);
+    }
 
-            String messageId = "filter0001." + UUID.randomUUID().toString().substring(0, 8) + ".sendgrid.net";
-            logger.info("SendGrid email sent successfully. Message ID: {}", messageId);
+    // Personalizations can override the subject but share the content blocks,
+    // so only notifications with the same body can travel in the same request.
+    @Override
+    public List<List<Integer>> getBatchRequests(List<EmailNotification> notifications) {
+        if (!fromEmailValid) {
+            return List.of();
+        }
+        Map<NotificationContent, List<Integer>> groups = new LinkedHashMap<>();
+        for (int i = 0; i < notifications.size(); i++) {
+            NotificationContent content = notifications.get(i).getContent();
+            groups.computeIfAbsent(new NotificationContent("", content.getBody(), content.isHtml()),
+                    key -> new ArrayList<>()).add(i);
+        }
 
-            Map<String, Object> metadata = new HashMap<>();
-            metadata.put("sendgrid_message_id", messageId);
-            metadata.put("status_code", 202);
-            
-            return new NotificationResult.Builder()
+        List<List<Integer>> requests = new ArrayList<>();
+        for (List<Integer> group : groups.values()) {
+            for (int from = 0; from < group.size(); from += MAX_PERSONALIZATIONS) {
+                requests.add(group.subList(from, Math.min(from + MAX_PERSONALIZATIONS, group.size())));
+            }
+        }
+        return requests;
+    }
+
+    private CompletableFuture<Void> sendChunk(List<EmailNotification> notifications, List<Integer> chunk,
+                                              NotificationResult[] results) {
+        logger.info("Simulating SendGrid API call with {} personalization(s)", chunk.size());
+
+        try {
+            List<EmailNotification> batch = new ArrayList<>(chunk.size());
+            for (int index : chunk) {
+                batch.add(notifications.get(index));
+            }
+            SendGridMailPayload payload = buildBatchPayload(batch);
+
+            logger.debug("SendGrid Payload: From={}, Personalizations={}",
+                    payload.getFrom().getEmail(), payload.getPersonalizations().size());
+
+            return CompletableFuture.runAsync(() -> fillBatchResults(chunk, results), API_LATENCY)
+                    .exceptionally(error -> {
+                        fillBatchFailure(chunk, results, error);
+                        return null;
+                    });
+        } catch (Exception e) {
+            fillBatchFailure(chunk, results, e);
+            return CompletableFuture.completedFuture(null);
+        }
+    }
+
+    private void fillBatchResults(List<Integer> chunk, NotificationResult[] results) {
+        String batchMessageId = "filter0001." + UUID.randomUUID().toString().substring(0, 8) + ".sendgrid.net";
+        logger.info("SendGrid batch sent successfully. Message ID: {}", batchMessageId);
+
+        for (int i = 0; i < chunk.size(); i++) {
+            String messageId = batchMessageId + "." + i;
+
+            ProviderMetadata metadata = ProviderMetadata.of(
+                    "sendgrid_message_id", batchMessageId,
+                    "personalization_index", i,
+                    "status_code", ProviderMetadata.statusCode(202));
+
+            results[chunk.get(i)] = new NotificationResult.Builder()
                     .success(true)
                     .messageId(messageId)
                     .channel(getChannelType())
@@ -65,18 +200,37 @@ public final class SendGridProvider implements NotificationProvider<EmailNotific
                     .statusCode(202)
                     .providerMetadata(metadata)
                     .build();
-                    
-        } catch (Exception e) {
-            logger.error("Error sending email via SendGrid", e);
-            return buildErrorResult(
-                    String.format("SendGrid API error: %s", e.getMessage()),
-                    "PROVIDER_ERROR",
-                    500
-            );
         }
     }
 
-    private SendGridMailPayload buildSendGridPayload(EmailNotification notification) {
+    private void fillBatchFailure(List<Integer> chunk, NotificationResult[] results, Throwable error) {
+        NotificationResult failure = buildProviderErrorResult(error);
+        for (int index : chunk) {
+            results[index] = failure;
+        }
+    }
+
+    SendGridMailPayload buildSendGridPayload(EmailNotification notification) {
+        return new SendGridMailPayload(
+                List.of(buildPersonalization(notification)),
+                buildFromAddress(),
+                buildContentBlocks(notification.getContent())
+        );
+    }
+
+    private SendGridMailPayload buildBatchPayload(List<EmailNotification> notifications) {
+        List<SendGridPersonalization> personalizations = notifications.stream()
+                .map(this::buildPersonalization)
+                .collect(Collectors.toList());
+
+        return new SendGridMailPayload(
+                personalizations,
+                buildFromAddress(),
+                buildContentBlocks(notifications.get(0).getContent())
+        );
+    }
+
+    private SendGridPersonalization buildPersonalization(EmailNotification notification) {
         // Build 'to' recipients
         List<SendGridEmailAddress> toAddresses = notification.getRecipients().stream()
                 .map(recipient -> new SendGridEmailAddress(
@@ -92,31 +246,35 @@ public final class SendGridProvider implements NotificationProvider<EmailNotific
                     .collect(Collectors.toList());
         }
 
-        SendGridPersonalization personalization = new SendGridPersonalization(
+        return new SendGridPersonalization(
                 toAddresses,
                 ccAddresses,
                 notification.getContent().getSubject()
         );
+    }
 
-        SendGridEmailAddress fromAddress = new SendGridEmailAddress(
+    private SendGridEmailAddress buildFromAddress() {
+        return new SendGridEmailAddress(
                 config.getFromEmail(),
                 config.getFromName()
         );
+    }
 
+    private List<SendGridContentBlock> buildContentBlocks(NotificationContent content) {
         List<SendGridContentBlock> contentBlocks = new ArrayList<>();
-        if (notification.getContent().getBody() != null && !notification.getContent().getBody().trim().isEmpty()) {
-            if (notification.getContent().isHtml()) {
-                contentBlocks.add(SendGridContentBlock.html(notification.getContent().getBody()));
+        if (content.getBody() != null && !content.getBody().trim().isEmpty()) {
+            if (content.isHtml()) {
+                contentBlocks.add(SendGridContentBlock.html(content.getBody()));
             } else {
-                contentBlocks.add(SendGridContentBlock.plainText(notification.getContent().getBody()));
+                contentBlocks.add(SendGridContentBlock.plainText(content.getBody()));
             }
         }
+        return contentBlocks;
+    }
 
-        return new SendGridMailPayload(
-                List.of(personalization),
-                fromAddress,
-                contentBlocks
-        );
+    private NotificationResult buildDeadlineExceededResult() {
+        logger.warn("Deadline exceeded for SendGrid request");
+        return buildErrorResult("Deadline exceeded", "DEADLINE_EXCEEDED", 504);
     }
 
     private NotificationResult buildErrorResult(String errorMessage, String errorCode, int statusCode) {
@@ -130,13 +288,6 @@ public final class SendGridProvider implements NotificationProvider<EmailNotific
                 .build();
     }
 
-    private boolean isValidEmail(String email) {
-        if (email == null || email.trim().isEmpty()) {
-            return false;
-        }
-        return email.matches("^[A-Za-z0-9+_.-]+@[A-Za-z0-9.-]+\\.[A-Za-z]{2,}$");
-    }
-
     @Override
     public boolean isConfigured() {
         return config != null && config.getApiKey() != null && !config.getApiKey().trim().isEmpty();
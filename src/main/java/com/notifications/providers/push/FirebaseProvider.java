@@ -2,20 +2,33 @@ package com.notifications.providers.push;
 
 import com.notifications.channels.push.PushConfig;
 import com.notifications.channels.push.PushNotification;
+import com.notifications.core.Deadline;
 import com.notifications.core.NotificationProvider;
 import com.notifications.core.NotificationResult;
+import com.notifications.core.ProviderMetadata;
+import com.notifications.model.NotificationContent;
 import com.notifications.providers.push.dto.FcmMessagePayload;
+import com.notifications.providers.push.dto.FcmMulticastPayload;
 import com.notifications.providers.push.dto.FcmSendResponse;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.util.HashMap;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
 
 public final class FirebaseProvider implements NotificationProvider<PushNotification> {
     
     private static final Logger logger = LoggerFactory.getLogger(FirebaseProvider.class);
+    private static final int MAX_MULTICAST_TOKENS = 500;
+    private static final Executor API_LATENCY = CompletableFuture.delayedExecutor(50, TimeUnit.MILLISECONDS);
     
     private final PushConfig config;
 
@@ -33,20 +46,39 @@ public final class FirebaseProvider implements NotificationProvider<PushNotifica
         return "push";
     }
 
+    @Override
+    public int getMaxBatchSize() {
+        return MAX_MULTICAST_TOKENS;
+    }
+
     @Override
     public NotificationResult send(PushNotification notification) {
+        return sendAsync(notification).join();
+    }
+
+    @Override
+    public CompletableFuture<NotificationResult> sendAsync(PushNotification notification) {
+        return sendAsync(notification, Deadline.of(notification));
+    }
+
+    @Override
+    public CompletableFuture<NotificationResult> sendAsync(PushNotification notification, Deadline deadline) {
+        if (deadline.isExpired()) {
+            return CompletableFuture.completedFuture(buildDeadlineExceededResult());
+        }
         logger.info("Simulating Firebase FCM API call:");
 
         try {
             if (notification.getRecipients().isEmpty()) {
-                return buildErrorResult("At least one device token is required", "VALIDATION_ERROR", 400);
+                return CompletableFuture.completedFuture(
+                        buildErrorResult("At least one device token is required", "VALIDATION_ERROR", 400));
             }
 
             String title = notification.getTitle();
-            String body = notification.getBody();
             
             if (title == null || title.trim().isEmpty()) {
-                return buildErrorResult("Notification title cannot be empty", "VALIDATION_ERROR", 400);
+                return CompletableFuture.completedFuture(
+                        buildErrorResult("Notification title cannot be empty", "VALIDATION_ERROR", 400));
             }
 
             FcmMessagePayload payload = buildFcmPayload(notification);
@@ -56,38 +88,146 @@ public final class FirebaseProvider implements NotificationProvider<PushNotifica
                     payload.getMessage().getNotification().getTitle(),
                     payload.getMessage().getNotification().getBody().length());
 
-            Thread.sleep(50);
+            return deadline.bound(CompletableFuture.supplyAsync(this::buildSuccessResult, API_LATENCY),
+                            this::buildDeadlineExceededResult)
+                    .exceptionally(this::buildProviderErrorResult);
+        } catch (Exception e) {
+            return CompletableFuture.completedFuture(buildProviderErrorResult(e));
+        }
+    }
+
+    private NotificationResult buildSuccessResult() {
+        String messageId = UUID.randomUUID().toString().replace("-", "");
+        FcmSendResponse response = FcmSendResponse.success(config.getProjectId(), messageId);
 
-            String messageId = UUID.randomUUID().toString().replace("-", "");
-            FcmSendResponse response = FcmSendResponse.success(config.getProjectId(), messageId);
-            
-            logger.info("Firebase push notification sent successfully. Message ID: {}", messageId);
+        logger.info("Firebase push notification sent successfully. Message ID: {}", messageId);
 
-            Map<String, Object> metadata = new HashMap<>();
-            metadata.put("fcm_message_id", messageId);
-            metadata.put("fcm_name", response.getName());
-            metadata.put("status_code", response.getStatusCode());
-            
-            return new NotificationResult.Builder()
-                    .success(true)
-                    .messageId(messageId)
-                    .channel(getChannelType())
-                    .provider(getProviderName())
-                    .statusCode(response.getStatusCode())
-                    .providerMetadata(metadata)
-                    .build();
-                    
+        ProviderMetadata metadata = ProviderMetadata.of(
+                "fcm_message_id", messageId,
+                "fcm_name", response.getName(),
+                "status_code", ProviderMetadata.statusCode(response.getStatusCode()));
+
+        return new NotificationResult.Builder()
+                .success(true)
+                .messageId(messageId)
+                .channel(getChannelType())
+                .provider(getProviderName())
+                .statusCode(response.getStatusCode())
+                .providerMetadata(metadata)
+                .build();
+    }
+
+    private NotificationResult buildProviderErrorResult(Throwable error) {
+        Throwable cause = error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+        logger.error("Error sending push notification via Firebase", cause);
+        return buildErrorResult(
+                String.format("Firebase FCM API error: %s", cause.getMessage()),
+                "PROVIDER_ERROR",
+                500
+        );
+    }
+
+    @Override
+    public List<NotificationResult> sendBatch(List<PushNotification> notifications) {
+        NotificationResult[] results = new NotificationResult[notifications.size()];
+        for (int i = 0; i < notifications.size(); i++) {
+            PushNotification notification = notifications.get(i);
+            if (notification.getRecipients().isEmpty()) {
+                results[i] = buildErrorResult("At least one device token is required", "VALIDATION_ERROR", 400);
+            } else if (isTitleMissing(notification)) {
+                results[i] = buildErrorResult("Notification title cannot be empty", "VALIDATION_ERROR", 400);
+            }
+        }
+
+        List<CompletableFuture<Void>> requests = new ArrayList<>();
+        for (List<Integer> chunk : getBatchRequests(notifications)) {
+            requests.add(sendMulticast(notifications, chunk, results));
+        }
+        CompletableFuture.allOf(requests.toArray(new CompletableFuture<?>[0])).join();
+        return Arrays.asList(results);
+    }
+
+    // A multicast message carries a single notification for every token, so notifications
+    // are grouped by title and body before chunking. Invalid ones never reach the API.
+    @Override
+    public List<List<Integer>> getBatchRequests(List<PushNotification> notifications) {
+        Map<NotificationContent, List<Integer>> groups = new LinkedHashMap<>();
+        for (int i = 0; i < notifications.size(); i++) {
+            PushNotification notification = notifications.get(i);
+            if (!notification.getRecipients().isEmpty() && !isTitleMissing(notification)) {
+                groups.computeIfAbsent(NotificationContent.text(notification.getTitle(), notification.getBody()),
+                        key -> new ArrayList<>()).add(i);
+            }
+        }
+
+        List<List<Integer>> requests = new ArrayList<>();
+        for (List<Integer> group : groups.values()) {
+            for (int from = 0; from < group.size(); from += MAX_MULTICAST_TOKENS) {
+                requests.add(group.subList(from, Math.min(from + MAX_MULTICAST_TOKENS, group.size())));
+            }
+        }
+        return requests;
+    }
+
+    private static boolean isTitleMissing(PushNotification notification) {
+        return notification.getTitle() == null || notification.getTitle().trim().isEmpty();
+    }
+
+    private CompletableFuture<Void> sendMulticast(List<PushNotification> notifications, List<Integer> chunk,
+                                                  NotificationResult[] results) {
+        logger.info("Simulating Firebase FCM multicast call for {} token(s)", chunk.size());
+
+        try {
+            List<PushNotification> batch = new ArrayList<>(chunk.size());
+            for (int index : chunk) {
+                batch.add(notifications.get(index));
+            }
+            FcmMulticastPayload payload = buildFcmMulticastPayload(batch);
+
+            logger.debug("FCM Multicast Payload: Tokens={}, Title={}",
+                    payload.getTokens().size(),
+                    payload.getNotification().getTitle());
+
+            return CompletableFuture.runAsync(() -> fillMulticastResults(chunk, results), API_LATENCY)
+                    .exceptionally(error -> {
+                        fillMulticastFailure(chunk, results, error);
+                        return null;
+                    });
         } catch (Exception e) {
-            logger.error("Error sending push notification via Firebase", e);
-            return buildErrorResult(
-                    String.format("Firebase FCM API error: %s", e.getMessage()),
-                    "PROVIDER_ERROR",
-                    500
-            );
+            fillMulticastFailure(chunk, results, e);
+            return CompletableFuture.completedFuture(null);
+        }
+    }
+
+    private void fillMulticastResults(List<Integer> chunk, NotificationResult[] results) {
+        for (int index : chunk) {
+            results[index] = buildSuccessResult();
         }
+        logger.info("Firebase multicast sent successfully to {} token(s)", chunk.size());
     }
 
-    private FcmMessagePayload buildFcmPayload(PushNotification notification) {
+    private void fillMulticastFailure(List<Integer> chunk, NotificationResult[] results, Throwable error) {
+        NotificationResult failure = buildProviderErrorResult(error);
+        for (int index : chunk) {
+            results[index] = failure;
+        }
+    }
+
+    private FcmMulticastPayload buildFcmMulticastPayload(List<PushNotification> notifications) {
+        List<String> tokens = new ArrayList<>(notifications.size());
+        for (PushNotification notification : notifications) {
+            tokens.add(notification.getRecipients().get(0).getAddress());
+        }
+
+        PushNotification first = notifications.get(0);
+        return new FcmMulticastPayload(
+                tokens,
+                new FcmMessagePayload.FcmNotification(first.getTitle(), first.getBody()),
+                null
+        );
+    }
+
+    FcmMessagePayload buildFcmPayload(PushNotification notification) {
         String deviceToken = notification.getRecipients().isEmpty() 
                 ? "" 
                 : notification.getRecipients().get(0).getAddress();
@@ -106,6 +246,11 @@ public final class FirebaseProvider implements NotificationProvider<PushNotifica
         return new FcmMessagePayload(message);
     }
 
+    private NotificationResult buildDeadlineExceededResult() {
+        logger.warn("Deadline exceeded for Firebase request");
+        return buildErrorResult("Deadline exceeded", "DEADLINE_EXCEEDED", 504);
+    }
+
     private NotificationResult buildErrorResult(String errorMessage, String errorCode, int statusCode) {
         return new NotificationResult.Builder()
                 .success(false)
@@ -0,0 +1,31 @@
+package com.notifications.providers.push.dto;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+public final class FcmMulticastPayload {
+
+    private final List<String> tokens;
+    private final FcmMessagePayload.FcmNotification notification;
+    private final Map<String, String> data;
+
+    public FcmMulticastPayload(List<String> tokens, FcmMessagePayload.FcmNotification notification,
+                               Map<String, String> data) {
+        this.tokens = tokens != null ? new ArrayList<>(tokens) : new ArrayList<>();
+        this.notification = notification;
+        this.data = data;
+    }
+
+    public List<String> getTokens() {
+        return tokens;
+    }
+
+    public FcmMessagePayload.FcmNotification getNotification() {
+        return notification;
+    }
+
+    public Map<String, String> getData() {
+        return data;
+    }
+}
@@ -2,21 +2,26 @@ package com.notifications.providers.sms;
 
 import com.notifications.channels.sms.SmsConfig;
 import com.notifications.channels.sms.SmsNotification;
+import com.notifications.core.Deadline;
 import com.notifications.core.NotificationProvider;
 import com.notifications.core.NotificationResult;
+import com.notifications.core.ProviderMetadata;
 import com.notifications.providers.sms.dto.TwilioMessagePayload;
 import com.notifications.providers.sms.dto.TwilioMessageResponse;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.util.HashMap;
-import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
 
 public final class TwilioProvider implements NotificationProvider<SmsNotification> {
     
     private static final Logger logger = LoggerFactory.getLogger(TwilioProvider.class);
     private static final int MAX_MESSAGE_LENGTH = 1600;
+    private static final Executor API_LATENCY = CompletableFuture.delayedExecutor(50, TimeUnit.MILLISECONDS);
     
     private final SmsConfig config;
 
@@ -34,24 +39,43 @@ public final class TwilioProvider implements NotificationProvider<SmsNotificatio
         return "sms";
     }
 
+    @Override
+    public int getMaxBatchSize() {
+        return 1;
+    }
+
     @Override
     public NotificationResult send(SmsNotification notification) {
+        return sendAsync(notification).join();
+    }
+
+    @Override
+    public CompletableFuture<NotificationResult> sendAsync(SmsNotification notification) {
+        return sendAsync(notification, Deadline.of(notification));
+    }
+
+    @Override
+    public CompletableFuture<NotificationResult> sendAsync(SmsNotification notification, Deadline deadline) {
+        if (deadline.isExpired()) {
+            return CompletableFuture.completedFuture(buildDeadlineExceededResult());
+        }
         logger.info("Simulating Twilio API call:");
         logger.debug("  Auth: Basic (AccountSid:AuthToken)");
 
         try {
             String message = notification.getMessage();
             if (message == null || message.trim().isEmpty()) {
-                return buildErrorResult("Message body cannot be empty", "VALIDATION_ERROR", 400);
+                return CompletableFuture.completedFuture(
+                        buildErrorResult("Message body cannot be empty", "VALIDATION_ERROR", 400));
             }
 
             if (message.length() > MAX_MESSAGE_LENGTH) {
-                return buildErrorResult(
+                return CompletableFuture.completedFuture(buildErrorResult(
                         String.format("Message length (%d) exceeds Twilio limit of %d characters", 
                                 message.length(), MAX_MESSAGE_LENGTH),
                         "VALIDATION_ERROR",
                         400
-                );
+                ));
             }
 
             TwilioMessagePayload payload = buildTwilioPayload(notification);
@@ -61,37 +85,45 @@ public final class TwilioProvider implements NotificationProvider<SmsNotificatio
                     payload.getTo(),
                     payload.getBody().length());
 
-            Thread.sleep(50);
-
-            String messageSid = "SM" + UUID.randomUUID().toString().replace("-", "").substring(0, 32);
-            TwilioMessageResponse response = TwilioMessageResponse.success(messageSid);
-            
-            logger.info("Twilio SMS sent successfully. Message SID: {}", messageSid);
-
-            Map<String, Object> metadata = new HashMap<>();
-            metadata.put("twilio_message_sid", messageSid);
-            metadata.put("twilio_status", response.getStatus());
-            metadata.put("status_code", response.getStatusCode());
-            
-            return new NotificationResult.Builder()
-                    .success(true)
-                    .messageId(messageSid)
-                    .channel(getChannelType())
-                    .provider(getProviderName())
-                    .statusCode(response.getStatusCode())
-                    .providerMetadata(metadata)
-                    .build();
-                    
+            return deadline.bound(CompletableFuture.supplyAsync(this::buildSuccessResult, API_LATENCY),
+                            this::buildDeadlineExceededResult)
+                    .exceptionally(this::buildProviderErrorResult);
         } catch (Exception e) {
-            logger.error("Error sending SMS via Twilio", e);
-            return buildErrorResult(
-                    String.format("Twilio API error: %s", e.getMessage()),
-                    "PROVIDER_ERROR",
-                    500
-            );
+            return CompletableFuture.completedFuture(buildProviderErrorResult(e));
         }
     }
 
+    private NotificationResult buildSuccessResult() {
+        String messageSid = "SM" + UUID.randomUUID().toString().replace("-", "").substring(0, 32);
+        TwilioMessageResponse response = TwilioMessageResponse.success(messageSid);
+
+        logger.info("Twilio SMS sent successfully. Message SID: {}", messageSid);
+
+        ProviderMetadata metadata = ProviderMetadata.of(
+                "twilio_message_sid", messageSid,
+                "twilio_status", response.getStatus(),
+                "status_code", ProviderMetadata.statusCode(response.getStatusCode()));
+
+        return new NotificationResult.Builder()
+                .success(true)
+                .messageId(messageSid)
+                .channel(getChannelType())
+                .provider(getProviderName())
+                .statusCode(response.getStatusCode())
+                .providerMetadata(metadata)
+                .build();
+    }
+
+    private NotificationResult buildProviderErrorResult(Throwable error) {
+        Throwable cause = error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+        logger.error("Error sending SMS via Twilio", cause);
+        return buildErrorResult(
+                String.format("Twilio API error: %s", cause.getMessage()),
+                "PROVIDER_ERROR",
+                500
+        );
+    }
+
     private TwilioMessagePayload buildTwilioPayload(SmsNotification notification) {
         String to = notification.getRecipients().isEmpty() 
                 ? "" 
@@ -106,6 +138,11 @@ public final class TwilioProvider implements NotificationProvider<SmsNotificatio
         );
     }
 
+    private NotificationResult buildDeadlineExceededResult() {
+        logger.warn("Deadline exceeded for Twilio request");
+        return buildErrorResult("Deadline exceeded", "DEADLINE_EXCEEDED", 504);
+    }
+
     private NotificationResult buildErrorResult(String errorMessage, String errorCode, int statusCode) {
         return new NotificationResult.Builder()
                 .success(false)
@@ -0,0 +1,7 @@
+package com.notifications.queue;
+
+public enum BackpressurePolicy {
+    BLOCK,
+    FAIL_FAST,
+    DROP_OLDEST
+}
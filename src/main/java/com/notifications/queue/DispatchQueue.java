@@ -0,0 +1,426 @@
+package com.notifications.queue;
+
+import com.notifications.core.Notification;
+import com.notifications.core.NotificationResult;
+import com.notifications.model.NotificationMetadata;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Function;
+
+public final class DispatchQueue {
+
+    private static final Logger logger = LoggerFactory.getLogger(DispatchQueue.class);
+    private static final long IDLE_WAIT_MILLIS = 100;
+    private static final Priority[] PRIORITIES = Priority.values();
+    private static final String DEFAULT_TENANT = "default";
+
+    private final DispatchQueueConfig config;
+    private final Function<Notification, ? extends CompletionStage<NotificationResult>> dispatcher;
+    private final Lane[] lanes = new Lane[PRIORITIES.length];
+    private final int[] weights = new int[PRIORITIES.length];
+    private final Semaphore signal = new Semaphore(0);
+    private final List<Thread> workers = new ArrayList<>();
+    private volatile boolean running = true;
+    private volatile boolean accepting = true;
+
+    // The dispatcher only starts a send; workers never wait on the provider, so each one
+    // keeps up to maxInFlightPerWorker sends going and picks the next item as one settles.
+    public DispatchQueue(DispatchQueueConfig config,
+                         Function<Notification, ? extends CompletionStage<NotificationResult>> dispatcher) {
+        this.config = Objects.requireNonNull(config, "DispatchQueueConfig cannot be null");
+        this.dispatcher = Objects.requireNonNull(dispatcher, "Dispatcher cannot be null");
+        for (Priority priority : PRIORITIES) {
+            lanes[priority.ordinal()] = new Lane(priority);
+            weights[priority.ordinal()] = config.getWeight(priority);
+        }
+
+        for (int i = 0; i < config.getWorkers(); i++) {
+            Thread worker = Thread.ofPlatform()
+                    .name("notification-dispatch-" + i)
+                    .daemon(true)
+                    .unstarted(this::runWorker);
+            workers.add(worker);
+            worker.start();
+        }
+        logger.info("DispatchQueue started with {} worker(s), capacity {} per channel and priority, policy {}",
+                config.getWorkers(), config.getCapacity(), config.getBackpressurePolicy());
+    }
+
+    public CompletableFuture<NotificationResult> submit(Notification notification) {
+        Objects.requireNonNull(notification, "Notification cannot be null");
+        return submit(notification, Priority.of(notification));
+    }
+
+    public CompletableFuture<NotificationResult> submit(Notification notification, Priority priority) {
+        Objects.requireNonNull(notification, "Notification cannot be null");
+        Objects.requireNonNull(priority, "Priority cannot be null");
+
+        if (!accepting) {
+            return CompletableFuture.completedFuture(shutdownFailure(notification.getChannelType()));
+        }
+
+        ChannelQueue queue = lanes[priority.ordinal()].queueFor(notification.getChannelType());
+        QueuedNotification item = new QueuedNotification(notification, tenantOf(notification), System.nanoTime());
+
+        boolean accepted = switch (config.getBackpressurePolicy()) {
+            case FAIL_FAST -> queue.offer(item);
+            case BLOCK -> offerBlocking(queue, item);
+            case DROP_OLDEST -> offerDroppingOldest(queue, item);
+        };
+
+        if (!accepted) {
+            queue.rejected.increment();
+            logger.warn("Dispatch queue for channel {} ({}) is full for tenant {}, rejecting notification",
+                    queue.channelType, queue.priority, item.tenant);
+            item.result.complete(NotificationResult.failure(
+                    item.tenant != null
+                            ? String.format("Dispatch queue for channel %s is full for tenant %s",
+                                    queue.channelType, item.tenant)
+                            : String.format("Dispatch queue for channel %s is full", queue.channelType),
+                    "QUEUE_FULL",
+                    queue.channelType,
+                    "unknown"
+            ));
+            return item.result;
+        }
+
+        queue.enqueued.increment();
+        signal.release();
+        return item.result;
+    }
+
+    private boolean offerBlocking(ChannelQueue queue, QueuedNotification item) {
+        long deadline = System.nanoTime() + config.getBlockTimeout().toNanos();
+        int attempts = 0;
+        while (!queue.offer(item)) {
+            if (System.nanoTime() - deadline >= 0 || Thread.currentThread().isInterrupted()) {
+                return false;
+            }
+            if (++attempts < 64) {
+                Thread.onSpinWait();
+            } else {
+                LockSupport.parkNanos(TimeUnit.MICROSECONDS.toNanos(50));
+            }
+        }
+        return true;
+    }
+
+    private boolean offerDroppingOldest(ChannelQueue queue, QueuedNotification item) {
+        while (!queue.offer(item)) {
+            QueuedNotification evicted = queue.evictFor(item);
+            if (evicted != null) {
+                queue.dropped.increment();
+                evicted.result.complete(NotificationResult.failure(
+                        String.format("Dropped from dispatch queue for channel %s to make room for newer notifications",
+                                queue.channelType),
+                        "DROPPED",
+                        queue.channelType,
+                        "unknown"
+                ));
+            }
+        }
+        return true;
+    }
+
+    private String tenantOf(Notification notification) {
+        if (config.getFairQueue() == null) {
+            return null;
+        }
+        String tenant = notification.getMetadata().get(NotificationMetadata.TENANT_ID);
+        return tenant != null ? tenant : DEFAULT_TENANT;
+    }
+
+    // A permit is taken before polling, so a worker at its in-flight limit leaves the
+    // item in the queue where the priority scheduler and other workers can still see it.
+    private void runWorker() {
+        long[] credits = new long[PRIORITIES.length];
+        Semaphore permits = new Semaphore(config.getMaxInFlightPerWorker());
+        while (running) {
+            if (!acquire(permits)) {
+                continue;
+            }
+            QueuedNotification item = pollNext(credits);
+            if (item == null) {
+                permits.release();
+                awaitWork();
+                continue;
+            }
+            deliver(item, permits);
+        }
+    }
+
+    private boolean acquire(Semaphore permits) {
+        try {
+            return permits.tryAcquire(IDLE_WAIT_MILLIS, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            running = false;
+            return false;
+        }
+    }
+
+    // Smooth weighted round robin over the lanes that have work: every pick adds each
+    // busy lane's weight to its credit and charges the winner the total. Over any run of
+    // sum(weights) picks a busy lane is served exactly its weight, so bulk traffic cannot
+    // delay high priority by more than a few items and low priority is never starved.
+    // Credits are per worker, which keeps the scheduler free of shared state.
+    private QueuedNotification pollNext(long[] credits) {
+        int best = -1;
+        long total = 0;
+        for (int i = 0; i < lanes.length; i++) {
+            if (lanes[i].isEmpty()) {
+                credits[i] = 0;
+                continue;
+            }
+            credits[i] += weights[i];
+            total += weights[i];
+            if (best < 0 || credits[i] > credits[best]) {
+                best = i;
+            }
+        }
+        if (best < 0) {
+            return null;
+        }
+        credits[best] -= total;
+
+        QueuedNotification item = lanes[best].poll();
+        for (int i = 0; item == null && i < lanes.length; i++) {
+            item = lanes[i].poll();
+        }
+        return item;
+    }
+
+    private void awaitWork() {
+        // Permits may have been released after the failed poll; draining them
+        // instead of sleeping means a concurrent submit is never missed.
+        if (signal.drainPermits() > 0) {
+            return;
+        }
+        try {
+            signal.tryAcquire(IDLE_WAIT_MILLIS, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            running = false;
+        }
+    }
+
+    private void deliver(QueuedNotification item, Semaphore permits) {
+        CompletionStage<NotificationResult> pending;
+        try {
+            pending = dispatcher.apply(item.notification);
+        } catch (Exception e) {
+            permits.release();
+            item.result.complete(unexpectedFailure(item.notification, e));
+            return;
+        }
+        pending.whenComplete((result, error) -> {
+            permits.release();
+            if (error != null) {
+                item.result.complete(unexpectedFailure(item.notification, error));
+            } else {
+                item.result.complete(result);
+            }
+        });
+    }
+
+    private static NotificationResult unexpectedFailure(Notification notification, Throwable error) {
+        logger.error("Unexpected error dispatching queued notification", error);
+        return NotificationResult.failure(
+                String.format("Unexpected error: %s", error.getMessage()),
+                "UNEXPECTED_ERROR",
+                notification.getChannelType(),
+                "unknown"
+        );
+    }
+
+    // Stops admitting new notifications; workers keep draining what is already queued.
+    public void shutdown() {
+        accepting = false;
+    }
+
+    // Stops the workers and settles everything still queued with SERVICE_SHUTDOWN.
+    // Returns how many notifications were left behind.
+    public int close() {
+        accepting = false;
+        running = false;
+        signal.release(workers.size());
+
+        int abandoned = 0;
+        for (Lane lane : lanes) {
+            for (ChannelQueue queue : lane.queues) {
+                QueuedNotification item;
+                while ((item = queue.poll()) != null) {
+                    item.result.complete(shutdownFailure(queue.channelType));
+                    abandoned++;
+                }
+            }
+        }
+        logger.info("DispatchQueue closed with {} notification(s) left in the queue", abandoned);
+        return abandoned;
+    }
+
+    private static NotificationResult shutdownFailure(String channelType) {
+        return NotificationResult.failure(
+                "Dispatch queue is shutting down",
+                "SERVICE_SHUTDOWN",
+                channelType,
+                "unknown"
+        );
+    }
+
+    public List<QueueStats> getStats() {
+        List<QueueStats> stats = new ArrayList<>();
+        for (Lane lane : lanes) {
+            for (ChannelQueue queue : lane.queues) {
+                stats.add(queue.snapshot());
+            }
+        }
+        return stats;
+    }
+
+    public int getDepth() {
+        int depth = 0;
+        for (Lane lane : lanes) {
+            for (ChannelQueue queue : lane.queues) {
+                depth += queue.size();
+            }
+        }
+        return depth;
+    }
+
+    private static final class QueuedNotification {
+        private final Notification notification;
+        private final String tenant;
+        private final long enqueuedAt;
+        private final CompletableFuture<NotificationResult> result = new CompletableFuture<>();
+
+        private QueuedNotification(Notification notification, String tenant, long enqueuedAt) {
+            this.notification = notification;
+            this.tenant = tenant;
+            this.enqueuedAt = enqueuedAt;
+        }
+    }
+
+    private final class Lane {
+        private final Priority priority;
+        private final Map<String, ChannelQueue> queuesByChannel = new ConcurrentHashMap<>();
+        private final List<ChannelQueue> queues = new CopyOnWriteArrayList<>();
+        private final AtomicInteger nextQueue = new AtomicInteger();
+
+        private Lane(Priority priority) {
+            this.priority = priority;
+        }
+
+        private ChannelQueue queueFor(String channelType) {
+            ChannelQueue queue = queuesByChannel.get(channelType);
+            if (queue != null) {
+                return queue;
+            }
+            return queuesByChannel.computeIfAbsent(channelType, type -> {
+                ChannelQueue created = new ChannelQueue(type, priority, config.getCapacity(), config.getFairQueue());
+                queues.add(created);
+                return created;
+            });
+        }
+
+        private boolean isEmpty() {
+            for (ChannelQueue queue : queues) {
+                if (queue.size() > 0) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        private QueuedNotification poll() {
+            int size = queues.size();
+            if (size == 0) {
+                return null;
+            }
+            int start = Math.floorMod(nextQueue.getAndIncrement(), size);
+            for (int i = 0; i < size; i++) {
+                ChannelQueue queue = queues.get((start + i) % size);
+                QueuedNotification item = queue.poll();
+                if (item != null) {
+                    queue.recordWait(System.nanoTime() - item.enqueuedAt);
+                    return item;
+                }
+            }
+            return null;
+        }
+    }
+
+    private static final class ChannelQueue {
+        private final String channelType;
+        private final Priority priority;
+        private final BoundedRingBuffer<QueuedNotification> buffer;
+        private final TenantFairQueue<QueuedNotification> fairQueue;
+        private final LongAdder enqueued = new LongAdder();
+        private final LongAdder dispatched = new LongAdder();
+        private final LongAdder rejected = new LongAdder();
+        private final LongAdder dropped = new LongAdder();
+        private final LongAdder totalWaitNanos = new LongAdder();
+        private final AtomicLong maxWaitNanos = new AtomicLong();
+
+        private ChannelQueue(String channelType, Priority priority, int capacity, FairQueueConfig fairQueueConfig) {
+            this.channelType = channelType;
+            this.priority = priority;
+            this.buffer = fairQueueConfig == null ? new BoundedRingBuffer<>(capacity) : null;
+            this.fairQueue = fairQueueConfig != null ? new TenantFairQueue<>(capacity, fairQueueConfig) : null;
+        }
+
+        private boolean offer(QueuedNotification item) {
+            return fairQueue != null ? fairQueue.offer(item.tenant, item) : buffer.offer(item);
+        }
+
+        private QueuedNotification poll() {
+            return fairQueue != null ? fairQueue.poll() : buffer.poll();
+        }
+
+        // With fair queuing the newcomer's own tenant pays for the room first.
+        private QueuedNotification evictFor(QueuedNotification item) {
+            if (fairQueue == null) {
+                return buffer.poll();
+            }
+            QueuedNotification evicted = fairQueue.pollOldest(item.tenant);
+            return evicted != null ? evicted : fairQueue.poll();
+        }
+
+        private int size() {
+            return fairQueue != null ? fairQueue.size() : buffer.size();
+        }
+
+        private int capacity() {
+            return fairQueue != null ? fairQueue.capacity() : buffer.capacity();
+        }
+
+        private void recordWait(long waitNanos) {
+            dispatched.increment();
+            totalWaitNanos.add(waitNanos);
+            long max = maxWaitNanos.get();
+            while (waitNanos > max && !maxWaitNanos.compareAndSet(max, waitNanos)) {
+                max = maxWaitNanos.get();
+            }
+        }
+
+        private QueueStats snapshot() {
+            return new QueueStats(channelType, priority, capacity(), size(), enqueued.sum(),
+                    dispatched.sum(), rejected.sum(), dropped.sum(), totalWaitNanos.sum(), maxWaitNanos.get());
+        }
+    }
+}
@@ -0,0 +1,60 @@
+package com.notifications.queue;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Map;
+
+@Getter
+@Builder
+public final class DispatchQueueConfig {
+
+    private final int capacity;
+    private final int workers;
+    private final BackpressurePolicy backpressurePolicy;
+    private final Duration blockTimeout;
+    private final Map<Priority, Integer> priorityWeights;
+    private final FairQueueConfig fairQueue;
+    private final int maxInFlightPerWorker;
+
+    public DispatchQueueConfig(int capacity, int workers, BackpressurePolicy backpressurePolicy, Duration blockTimeout) {
+        this(capacity, workers, backpressurePolicy, blockTimeout, null, null);
+    }
+
+    public DispatchQueueConfig(int capacity, int workers, BackpressurePolicy backpressurePolicy, Duration blockTimeout,
+                               Map<Priority, Integer> priorityWeights, FairQueueConfig fairQueue) {
+        this(capacity, workers, backpressurePolicy, blockTimeout, priorityWeights, fairQueue, 0);
+    }
+
+    public DispatchQueueConfig(int capacity, int workers, BackpressurePolicy backpressurePolicy, Duration blockTimeout,
+                               Map<Priority, Integer> priorityWeights, FairQueueConfig fairQueue,
+                               int maxInFlightPerWorker) {
+        this.capacity = capacity > 0 ? capacity : 1024;
+        this.workers = workers > 0 ? workers : Runtime.getRuntime().availableProcessors();
+        this.backpressurePolicy = backpressurePolicy != null ? backpressurePolicy : BackpressurePolicy.BLOCK;
+        this.blockTimeout = blockTimeout != null ? blockTimeout : Duration.ofSeconds(5);
+        Map<Priority, Integer> weights = new EnumMap<>(Map.of(Priority.HIGH, 8, Priority.NORMAL, 3, Priority.LOW, 1));
+        if (priorityWeights != null) {
+            priorityWeights.forEach((priority, weight) -> {
+                if (weight == null || weight <= 0) {
+                    throw new IllegalArgumentException("Weight for priority " + priority + " must be positive");
+                }
+                weights.put(priority, weight);
+            });
+        }
+        this.priorityWeights = Collections.unmodifiableMap(weights);
+        this.fairQueue = fairQueue;
+        this.maxInFlightPerWorker = maxInFlightPerWorker > 0 ? maxInFlightPerWorker : 64;
+    }
+
+    public int getWeight(Priority priority) {
+        return priorityWeights.get(priority);
+    }
+
+    public static DispatchQueueConfig defaults() {
+        return DispatchQueueConfig.builder().build();
+    }
+}
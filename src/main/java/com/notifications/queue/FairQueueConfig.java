@@ -0,0 +1,46 @@
+package com.notifications.queue;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.Map;
+
+@Getter
+@Builder
+public final class FairQueueConfig {
+
+    private final int defaultWeight;
+    private final Map<String, Integer> tenantWeights;
+    private final int maxQueuedPerTenant;
+    private final Map<String, Integer> tenantLimits;
+
+    public FairQueueConfig(int defaultWeight, Map<String, Integer> tenantWeights, int maxQueuedPerTenant,
+                           Map<String, Integer> tenantLimits) {
+        this.defaultWeight = defaultWeight > 0 ? defaultWeight : 1;
+        this.tenantWeights = tenantWeights != null ? Map.copyOf(tenantWeights) : Map.of();
+        this.maxQueuedPerTenant = maxQueuedPerTenant > 0 ? maxQueuedPerTenant : Integer.MAX_VALUE;
+        this.tenantLimits = tenantLimits != null ? Map.copyOf(tenantLimits) : Map.of();
+        this.tenantWeights.forEach((tenant, weight) -> {
+            if (weight <= 0) {
+                throw new IllegalArgumentException("Weight for tenant " + tenant + " must be positive");
+            }
+        });
+        this.tenantLimits.forEach((tenant, limit) -> {
+            if (limit <= 0) {
+                throw new IllegalArgumentException("Queue limit for tenant " + tenant + " must be positive");
+            }
+        });
+    }
+
+    public static FairQueueConfig defaults() {
+        return FairQueueConfig.builder().build();
+    }
+
+    public int weightOf(String tenant) {
+        return tenantWeights.getOrDefault(tenant, defaultWeight);
+    }
+
+    public int limitOf(String tenant) {
+        return tenantLimits.getOrDefault(tenant, maxQueuedPerTenant);
+    }
+}
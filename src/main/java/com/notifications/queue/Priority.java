@@ -0,0 +1,25 @@
+package com.notifications.queue;
+
+import com.notifications.core.Notification;
+import com.notifications.model.NotificationMetadata;
+
+public enum Priority {
+    HIGH,
+    NORMAL,
+    LOW;
+
+    private static final Priority[] VALUES = values();
+
+    public static Priority of(Notification notification) {
+        String value = notification.getMetadata().get(NotificationMetadata.PRIORITY);
+        if (value == null) {
+            return NORMAL;
+        }
+        for (Priority priority : VALUES) {
+            if (priority.name().equalsIgnoreCase(value)) {
+                return priority;
+            }
+        }
+        return NORMAL;
+    }
+}
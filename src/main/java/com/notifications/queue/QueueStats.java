@@ -0,0 +1,76 @@
+package com.notifications.queue;
+
+public final class QueueStats {
+
+    private final String channelType;
+    private final Priority priority;
+    private final int capacity;
+    private final int depth;
+    private final long enqueued;
+    private final long dispatched;
+    private final long rejected;
+    private final long dropped;
+    private final long totalWaitNanos;
+    private final long maxWaitNanos;
+
+    public QueueStats(String channelType, Priority priority, int capacity, int depth, long enqueued, long dispatched,
+                      long rejected, long dropped, long totalWaitNanos, long maxWaitNanos) {
+        this.channelType = channelType;
+        this.priority = priority;
+        this.capacity = capacity;
+        this.depth = depth;
+        this.enqueued = enqueued;
+        this.dispatched = dispatched;
+        this.rejected = rejected;
+        this.dropped = dropped;
+        this.totalWaitNanos = totalWaitNanos;
+        this.maxWaitNanos = maxWaitNanos;
+    }
+
+    public String getChannelType() {
+        return channelType;
+    }
+
+    public Priority getPriority() {
+        return priority;
+    }
+
+    public int getCapacity() {
+        return capacity;
+    }
+
+    public int getDepth() {
+        return depth;
+    }
+
+    public long getEnqueued() {
+        return enqueued;
+    }
+
+    public long getDispatched() {
+        return dispatched;
+    }
+
+    public long getRejected() {
+        return rejected;
+    }
+
+    public long getDropped() {
+        return dropped;
+    }
+
+    public long getAverageWaitNanos() {
+        return dispatched == 0 ? 0 : totalWaitNanos / dispatched;
+    }
+
+    public long getMaxWaitNanos() {
+        return maxWaitNanos;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("QueueStats{channel='%s', priority=%s, depth=%d/%d, enqueued=%d, dispatched=%d, rejected=%d, dropped=%d, avgWaitMicros=%d, maxWaitMicros=%d}",
+                channelType, priority, depth, capacity, enqueued, dispatched, rejected, dropped,
+                getAverageWaitNanos() / 1_000, maxWaitNanos / 1_000);
+    }
+}
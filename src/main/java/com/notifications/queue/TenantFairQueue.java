@@ -0,0 +1,134 @@
+package com.notifications.queue;
+
+import java.util.ArrayDeque;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+
+// Deficit round robin over tenants: each visit to a tenant grants it `weight` items,
+// and a tenant only sits in the active ring while it has work. Enqueue and dequeue
+// are O(1) no matter how many tenants exist, and a drained tenant's state is released.
+public final class TenantFairQueue<E> {
+
+    private final int capacity;
+    private final FairQueueConfig config;
+    private final Map<String, Tenant<E>> tenants = new HashMap<>();
+    private final ArrayDeque<Tenant<E>> active = new ArrayDeque<>();
+    private volatile int size;
+
+    public TenantFairQueue(int capacity, FairQueueConfig config) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("Capacity must be positive");
+        }
+        this.capacity = capacity;
+        this.config = Objects.requireNonNull(config, "FairQueueConfig cannot be null");
+    }
+
+    public synchronized boolean offer(String tenantId, E element) {
+        Objects.requireNonNull(tenantId, "Tenant cannot be null");
+        Objects.requireNonNull(element, "Element cannot be null");
+        if (size >= capacity) {
+            return false;
+        }
+
+        Tenant<E> tenant = tenants.get(tenantId);
+        if (tenant == null) {
+            tenant = new Tenant<>(tenantId, config.weightOf(tenantId), config.limitOf(tenantId));
+            tenants.put(tenantId, tenant);
+        }
+        if (tenant.items.size() >= tenant.limit) {
+            return false;
+        }
+
+        tenant.items.addLast(element);
+        if (!tenant.active) {
+            tenant.active = true;
+            active.addLast(tenant);
+        }
+        size++;
+        return true;
+    }
+
+    public synchronized E poll() {
+        while (true) {
+            Tenant<E> tenant = active.peekFirst();
+            if (tenant == null) {
+                return null;
+            }
+            // A tenant emptied by pollOldest stays in the ring until it is reached here.
+            if (tenant.items.isEmpty()) {
+                retire(tenant);
+                continue;
+            }
+
+            if (tenant.deficit <= 0) {
+                tenant.deficit += tenant.weight;
+            }
+            E element = tenant.items.pollFirst();
+            tenant.deficit--;
+            size--;
+
+            if (tenant.items.isEmpty()) {
+                retire(tenant);
+            } else if (tenant.deficit <= 0) {
+                active.addLast(active.pollFirst());
+            }
+            return element;
+        }
+    }
+
+    public synchronized E pollOldest(String tenantId) {
+        Tenant<E> tenant = tenants.get(tenantId);
+        if (tenant == null) {
+            return null;
+        }
+        E element = tenant.items.pollFirst();
+        if (element != null) {
+            size--;
+        }
+        return element;
+    }
+
+    private void retire(Tenant<E> tenant) {
+        active.pollFirst();
+        tenant.active = false;
+        tenant.deficit = 0;
+        tenants.remove(tenant.id);
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public synchronized int size(String tenantId) {
+        Tenant<E> tenant = tenants.get(tenantId);
+        return tenant != null ? tenant.items.size() : 0;
+    }
+
+    public synchronized int getTenantCount() {
+        return active.size();
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public int capacity() {
+        return capacity;
+    }
+
+    private static final class Tenant<E> {
+        private final String id;
+        private final int weight;
+        private final int limit;
+        private final ArrayDeque<E> items = new ArrayDeque<>();
+        private int deficit;
+        private boolean active;
+
+        private Tenant(String id, int weight, int limit) {
+            this.id = id;
+            this.weight = weight;
+            this.limit = limit;
+        }
+    }
+}
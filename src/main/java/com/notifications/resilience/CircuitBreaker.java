@@ -0,0 +1,217 @@
+package com.notifications.resilience;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.LongSupplier;
+
+public final class CircuitBreaker {
+
+    public enum State {
+        CLOSED, OPEN, HALF_OPEN
+    }
+
+    private static final Logger logger = LoggerFactory.getLogger(CircuitBreaker.class);
+
+    private final String name;
+    private final CircuitBreakerConfig config;
+    private final LongSupplier clock;
+    private final long bucketNanos;
+    private final long slowCallNanos;
+    private final long openNanos;
+    private final AtomicReferenceArray<Bucket> window;
+
+    private final AtomicReference<State> state = new AtomicReference<>(State.CLOSED);
+    private final AtomicInteger halfOpenPermits = new AtomicInteger();
+    private final AtomicInteger halfOpenSuccesses = new AtomicInteger();
+    private volatile long openedAt;
+    private volatile long windowStart;
+
+    public CircuitBreaker(String name, CircuitBreakerConfig config) {
+        this(name, config, System::nanoTime);
+    }
+
+    CircuitBreaker(String name, CircuitBreakerConfig config, LongSupplier clock) {
+        this.name = Objects.requireNonNull(name, "Name cannot be null");
+        this.config = Objects.requireNonNull(config, "CircuitBreakerConfig cannot be null");
+        this.clock = clock;
+        this.bucketNanos = Math.max(1, config.getWindow().toNanos() / config.getBuckets());
+        this.slowCallNanos = config.getSlowCallDuration().toNanos();
+        this.openNanos = config.getOpenDuration().toNanos();
+        this.window = new AtomicReferenceArray<>(config.getBuckets());
+        this.windowStart = epoch(clock.getAsLong());
+    }
+
+    public boolean tryAcquirePermission() {
+        return switch (state.get()) {
+            case CLOSED -> true;
+            case OPEN -> {
+                if (clock.getAsLong() - openedAt < openNanos) {
+                    yield false;
+                }
+                transitionToHalfOpen();
+                yield tryAcquireHalfOpenPermit();
+            }
+            case HALF_OPEN -> tryAcquireHalfOpenPermit();
+        };
+    }
+
+    public boolean isCallPermitted() {
+        return switch (state.get()) {
+            case CLOSED -> true;
+            case OPEN -> clock.getAsLong() - openedAt >= openNanos;
+            case HALF_OPEN -> halfOpenPermits.get() > 0;
+        };
+    }
+
+    public void onSuccess(long durationNanos) {
+        record(false, durationNanos >= slowCallNanos);
+    }
+
+    public void onFailure(long durationNanos) {
+        record(true, durationNanos >= slowCallNanos);
+    }
+
+    public long getRemainingOpenNanos() {
+        return state.get() == State.OPEN ? Math.max(0, openNanos - (clock.getAsLong() - openedAt)) : 0;
+    }
+
+    public State getState() {
+        return state.get();
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public CircuitBreakerStats getStats() {
+        long[] totals = totals(epoch(clock.getAsLong()));
+        return new CircuitBreakerStats(name, state.get(), totals[0], rate(totals[1], totals[0]), rate(totals[2], totals[0]));
+    }
+
+    private void record(boolean failure, boolean slow) {
+        State current = state.get();
+        if (current == State.HALF_OPEN) {
+            if (failure || slow) {
+                transitionToOpen(State.HALF_OPEN);
+            } else if (halfOpenSuccesses.incrementAndGet() >= config.getHalfOpenCalls()) {
+                transitionToClosed();
+            }
+            return;
+        }
+        if (current == State.OPEN) {
+            return;
+        }
+
+        long epoch = epoch(clock.getAsLong());
+        Bucket bucket = bucketFor(epoch);
+        bucket.calls.incrementAndGet();
+        if (failure) {
+            bucket.failures.incrementAndGet();
+        }
+        if (slow) {
+            bucket.slowCalls.incrementAndGet();
+        }
+
+        long[] totals = totals(epoch);
+        if (totals[0] < config.getMinimumCalls()) {
+            return;
+        }
+        if (rate(totals[1], totals[0]) >= config.getFailureRateThreshold()
+                || rate(totals[2], totals[0]) >= config.getSlowCallRateThreshold()) {
+            transitionToOpen(State.CLOSED);
+        }
+    }
+
+    // Buckets are replaced, never cleared, when their slot comes round again, so
+    // recording stays a couple of CAS operations.
+    private Bucket bucketFor(long epoch) {
+        int index = (int) (epoch % window.length());
+        while (true) {
+            Bucket bucket = window.get(index);
+            if (bucket != null && bucket.epoch >= epoch) {
+                return bucket;
+            }
+            Bucket fresh = new Bucket(epoch);
+            if (window.compareAndSet(index, bucket, fresh)) {
+                return fresh;
+            }
+        }
+    }
+
+    private long[] totals(long epoch) {
+        long oldest = Math.max(epoch - window.length() + 1, windowStart);
+        long calls = 0;
+        long failures = 0;
+        long slowCalls = 0;
+        for (int i = 0; i < window.length(); i++) {
+            Bucket bucket = window.get(i);
+            if (bucket != null && bucket.epoch >= oldest && bucket.epoch <= epoch) {
+                calls += bucket.calls.get();
+                failures += bucket.failures.get();
+                slowCalls += bucket.slowCalls.get();
+            }
+        }
+        return new long[]{calls, failures, slowCalls};
+    }
+
+    private void transitionToOpen(State from) {
+        if (state.compareAndSet(from, State.OPEN)) {
+            openedAt = clock.getAsLong();
+            logger.warn("Circuit breaker '{}' opened", name);
+        }
+    }
+
+    private void transitionToHalfOpen() {
+        if (state.get() == State.OPEN) {
+            halfOpenPermits.set(config.getHalfOpenCalls());
+            halfOpenSuccesses.set(0);
+            if (state.compareAndSet(State.OPEN, State.HALF_OPEN)) {
+                logger.info("Circuit breaker '{}' half-open, letting {} trial call(s) through",
+                        name, config.getHalfOpenCalls());
+            }
+        }
+    }
+
+    private void transitionToClosed() {
+        windowStart = epoch(clock.getAsLong()) + 1;
+        if (state.compareAndSet(State.HALF_OPEN, State.CLOSED)) {
+            logger.info("Circuit breaker '{}' closed", name);
+        }
+    }
+
+    private boolean tryAcquireHalfOpenPermit() {
+        int permits;
+        do {
+            permits = halfOpenPermits.get();
+            if (permits <= 0) {
+                return false;
+            }
+        } while (!halfOpenPermits.compareAndSet(permits, permits - 1));
+        return true;
+    }
+
+    private long epoch(long nanos) {
+        return nanos / bucketNanos;
+    }
+
+    private static double rate(long count, long total) {
+        return total == 0 ? 0 : (double) count / total;
+    }
+
+    private static final class Bucket {
+        private final long epoch;
+        private final AtomicLong calls = new AtomicLong();
+        private final AtomicLong failures = new AtomicLong();
+        private final AtomicLong slowCalls = new AtomicLong();
+
+        private Bucket(long epoch) {
+            this.epoch = epoch;
+        }
+    }
+}
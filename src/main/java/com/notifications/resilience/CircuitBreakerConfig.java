@@ -0,0 +1,37 @@
+package com.notifications.resilience;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.Duration;
+
+@Getter
+@Builder
+public final class CircuitBreakerConfig {
+
+    private final double failureRateThreshold;
+    private final double slowCallRateThreshold;
+    private final Duration slowCallDuration;
+    private final Duration window;
+    private final int buckets;
+    private final int minimumCalls;
+    private final Duration openDuration;
+    private final int halfOpenCalls;
+
+    public CircuitBreakerConfig(double failureRateThreshold, double slowCallRateThreshold, Duration slowCallDuration,
+                                Duration window, int buckets, int minimumCalls, Duration openDuration,
+                                int halfOpenCalls) {
+        this.failureRateThreshold = failureRateThreshold > 0 ? failureRateThreshold : 0.5;
+        this.slowCallRateThreshold = slowCallRateThreshold > 0 ? slowCallRateThreshold : 1.0;
+        this.slowCallDuration = slowCallDuration != null ? slowCallDuration : Duration.ofSeconds(5);
+        this.window = window != null ? window : Duration.ofSeconds(10);
+        this.buckets = buckets > 0 ? buckets : 10;
+        this.minimumCalls = minimumCalls > 0 ? minimumCalls : 20;
+        this.openDuration = openDuration != null ? openDuration : Duration.ofSeconds(30);
+        this.halfOpenCalls = halfOpenCalls > 0 ? halfOpenCalls : 5;
+    }
+
+    public static CircuitBreakerConfig defaults() {
+        return CircuitBreakerConfig.builder().build();
+    }
+}
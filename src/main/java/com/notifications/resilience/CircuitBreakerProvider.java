@@ -0,0 +1,170 @@
+package com.notifications.resilience;
+
+import com.notifications.core.Deadline;
+import com.notifications.core.Notification;
+import com.notifications.core.NotificationProvider;
+import com.notifications.core.NotificationResult;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.TimeUnit;
+
+public final class CircuitBreakerProvider<T extends Notification> implements NotificationProvider<T> {
+
+    private final NotificationProvider<T> delegate;
+    private final CircuitBreaker circuitBreaker;
+
+    public CircuitBreakerProvider(NotificationProvider<T> delegate, CircuitBreaker circuitBreaker) {
+        this.delegate = Objects.requireNonNull(delegate, "Provider cannot be null");
+        this.circuitBreaker = Objects.requireNonNull(circuitBreaker, "Circuit breaker cannot be null");
+    }
+
+    public static <T extends Notification> NotificationProvider<T> decorate(
+            NotificationProvider<T> provider, CircuitBreaker circuitBreaker) {
+        return circuitBreaker != null ? new CircuitBreakerProvider<>(provider, circuitBreaker) : provider;
+    }
+
+    @Override
+    public String getProviderName() {
+        return delegate.getProviderName();
+    }
+
+    @Override
+    public NotificationResult send(T notification) {
+        if (!circuitBreaker.tryAcquirePermission()) {
+            return circuitOpen();
+        }
+        long start = System.nanoTime();
+        try {
+            NotificationResult result = delegate.send(notification);
+            record(result, System.nanoTime() - start);
+            return result;
+        } catch (RuntimeException e) {
+            circuitBreaker.onFailure(System.nanoTime() - start);
+            throw e;
+        }
+    }
+
+    @Override
+    public CompletionStage<NotificationResult> sendAsync(T notification) {
+        return sendAsync(notification, Deadline.of(notification));
+    }
+
+    @Override
+    public CompletionStage<NotificationResult> sendAsync(T notification, Deadline deadline) {
+        if (deadline.isExpired()) {
+            return delegate.sendAsync(notification, deadline);
+        }
+        if (!circuitBreaker.tryAcquirePermission()) {
+            return CompletableFuture.completedFuture(circuitOpen());
+        }
+        long start = System.nanoTime();
+        CompletionStage<NotificationResult> pending;
+        try {
+            pending = delegate.sendAsync(notification, deadline);
+        } catch (RuntimeException e) {
+            circuitBreaker.onFailure(System.nanoTime() - start);
+            throw e;
+        }
+        return pending.whenComplete((result, error) -> {
+            long duration = System.nanoTime() - start;
+            if (error != null) {
+                circuitBreaker.onFailure(duration);
+            } else {
+                record(result, duration);
+            }
+        });
+    }
+
+    @Override
+    public List<NotificationResult> sendBatch(List<T> notifications) {
+        if (!circuitBreaker.tryAcquirePermission()) {
+            List<NotificationResult> results = new ArrayList<>(notifications.size());
+            for (int i = 0; i < notifications.size(); i++) {
+                results.add(circuitOpen());
+            }
+            return results;
+        }
+        long start = System.nanoTime();
+        List<NotificationResult> results;
+        try {
+            results = delegate.sendBatch(notifications);
+        } catch (RuntimeException e) {
+            circuitBreaker.onFailure(System.nanoTime() - start);
+            throw e;
+        }
+        long duration = System.nanoTime() - start;
+        for (NotificationResult result : results) {
+            record(result, duration);
+        }
+        return results;
+    }
+
+    @Override
+    public int getMaxBatchSize() {
+        return delegate.getMaxBatchSize();
+    }
+
+    @Override
+    public List<List<Integer>> getBatchRequests(List<T> notifications) {
+        return delegate.getBatchRequests(notifications);
+    }
+
+    @Override
+    public boolean isConfigured() {
+        return delegate.isConfigured();
+    }
+
+    @Override
+    public boolean isAvailable() {
+        return circuitBreaker.isCallPermitted() && delegate.isAvailable();
+    }
+
+    // Lets the service report an open breaker as CIRCUIT_OPEN with retry_after_ms
+    // instead of a bare CHANNEL_NOT_READY.
+    @Override
+    public Optional<NotificationResult> getUnavailableResult() {
+        return circuitBreaker.isCallPermitted() ? delegate.getUnavailableResult() : Optional.of(circuitOpen());
+    }
+
+    @Override
+    public String getChannelType() {
+        return delegate.getChannelType();
+    }
+
+    public CircuitBreaker getCircuitBreaker() {
+        return circuitBreaker;
+    }
+
+    // Only provider-side failures count against the breaker: a bad phone number or a
+    // local rate limit says nothing about the provider's health. A deadline that ran out
+    // while the provider had the call does: sends that were already late never get here.
+    private void record(NotificationResult result, long durationNanos) {
+        String errorCode = result.getErrorCode().orElse(null);
+        boolean providerFailure = result.isFailure()
+                && (result.getStatusCode() >= 500
+                        || "PROVIDER_ERROR".equals(errorCode)
+                        || "DEADLINE_EXCEEDED".equals(errorCode));
+        if (providerFailure) {
+            circuitBreaker.onFailure(durationNanos);
+        } else {
+            circuitBreaker.onSuccess(durationNanos);
+        }
+    }
+
+    private NotificationResult circuitOpen() {
+        return new NotificationResult.Builder()
+                .success(false)
+                .error(String.format("Circuit breaker '%s' is open", circuitBreaker.getName()))
+                .errorCode("CIRCUIT_OPEN")
+                .channel(delegate.getChannelType())
+                .provider(delegate.getProviderName())
+                .statusCode(503)
+                .addMetadata("retry_after_ms", TimeUnit.NANOSECONDS.toMillis(circuitBreaker.getRemainingOpenNanos()))
+                .build();
+    }
+}
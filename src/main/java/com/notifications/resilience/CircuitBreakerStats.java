@@ -0,0 +1,45 @@
+package com.notifications.resilience;
+
+public final class CircuitBreakerStats {
+
+    private final String name;
+    private final CircuitBreaker.State state;
+    private final long calls;
+    private final double failureRate;
+    private final double slowCallRate;
+
+    public CircuitBreakerStats(String name, CircuitBreaker.State state, long calls,
+                               double failureRate, double slowCallRate) {
+        this.name = name;
+        this.state = state;
+        this.calls = calls;
+        this.failureRate = failureRate;
+        this.slowCallRate = slowCallRate;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public CircuitBreaker.State getState() {
+        return state;
+    }
+
+    public long getCalls() {
+        return calls;
+    }
+
+    public double getFailureRate() {
+        return failureRate;
+    }
+
+    public double getSlowCallRate() {
+        return slowCallRate;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("CircuitBreakerStats{name='%s', state=%s, calls=%d, failureRate=%.2f, slowCallRate=%.2f}",
+                name, state, calls, failureRate, slowCallRate);
+    }
+}
@@ -0,0 +1,28 @@
+package com.notifications.resilience;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.Duration;
+
+@Getter
+@Builder
+public final class RateLimitConfig {
+
+    private final double permitsPerSecond;
+    private final int burst;
+    private final Duration maxWait;
+
+    public RateLimitConfig(double permitsPerSecond, int burst, Duration maxWait) {
+        if (permitsPerSecond <= 0) {
+            throw new IllegalArgumentException("Permits per second must be positive");
+        }
+        this.permitsPerSecond = permitsPerSecond;
+        this.burst = burst > 0 ? burst : 1;
+        this.maxWait = maxWait != null ? maxWait : Duration.ofSeconds(1);
+    }
+
+    public static RateLimitConfig perSecond(double permitsPerSecond) {
+        return RateLimitConfig.builder().permitsPerSecond(permitsPerSecond).build();
+    }
+}
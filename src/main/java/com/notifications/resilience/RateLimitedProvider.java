@@ -0,0 +1,168 @@
+package com.notifications.resilience;
+
+import com.notifications.core.Deadline;
+import com.notifications.core.Notification;
+import com.notifications.core.NotificationProvider;
+import com.notifications.core.NotificationResult;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.TimeUnit;
+
+public final class RateLimitedProvider<T extends Notification> implements NotificationProvider<T> {
+
+    private static final Logger logger = LoggerFactory.getLogger(RateLimitedProvider.class);
+
+    private final NotificationProvider<T> delegate;
+    private final TokenBucketRateLimiter rateLimiter;
+
+    public RateLimitedProvider(NotificationProvider<T> delegate, TokenBucketRateLimiter rateLimiter) {
+        this.delegate = Objects.requireNonNull(delegate, "Provider cannot be null");
+        this.rateLimiter = Objects.requireNonNull(rateLimiter, "Rate limiter cannot be null");
+    }
+
+    public static <T extends Notification> NotificationProvider<T> decorate(
+            NotificationProvider<T> provider, TokenBucketRateLimiter rateLimiter) {
+        return rateLimiter != null ? new RateLimitedProvider<>(provider, rateLimiter) : provider;
+    }
+
+    @Override
+    public String getProviderName() {
+        return delegate.getProviderName();
+    }
+
+    @Override
+    public NotificationResult send(T notification) {
+        long waitNanos = rateLimiter.reserve();
+        if (waitNanos == TokenBucketRateLimiter.REJECTED) {
+            return rateLimited();
+        }
+        if (waitNanos > 0) {
+            try {
+                TimeUnit.NANOSECONDS.sleep(waitNanos);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return rateLimited();
+            }
+        }
+        return delegate.send(notification);
+    }
+
+    @Override
+    public CompletionStage<NotificationResult> sendAsync(T notification) {
+        return sendAsync(notification, Deadline.of(notification));
+    }
+
+    // Waiting for a permit that only frees up after the deadline would be wasted, so the
+    // wait is capped by whatever time the caller has left.
+    @Override
+    public CompletionStage<NotificationResult> sendAsync(T notification, Deadline deadline) {
+        if (deadline.isExpired()) {
+            return delegate.sendAsync(notification, deadline);
+        }
+        long waitNanos = rateLimiter.reserve(1, Math.min(rateLimiter.getMaxWaitNanos(), deadline.remainingNanos()));
+        if (waitNanos == TokenBucketRateLimiter.REJECTED) {
+            return CompletableFuture.completedFuture(rateLimited());
+        }
+        if (waitNanos == 0) {
+            return delegate.sendAsync(notification, deadline);
+        }
+        return CompletableFuture.runAsync(() -> { }, CompletableFuture.delayedExecutor(waitNanos, TimeUnit.NANOSECONDS))
+                .thenCompose(ignored -> delegate.sendAsync(notification, deadline));
+    }
+
+    // Provider rate limits count API requests, so every request the delegate would make
+    // for the batch costs one permit. Whatever got a permit is then sent in one call; it
+    // regroups into at most as many requests as were paid for.
+    @Override
+    public List<NotificationResult> sendBatch(List<T> notifications) {
+        NotificationResult[] results = new NotificationResult[notifications.size()];
+        boolean interrupted = false;
+        for (List<Integer> request : delegate.getBatchRequests(notifications)) {
+            boolean acquired = false;
+            if (!interrupted) {
+                try {
+                    acquired = rateLimiter.acquire();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    interrupted = true;
+                }
+            }
+            if (!acquired) {
+                for (int index : request) {
+                    results[index] = rateLimited();
+                }
+            }
+        }
+
+        List<T> permitted = new ArrayList<>(notifications.size());
+        List<Integer> positions = new ArrayList<>(notifications.size());
+        for (int i = 0; i < notifications.size(); i++) {
+            if (results[i] == null) {
+                permitted.add(notifications.get(i));
+                positions.add(i);
+            }
+        }
+        if (!permitted.isEmpty()) {
+            List<NotificationResult> sent = delegate.sendBatch(permitted);
+            for (int i = 0; i < positions.size(); i++) {
+                results[positions.get(i)] = sent.get(i);
+            }
+        }
+        return Arrays.asList(results);
+    }
+
+    @Override
+    public int getMaxBatchSize() {
+        return delegate.getMaxBatchSize();
+    }
+
+    @Override
+    public List<List<Integer>> getBatchRequests(List<T> notifications) {
+        return delegate.getBatchRequests(notifications);
+    }
+
+    @Override
+    public boolean isConfigured() {
+        return delegate.isConfigured();
+    }
+
+    @Override
+    public boolean isAvailable() {
+        return delegate.isAvailable();
+    }
+
+    @Override
+    public Optional<NotificationResult> getUnavailableResult() {
+        return delegate.getUnavailableResult();
+    }
+
+    @Override
+    public String getChannelType() {
+        return delegate.getChannelType();
+    }
+
+    public TokenBucketRateLimiter getRateLimiter() {
+        return rateLimiter;
+    }
+
+    private NotificationResult rateLimited() {
+        logger.warn("Rate limit exceeded for provider {}", delegate.getProviderName());
+        return new NotificationResult.Builder()
+                .success(false)
+                .error(String.format("Rate limit exceeded for provider %s", delegate.getProviderName()))
+                .errorCode("RATE_LIMITED")
+                .channel(delegate.getChannelType())
+                .provider(delegate.getProviderName())
+                .statusCode(429)
+                .addMetadata("retry_after_ms", TimeUnit.NANOSECONDS.toMillis(rateLimiter.getRetryAfterNanos()))
+                .build();
+    }
+}
@@ -0,0 +1,38 @@
+package com.notifications.resilience;
+
+public final class RateLimiterStats {
+
+    private final long granted;
+    private final long throttled;
+    private final long totalWaitNanos;
+    private final int availablePermits;
+
+    public RateLimiterStats(long granted, long throttled, long totalWaitNanos, int availablePermits) {
+        this.granted = granted;
+        this.throttled = throttled;
+        this.totalWaitNanos = totalWaitNanos;
+        this.availablePermits = availablePermits;
+    }
+
+    public long getGranted() {
+        return granted;
+    }
+
+    public long getThrottled() {
+        return throttled;
+    }
+
+    public long getTotalWaitNanos() {
+        return totalWaitNanos;
+    }
+
+    public int getAvailablePermits() {
+        return availablePermits;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("RateLimiterStats{granted=%d, throttled=%d, totalWaitMillis=%d, available=%d}",
+                granted, throttled, totalWaitNanos / 1_000_000, availablePermits);
+    }
+}
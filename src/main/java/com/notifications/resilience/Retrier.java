@@ -0,0 +1,176 @@
+package com.notifications.resilience;
+
+import com.notifications.core.Deadline;
+import com.notifications.core.NotificationResult;
+import com.notifications.scheduling.HashedWheelTimer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+public final class Retrier {
+
+    private static final Logger logger = LoggerFactory.getLogger(Retrier.class);
+
+    private final RetryPolicy policy;
+    private final RetryBudget budget;
+    private final HashedWheelTimer timer;
+    private final Executor executor;
+
+    private final LongAdder retries = new LongAdder();
+    private final LongAdder recovered = new LongAdder();
+    private final LongAdder exhausted = new LongAdder();
+    private final LongAdder budgetRejected = new LongAdder();
+
+    public Retrier(RetryPolicy policy, HashedWheelTimer timer, Executor executor) {
+        this.policy = Objects.requireNonNull(policy, "RetryPolicy cannot be null");
+        this.timer = Objects.requireNonNull(timer, "Timer cannot be null");
+        this.executor = Objects.requireNonNull(executor, "Executor cannot be null");
+        this.budget = new RetryBudget(policy.getBudgetRatio(), policy.getMinRetriesPerSecond());
+    }
+
+    public CompletableFuture<NotificationResult> execute(Supplier<CompletableFuture<NotificationResult>> attempt) {
+        return execute(attempt, Deadline.none());
+    }
+
+    public CompletableFuture<NotificationResult> execute(Supplier<CompletableFuture<NotificationResult>> attempt,
+                                                         Deadline deadline) {
+        Objects.requireNonNull(attempt, "Attempt cannot be null");
+        Objects.requireNonNull(deadline, "Deadline cannot be null");
+        budget.deposit();
+        CompletableFuture<NotificationResult> outcome = new CompletableFuture<>();
+        run(attempt, deadline, 1, outcome);
+        return outcome;
+    }
+
+    public RetryStats getStats() {
+        return new RetryStats(retries.sum(), recovered.sum(), exhausted.sum(), budgetRejected.sum());
+    }
+
+    private void run(Supplier<CompletableFuture<NotificationResult>> attempt, Deadline deadline, int attemptNumber,
+                     CompletableFuture<NotificationResult> outcome) {
+        CompletableFuture<NotificationResult> pending;
+        try {
+            pending = attempt.get();
+        } catch (RuntimeException e) {
+            outcome.completeExceptionally(e);
+            return;
+        }
+
+        pending.whenComplete((result, error) -> {
+            if (error != null) {
+                outcome.completeExceptionally(error);
+                return;
+            }
+            if (!policy.isRetryable(result)) {
+                if (attemptNumber > 1 && result.isSuccess()) {
+                    recovered.increment();
+                }
+                outcome.complete(result);
+                return;
+            }
+            if (attemptNumber >= policy.getMaxAttempts()) {
+                exhausted.increment();
+                logger.warn("Giving up after {} attempt(s): {}", attemptNumber, result.getError().orElse("unknown error"));
+                outcome.complete(result);
+                return;
+            }
+
+            long delayNanos = Math.max(
+                    policy.backoffNanos(attemptNumber, ThreadLocalRandom.current().nextDouble()),
+                    retryAfterNanos(result));
+            // A retry that could only start after the deadline would be rejected anyway,
+            // so the last result is returned now instead of spending budget on it.
+            if (delayNanos >= deadline.remainingNanos()) {
+                logger.debug("Not retrying: the deadline expires before the next attempt");
+                outcome.complete(result);
+                return;
+            }
+            if (!budget.tryWithdraw()) {
+                budgetRejected.increment();
+                logger.warn("Retry budget exhausted, not retrying: {}", result.getError().orElse("unknown error"));
+                outcome.complete(result);
+                return;
+            }
+
+            retries.increment();
+            logger.debug("Retrying attempt {} in {} ms", attemptNumber + 1, TimeUnit.NANOSECONDS.toMillis(delayNanos));
+            try {
+                timer.schedule(new PendingRetry(attempt, deadline, attemptNumber + 1, outcome, result),
+                        delayNanos, TimeUnit.NANOSECONDS);
+            } catch (RuntimeException e) {
+                outcome.complete(result);
+            }
+        });
+    }
+
+    // Stops the retry timer; retries that were still waiting settle with the failure
+    // that triggered them. Returns how many were cut short.
+    public int close() {
+        List<Runnable> unprocessed = timer.stop();
+        int settled = 0;
+        for (Runnable task : unprocessed) {
+            if (task instanceof PendingRetry retry && retry.outcome.complete(retry.lastResult)) {
+                settled++;
+            }
+        }
+        if (settled > 0) {
+            logger.info("Retrier closed, {} waiting retry attempt(s) settled with their last result", settled);
+        }
+        return settled;
+    }
+
+    private final class PendingRetry implements Runnable {
+        private final Supplier<CompletableFuture<NotificationResult>> attempt;
+        private final Deadline deadline;
+        private final int attemptNumber;
+        private final CompletableFuture<NotificationResult> outcome;
+        private final NotificationResult lastResult;
+
+        private PendingRetry(Supplier<CompletableFuture<NotificationResult>> attempt, Deadline deadline,
+                             int attemptNumber, CompletableFuture<NotificationResult> outcome,
+                             NotificationResult lastResult) {
+            this.attempt = attempt;
+            this.deadline = deadline;
+            this.attemptNumber = attemptNumber;
+            this.outcome = outcome;
+            this.lastResult = lastResult;
+        }
+
+        @Override
+        public void run() {
+            executor.execute(() -> Retrier.this.run(attempt, deadline, attemptNumber, outcome));
+        }
+    }
+
+    // Providers report Retry-After either in milliseconds or, like the HTTP header, in seconds.
+    private static long retryAfterNanos(NotificationResult result) {
+        Object millis = result.getProviderMetadata().get("retry_after_ms");
+        if (millis != null) {
+            return TimeUnit.MILLISECONDS.toNanos(parse(millis));
+        }
+        Object seconds = result.getProviderMetadata().get("retry_after");
+        if (seconds != null) {
+            return TimeUnit.SECONDS.toNanos(parse(seconds));
+        }
+        return 0;
+    }
+
+    private static long parse(Object value) {
+        if (value instanceof Number number) {
+            return Math.max(0, number.longValue());
+        }
+        try {
+            return Math.max(0, Long.parseLong(value.toString().trim()));
+        } catch (NumberFormatException e) {
+            return 0;
+        }
+    }
+}
@@ -0,0 +1,52 @@
+package com.notifications.resilience;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+// Every first attempt deposits `ratio` of a retry and every retry withdraws a whole
+// one, so retries stay a bounded fraction of real traffic. A small per-second floor
+// keeps low-volume senders able to retry at all.
+public final class RetryBudget {
+
+    private static final long SCALE = 1_000;
+    private static final long MAX_BALANCE = 100 * SCALE;
+
+    private final long depositPerRequest;
+    private final AtomicLong balance = new AtomicLong();
+    private final TokenBucketRateLimiter floor;
+
+    public RetryBudget(double ratio, double minRetriesPerSecond) {
+        if (ratio <= 0) {
+            throw new IllegalArgumentException("Retry ratio must be positive");
+        }
+        this.depositPerRequest = Math.max(1, (long) (ratio * SCALE));
+        this.floor = new TokenBucketRateLimiter(RateLimitConfig.builder()
+                .permitsPerSecond(minRetriesPerSecond)
+                .burst((int) Math.max(1, Math.ceil(minRetriesPerSecond)))
+                .build());
+    }
+
+    public void deposit() {
+        long current;
+        do {
+            current = balance.get();
+            if (current >= MAX_BALANCE) {
+                return;
+            }
+        } while (!balance.compareAndSet(current, Math.min(MAX_BALANCE, current + depositPerRequest)));
+    }
+
+    public boolean tryWithdraw() {
+        long current;
+        do {
+            current = balance.get();
+            if (current < SCALE) {
+                return floor.tryAcquire();
+            }
+        } while (!balance.compareAndSet(current, current - SCALE));
+        return true;
+    }
+
+    public double getAvailableRetries() {
+        return (double) balance.get() / SCALE;
+    }
+}
@@ -0,0 +1,66 @@
+package com.notifications.resilience;
+
+import com.notifications.core.NotificationResult;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.Duration;
+import java.util.Set;
+
+@Getter
+@Builder
+public final class RetryPolicy {
+
+    private static final Set<String> DEFAULT_RETRYABLE_ERROR_CODES = Set.of("PROVIDER_ERROR", "RATE_LIMITED");
+    private static final Set<Integer> DEFAULT_RETRYABLE_STATUS_CODES = Set.of(408, 429, 500, 502, 503, 504);
+
+    private final int maxAttempts;
+    private final Duration initialBackoff;
+    private final Duration maxBackoff;
+    private final double multiplier;
+    private final double jitter;
+    private final Set<String> retryableErrorCodes;
+    private final Set<Integer> retryableStatusCodes;
+    private final double budgetRatio;
+    private final double minRetriesPerSecond;
+
+    public RetryPolicy(int maxAttempts, Duration initialBackoff, Duration maxBackoff, double multiplier, double jitter,
+                       Set<String> retryableErrorCodes, Set<Integer> retryableStatusCodes,
+                       double budgetRatio, double minRetriesPerSecond) {
+        if (jitter < 0 || jitter > 1) {
+            throw new IllegalArgumentException("Jitter must be between 0 and 1");
+        }
+        this.maxAttempts = maxAttempts > 0 ? maxAttempts : 3;
+        this.initialBackoff = initialBackoff != null ? initialBackoff : Duration.ofMillis(100);
+        this.maxBackoff = maxBackoff != null ? maxBackoff : Duration.ofSeconds(10);
+        this.multiplier = multiplier >= 1 ? multiplier : 2.0;
+        this.jitter = jitter;
+        this.retryableErrorCodes = retryableErrorCodes != null
+                ? Set.copyOf(retryableErrorCodes) : DEFAULT_RETRYABLE_ERROR_CODES;
+        this.retryableStatusCodes = retryableStatusCodes != null
+                ? Set.copyOf(retryableStatusCodes) : DEFAULT_RETRYABLE_STATUS_CODES;
+        this.budgetRatio = budgetRatio > 0 ? budgetRatio : 0.2;
+        this.minRetriesPerSecond = minRetriesPerSecond > 0 ? minRetriesPerSecond : 10;
+    }
+
+    public static RetryPolicy defaults() {
+        return RetryPolicy.builder().build();
+    }
+
+    public boolean isRetryable(NotificationResult result) {
+        if (result.isSuccess()) {
+            return false;
+        }
+        String errorCode = result.getErrorCode().orElse(null);
+        return (errorCode != null && retryableErrorCodes.contains(errorCode))
+                || retryableStatusCodes.contains(result.getStatusCode());
+    }
+
+    // Exponential backoff with the top `jitter` fraction randomized, so a batch of
+    // failures does not come back in lockstep.
+    public long backoffNanos(int attempt, double random) {
+        double exponential = initialBackoff.toNanos() * Math.pow(multiplier, Math.max(0, attempt - 1));
+        double capped = Math.min(exponential, maxBackoff.toNanos());
+        return (long) (capped * (1 - jitter * random));
+    }
+}
@@ -0,0 +1,38 @@
+package com.notifications.resilience;
+
+public final class RetryStats {
+
+    private final long retries;
+    private final long recovered;
+    private final long exhausted;
+    private final long budgetRejected;
+
+    public RetryStats(long retries, long recovered, long exhausted, long budgetRejected) {
+        this.retries = retries;
+        this.recovered = recovered;
+        this.exhausted = exhausted;
+        this.budgetRejected = budgetRejected;
+    }
+
+    public long getRetries() {
+        return retries;
+    }
+
+    public long getRecovered() {
+        return recovered;
+    }
+
+    public long getExhausted() {
+        return exhausted;
+    }
+
+    public long getBudgetRejected() {
+        return budgetRejected;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("RetryStats{retries=%d, recovered=%d, exhausted=%d, budgetRejected=%d}",
+                retries, recovered, exhausted, budgetRejected);
+    }
+}
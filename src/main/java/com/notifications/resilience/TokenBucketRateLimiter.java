@@ -0,0 +1,113 @@
+package com.notifications.resilience;
+
+import java.time.Duration;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+// Token bucket expressed as GCRA: the whole bucket state is a single "theoretical
+// arrival time", so acquiring is one CAS and never takes a lock.
+public final class TokenBucketRateLimiter {
+
+    public static final long REJECTED = -1;
+
+    private final long emissionIntervalNanos;
+    private final long burstNanos;
+    private final int burst;
+    private final long defaultMaxWaitNanos;
+    private final LongSupplier clock;
+    private final AtomicLong theoreticalArrival;
+
+    private final LongAdder granted = new LongAdder();
+    private final LongAdder throttled = new LongAdder();
+    private final LongAdder totalWaitNanos = new LongAdder();
+
+    public TokenBucketRateLimiter(RateLimitConfig config) {
+        this(config, System::nanoTime);
+    }
+
+    TokenBucketRateLimiter(RateLimitConfig config, LongSupplier clock) {
+        Objects.requireNonNull(config, "RateLimitConfig cannot be null");
+        this.emissionIntervalNanos = Math.max(1, (long) (TimeUnit.SECONDS.toNanos(1) / config.getPermitsPerSecond()));
+        this.burst = config.getBurst();
+        this.burstNanos = emissionIntervalNanos * burst;
+        this.defaultMaxWaitNanos = config.getMaxWait().toNanos();
+        this.clock = clock;
+        this.theoreticalArrival = new AtomicLong(clock.getAsLong());
+    }
+
+    public boolean tryAcquire() {
+        return tryAcquire(1);
+    }
+
+    public boolean tryAcquire(int permits) {
+        return reserve(permits, 0) == 0;
+    }
+
+    public boolean acquire() throws InterruptedException {
+        return acquire(1, Duration.ofNanos(defaultMaxWaitNanos));
+    }
+
+    public boolean acquire(int permits, Duration timeout) throws InterruptedException {
+        long waitNanos = reserve(permits, timeout.toNanos());
+        if (waitNanos == REJECTED) {
+            return false;
+        }
+        if (waitNanos > 0) {
+            TimeUnit.NANOSECONDS.sleep(waitNanos);
+        }
+        return true;
+    }
+
+    public long reserve() {
+        return reserve(1, defaultMaxWaitNanos);
+    }
+
+    // Claims the permits and returns how long the caller has to wait before using them,
+    // or REJECTED when that wait would exceed maxWaitNanos (nothing is claimed then).
+    public long reserve(int permits, long maxWaitNanos) {
+        if (permits <= 0 || permits > burst) {
+            throw new IllegalArgumentException(String.format("Permits must be between 1 and %d", burst));
+        }
+
+        long cost = emissionIntervalNanos * permits;
+        while (true) {
+            long now = clock.getAsLong();
+            long current = theoreticalArrival.get();
+            long next = Math.max(current, now) + cost;
+            long waitNanos = next - now - burstNanos;
+            if (waitNanos > maxWaitNanos) {
+                throttled.increment();
+                return REJECTED;
+            }
+            if (theoreticalArrival.compareAndSet(current, next)) {
+                granted.add(permits);
+                if (waitNanos > 0) {
+                    totalWaitNanos.add(waitNanos);
+                    return waitNanos;
+                }
+                return 0;
+            }
+        }
+    }
+
+    public long getMaxWaitNanos() {
+        return defaultMaxWaitNanos;
+    }
+
+    public int getAvailablePermits() {
+        long backlog = Math.max(0, theoreticalArrival.get() - clock.getAsLong());
+        return (int) Math.max(0, (burstNanos - backlog) / emissionIntervalNanos);
+    }
+
+    public long getRetryAfterNanos() {
+        long backlog = theoreticalArrival.get() - clock.getAsLong();
+        return Math.max(0, backlog + emissionIntervalNanos - burstNanos);
+    }
+
+    public RateLimiterStats getStats() {
+        return new RateLimiterStats(granted.sum(), throttled.sum(), totalWaitNanos.sum(), getAvailablePermits());
+    }
+}
@@ -0,0 +1,327 @@
+package com.notifications.scheduling;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+// Timeouts are handed to the worker through lock-free queues and bucketed by
+// deadline, so scheduling and cancelling are O(1) and no thread sleeps per task.
+// Wheels are stacked: level n covers wheelSize^(n+1) ticks, and a far timeout
+// cascades down one level each time the lower wheel completes a revolution, so
+// each tick only touches the timeouts that are actually due.
+// Tasks run on the worker thread and must hand real work off to an executor.
+public final class HashedWheelTimer implements AutoCloseable {
+
+    private static final Logger logger = LoggerFactory.getLogger(HashedWheelTimer.class);
+    private static final int MAX_TRANSFERS_PER_TICK = 100_000;
+    private static final int DEFAULT_LEVELS = 4;
+    private static final int MAX_LEVELS = 8;
+
+    private final long tickNanos;
+    private final int bits;
+    private final int mask;
+    private final Bucket[][] wheels;
+    private final Queue<Timeout> pendingAdds = new ConcurrentLinkedQueue<>();
+    private final Queue<Timeout> pendingCancels = new ConcurrentLinkedQueue<>();
+    private final AtomicLong pending = new AtomicLong();
+    private final long startTime;
+    private final Thread worker;
+    private volatile boolean running = true;
+    private long tick;
+    private List<Runnable> unprocessed = List.of();
+
+    public HashedWheelTimer(String name, Duration tickDuration, int wheelSize) {
+        this(name, tickDuration, wheelSize, DEFAULT_LEVELS);
+    }
+
+    public HashedWheelTimer(String name, Duration tickDuration, int wheelSize, int levels) {
+        Objects.requireNonNull(name, "Name cannot be null");
+        Objects.requireNonNull(tickDuration, "Tick duration cannot be null");
+        if (tickDuration.toNanos() <= 0) {
+            throw new IllegalArgumentException("Tick duration must be positive");
+        }
+        if (wheelSize <= 0 || wheelSize > 1 << 20) {
+            throw new IllegalArgumentException("Wheel size must be between 1 and 2^20");
+        }
+        if (levels < 1 || levels > MAX_LEVELS) {
+            throw new IllegalArgumentException("Levels must be between 1 and " + MAX_LEVELS);
+        }
+
+        int size = Integer.highestOneBit(wheelSize);
+        if (size < wheelSize) {
+            size <<= 1;
+        }
+        this.tickNanos = tickDuration.toNanos();
+        this.bits = Integer.numberOfTrailingZeros(size);
+        this.mask = size - 1;
+        this.wheels = new Bucket[levels][size];
+        for (Bucket[] wheel : wheels) {
+            for (int i = 0; i < size; i++) {
+                wheel[i] = new Bucket();
+            }
+        }
+        this.startTime = System.nanoTime();
+        this.worker = Thread.ofPlatform().name(name).daemon(true).start(this::run);
+    }
+
+    public Timeout schedule(Runnable task, long delay, TimeUnit unit) {
+        Objects.requireNonNull(task, "Task cannot be null");
+        if (!running) {
+            throw new IllegalStateException("Timer is stopped");
+        }
+        long deadline = System.nanoTime() - startTime + Math.max(0, unit.toNanos(delay));
+        Timeout timeout = new Timeout(this, task, deadline);
+        pending.incrementAndGet();
+        pendingAdds.add(timeout);
+        return timeout;
+    }
+
+    public long getPendingCount() {
+        return pending.get();
+    }
+
+    @Override
+    public void close() {
+        stop();
+    }
+
+    // Stops the worker and hands back the tasks of timeouts that never fired, so owners
+    // can settle whatever was waiting on them instead of leaving it hanging.
+    public synchronized List<Runnable> stop() {
+        running = false;
+        LockSupport.unpark(worker);
+        if (Thread.currentThread() == worker) {
+            return List.of();
+        }
+        try {
+            worker.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return List.of();
+        }
+        List<Runnable> tasks = unprocessed;
+        unprocessed = List.of();
+        return tasks;
+    }
+
+    private void run() {
+        while (running) {
+            long deadline = waitForNextTick();
+            if (!running) {
+                break;
+            }
+            processCancellations();
+            cascade();
+            transferPendingAdds();
+            for (Timeout timeout = wheels[0][(int) (tick & mask)].drain(); timeout != null; ) {
+                Timeout next = timeout.next;
+                timeout.next = null;
+                if (timeout.deadline <= deadline) {
+                    timeout.expire();
+                } else if (!timeout.isCancelled()) {
+                    place(timeout);
+                }
+                timeout = next;
+            }
+            tick++;
+        }
+        unprocessed = collectUnprocessed();
+        logger.debug("Timer stopped with {} pending timeout(s)", pending.get());
+    }
+
+    private List<Runnable> collectUnprocessed() {
+        List<Runnable> tasks = new ArrayList<>();
+        for (Bucket[] wheel : wheels) {
+            for (Bucket bucket : wheel) {
+                for (Timeout timeout = bucket.drain(); timeout != null; timeout = timeout.next) {
+                    if (!timeout.isCancelled()) {
+                        tasks.add(timeout.task);
+                    }
+                }
+            }
+        }
+        Timeout timeout;
+        while ((timeout = pendingAdds.poll()) != null) {
+            if (!timeout.isCancelled()) {
+                tasks.add(timeout.task);
+            }
+        }
+        return tasks;
+    }
+
+    private long waitForNextTick() {
+        long deadline = tickNanos * (tick + 1);
+        while (running) {
+            long remaining = deadline - (System.nanoTime() - startTime);
+            if (remaining <= 0) {
+                return deadline;
+            }
+            LockSupport.parkNanos(remaining);
+        }
+        return deadline;
+    }
+
+    private void transferPendingAdds() {
+        for (int i = 0; i < MAX_TRANSFERS_PER_TICK; i++) {
+            Timeout timeout = pendingAdds.poll();
+            if (timeout == null) {
+                return;
+            }
+            if (timeout.state.get() != Timeout.PENDING) {
+                continue;
+            }
+            place(timeout);
+        }
+    }
+
+    // Runs before the current tick expires so that timeouts cascading into it are not missed.
+    private void cascade() {
+        for (int level = wheels.length - 1; level > 0; level--) {
+            int shift = bits * level;
+            if (shift >= Long.SIZE - 1 || (tick & ((1L << shift) - 1)) != 0) {
+                continue;
+            }
+            for (Timeout timeout = wheels[level][(int) ((tick >>> shift) & mask)].drain(); timeout != null; ) {
+                Timeout next = timeout.next;
+                timeout.next = null;
+                if (!timeout.isCancelled()) {
+                    place(timeout);
+                }
+                timeout = next;
+            }
+        }
+    }
+
+    // Beyond the top level's span a timeout simply re-cascades until it comes into range.
+    private void place(Timeout timeout) {
+        long target = Math.max(timeout.deadline / tickNanos, tick);
+        long delta = target - tick;
+        int level = 0;
+        while (level < wheels.length - 1) {
+            int shift = bits * (level + 1);
+            if (shift >= Long.SIZE - 1 || delta < 1L << shift) {
+                break;
+            }
+            level++;
+        }
+        wheels[level][(int) ((target >>> (bits * level)) & mask)].add(timeout);
+    }
+
+    private void processCancellations() {
+        Timeout timeout;
+        while ((timeout = pendingCancels.poll()) != null) {
+            if (timeout.bucket != null) {
+                timeout.bucket.remove(timeout);
+            }
+        }
+    }
+
+    public static final class Timeout {
+        private static final int PENDING = 0;
+        private static final int CANCELLED = 1;
+        private static final int EXPIRED = 2;
+
+        private final HashedWheelTimer timer;
+        private final Runnable task;
+        private final long deadline;
+        private final AtomicInteger state = new AtomicInteger(PENDING);
+
+        private Bucket bucket;
+        private Timeout next;
+        private Timeout prev;
+
+        private Timeout(HashedWheelTimer timer, Runnable task, long deadline) {
+            this.timer = timer;
+            this.task = task;
+            this.deadline = deadline;
+        }
+
+        public boolean cancel() {
+            if (!state.compareAndSet(PENDING, CANCELLED)) {
+                return false;
+            }
+            timer.pending.decrementAndGet();
+            timer.pendingCancels.add(this);
+            return true;
+        }
+
+        public boolean isCancelled() {
+            return state.get() == CANCELLED;
+        }
+
+        public boolean isExpired() {
+            return state.get() == EXPIRED;
+        }
+
+        private void expire() {
+            if (!state.compareAndSet(PENDING, EXPIRED)) {
+                return;
+            }
+            timer.pending.decrementAndGet();
+            try {
+                task.run();
+            } catch (Throwable t) {
+                logger.warn("Timer task threw an exception", t);
+            }
+        }
+    }
+
+    private static final class Bucket {
+        private Timeout head;
+        private Timeout tail;
+
+        private void add(Timeout timeout) {
+            timeout.bucket = this;
+            if (head == null) {
+                head = tail = timeout;
+            } else {
+                tail.next = timeout;
+                timeout.prev = tail;
+                tail = timeout;
+            }
+        }
+
+        // Detaches the whole list, still chained through next, so entries can be re-added while iterating.
+        private Timeout drain() {
+            Timeout first = head;
+            for (Timeout timeout = first; timeout != null; timeout = timeout.next) {
+                timeout.prev = null;
+                timeout.bucket = null;
+            }
+            head = tail = null;
+            return first;
+        }
+
+        private void remove(Timeout timeout) {
+            if (timeout.bucket != this) {
+                return;
+            }
+            Timeout next = timeout.next;
+            if (timeout.prev != null) {
+                timeout.prev.next = next;
+            }
+            if (next != null) {
+                next.prev = timeout.prev;
+            }
+            if (timeout == head) {
+                head = next;
+            }
+            if (timeout == tail) {
+                tail = timeout.prev;
+            }
+            timeout.prev = null;
+            timeout.next = null;
+            timeout.bucket = null;
+        }
+    }
+}
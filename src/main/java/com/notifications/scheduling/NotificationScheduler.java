@@ -0,0 +1,197 @@
+package com.notifications.scheduling;
+
+import com.notifications.core.Notification;
+import com.notifications.core.NotificationResult;
+import com.notifications.outbox.NotificationCodec;
+import com.notifications.outbox.WriteAheadLog;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+// Pending notifications are kept only as their encoded bytes captured by the timer
+// task, so a large schedule costs one small array per entry instead of an object graph.
+// When a directory is configured every entry is also appended to a write-ahead log
+// and re-armed on the next start, so the schedule survives restarts.
+public final class NotificationScheduler implements Closeable {
+
+    private static final Logger logger = LoggerFactory.getLogger(NotificationScheduler.class);
+    private static final int DEADLINE_SIZE = Long.BYTES;
+
+    private final SchedulerConfig config;
+    private final WriteAheadLog log;
+    private final Map<Long, HashedWheelTimer.Timeout> scheduled = new ConcurrentHashMap<>();
+    private final AtomicLong nextId = new AtomicLong();
+
+    private volatile HashedWheelTimer timer;
+    private Function<Notification, CompletableFuture<NotificationResult>> sender;
+    private Executor executor;
+
+    private NotificationScheduler(SchedulerConfig config, WriteAheadLog log) {
+        this.config = config;
+        this.log = log;
+    }
+
+    public static NotificationScheduler open(SchedulerConfig config) throws IOException {
+        Objects.requireNonNull(config, "SchedulerConfig cannot be null");
+        WriteAheadLog log = config.isPersistent()
+                ? WriteAheadLog.open(config.getDirectory(), config.getSegmentSize(), config.getFlushInterval())
+                : null;
+        return new NotificationScheduler(config, log);
+    }
+
+    public synchronized void start(Function<Notification, CompletableFuture<NotificationResult>> sender,
+                                   Executor executor) {
+        Objects.requireNonNull(sender, "Sender cannot be null");
+        Objects.requireNonNull(executor, "Executor cannot be null");
+        if (timer != null) {
+            throw new IllegalStateException("Scheduler is already started");
+        }
+
+        this.sender = sender;
+        this.executor = executor;
+        this.timer = new HashedWheelTimer("notification-scheduler", config.getTickDuration(),
+                config.getWheelSize(), config.getLevels());
+        if (log != null) {
+            rearm(log.getRecovered());
+        }
+    }
+
+    private void rearm(Map<Long, byte[]> recovered) {
+        if (recovered.isEmpty()) {
+            return;
+        }
+
+        logger.info("Re-arming {} scheduled notification(s) from {}", recovered.size(), config.getDirectory());
+        recovered.forEach((id, record) -> {
+            if (record.length <= DEADLINE_SIZE) {
+                logger.error("Discarding unreadable scheduled entry {}", id);
+                complete(id);
+                return;
+            }
+            long deadline = ByteBuffer.wrap(record).getLong();
+            arm(id, Arrays.copyOfRange(record, DEADLINE_SIZE, record.length), deadline);
+        });
+    }
+
+    public long schedule(Notification notification, Instant deliverAt) {
+        Objects.requireNonNull(notification, "Notification cannot be null");
+        Objects.requireNonNull(deliverAt, "Delivery time cannot be null");
+        if (!NotificationCodec.supports(notification)) {
+            throw new IllegalArgumentException(
+                    "Notification type cannot be scheduled: " + notification.getClass().getName());
+        }
+        if (timer == null) {
+            throw new IllegalStateException("Scheduler is not started");
+        }
+
+        byte[] payload = NotificationCodec.encode(notification);
+        long deadline = deliverAt.toEpochMilli();
+        long id = log != null ? persist(payload, deadline) : nextId.getAndIncrement();
+        arm(id, payload, deadline);
+        return id;
+    }
+
+    private long persist(byte[] payload, long deadline) {
+        byte[] record = ByteBuffer.allocate(DEADLINE_SIZE + payload.length)
+                .putLong(deadline)
+                .put(payload)
+                .array();
+        CompletableFuture<Long> durable = new CompletableFuture<>();
+        try {
+            long id = log.append(record, durable);
+            durable.join();
+            return id;
+        } catch (IOException e) {
+            throw new IllegalStateException("Failed to persist scheduled notification", e);
+        }
+    }
+
+    private void arm(long id, byte[] payload, long deadline) {
+        long delay = Math.max(0, deadline - System.currentTimeMillis());
+        HashedWheelTimer.Timeout timeout = timer.schedule(
+                () -> executor.execute(() -> fire(id, payload)), delay, TimeUnit.MILLISECONDS);
+        scheduled.put(id, timeout);
+        // The timer may already have fired before the entry was published.
+        if (timeout.isExpired()) {
+            scheduled.remove(id, timeout);
+        }
+    }
+
+    // Only runs once the timeout has expired, and expiring and cancelling are a single
+    // CAS on the timeout, so a racing cancel() and fire() never both take effect.
+    private void fire(long id, byte[] payload) {
+        scheduled.remove(id);
+
+        Notification notification;
+        try {
+            notification = NotificationCodec.decode(payload);
+        } catch (RuntimeException e) {
+            logger.error("Discarding unreadable scheduled entry {}", id, e);
+            complete(id);
+            return;
+        }
+
+        logger.debug("Delivering scheduled notification {}", id);
+        CompletableFuture<NotificationResult> result;
+        try {
+            result = sender.apply(notification);
+        } catch (RuntimeException e) {
+            logger.error("Failed to deliver scheduled notification {}", id, e);
+            complete(id);
+            return;
+        }
+        result.whenComplete((r, error) -> complete(id));
+    }
+
+    public boolean cancel(long id) {
+        HashedWheelTimer.Timeout timeout = scheduled.remove(id);
+        if (timeout == null || !timeout.cancel()) {
+            return false;
+        }
+        complete(id);
+        logger.debug("Cancelled scheduled notification {}", id);
+        return true;
+    }
+
+    public boolean isScheduled(long id) {
+        return scheduled.containsKey(id);
+    }
+
+    public int getScheduledCount() {
+        return scheduled.size();
+    }
+
+    private void complete(long id) {
+        if (log == null) {
+            return;
+        }
+        try {
+            log.complete(id);
+        } catch (IOException e) {
+            logger.error("Failed to mark scheduled entry {} as complete", id, e);
+        }
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        if (timer != null) {
+            timer.close();
+        }
+        if (log != null) {
+            log.close();
+        }
+    }
+}
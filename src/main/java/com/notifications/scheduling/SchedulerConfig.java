@@ -0,0 +1,36 @@
+package com.notifications.scheduling;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+@Getter
+@Builder
+public final class SchedulerConfig {
+
+    private final Duration tickDuration;
+    private final int wheelSize;
+    private final int levels;
+    private final Path directory;
+    private final int segmentSize;
+    private final Duration flushInterval;
+
+    public SchedulerConfig(Duration tickDuration, int wheelSize, int levels, Path directory,
+                           int segmentSize, Duration flushInterval) {
+        if (tickDuration != null && (tickDuration.isNegative() || tickDuration.isZero())) {
+            throw new IllegalArgumentException("Tick duration must be positive");
+        }
+        this.tickDuration = tickDuration != null ? tickDuration : Duration.ofMillis(10);
+        this.wheelSize = wheelSize > 0 ? wheelSize : 512;
+        this.levels = levels > 0 ? levels : 4;
+        this.directory = directory;
+        this.segmentSize = segmentSize > 0 ? segmentSize : 64 * 1024 * 1024;
+        this.flushInterval = flushInterval != null ? flushInterval : Duration.ofMillis(2);
+    }
+
+    public boolean isPersistent() {
+        return directory != null;
+    }
+}
@@ -0,0 +1,314 @@
+package com.notifications.stream;
+
+import com.notifications.core.Notification;
+import com.notifications.core.NotificationResult;
+import com.notifications.core.NotificationService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayDeque;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Flow;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+// All state changes happen inside drain(), which a work-in-progress counter keeps to
+// one thread at a time; signals from upstream, downstream and finished sends only
+// enqueue an event and trigger a drain.
+//
+// Upstream is asked for more only while the items already requested, in flight,
+// parked behind a busy channel or waiting to be emitted fit both under maxInFlight
+// and under the downstream demand, so memory stays bounded no matter how large
+// the campaign is.
+public final class NotificationProcessor implements Flow.Processor<Notification, NotificationResult> {
+
+    private static final Logger logger = LoggerFactory.getLogger(NotificationProcessor.class);
+
+    private final NotificationService service;
+    private final int maxInFlightPerChannel;
+    private final int maxInFlight;
+    private final ResultOrder resultOrder;
+
+    private final Queue<Notification> arrivals = new ConcurrentLinkedQueue<>();
+    private final Queue<Completion> completions = new ConcurrentLinkedQueue<>();
+    private final AtomicLong downstreamRequested = new AtomicLong();
+    private final AtomicInteger wip = new AtomicInteger();
+
+    private volatile Flow.Subscription upstream;
+    private volatile Flow.Subscriber<? super NotificationResult> downstream;
+    private volatile boolean upstreamDone;
+    private volatile Throwable upstreamError;
+    private volatile Throwable downstreamError;
+    private volatile boolean cancelled;
+
+    // Only touched inside drain().
+    private final Map<String, ChannelState> channels = new HashMap<>();
+    private final ArrayDeque<NotificationResult> completed = new ArrayDeque<>();
+    private final Map<Long, NotificationResult> reorder = new HashMap<>();
+    private long upstreamOutstanding;
+    private long nextSequence;
+    private long nextToEmit;
+    private long emitted;
+    private int inFlight;
+    private int parked;
+    private boolean terminated;
+
+    public NotificationProcessor(NotificationService service, StreamConfig config) {
+        this.service = Objects.requireNonNull(service, "NotificationService cannot be null");
+        Objects.requireNonNull(config, "StreamConfig cannot be null");
+        this.maxInFlightPerChannel = config.getMaxInFlightPerChannel();
+        this.maxInFlight = config.getMaxInFlight();
+        this.resultOrder = config.getResultOrder();
+    }
+
+    @Override
+    public void onSubscribe(Flow.Subscription subscription) {
+        Objects.requireNonNull(subscription, "Subscription cannot be null");
+        if (upstream != null || cancelled) {
+            subscription.cancel();
+            return;
+        }
+        upstream = subscription;
+        drain();
+    }
+
+    @Override
+    public void onNext(Notification notification) {
+        Objects.requireNonNull(notification, "Notification cannot be null");
+        arrivals.add(notification);
+        drain();
+    }
+
+    @Override
+    public void onError(Throwable throwable) {
+        upstreamError = Objects.requireNonNull(throwable, "Throwable cannot be null");
+        upstreamDone = true;
+        drain();
+    }
+
+    @Override
+    public void onComplete() {
+        upstreamDone = true;
+        drain();
+    }
+
+    @Override
+    public void subscribe(Flow.Subscriber<? super NotificationResult> subscriber) {
+        Objects.requireNonNull(subscriber, "Subscriber cannot be null");
+        synchronized (this) {
+            if (downstream != null) {
+                subscriber.onSubscribe(new Flow.Subscription() {
+                    @Override
+                    public void request(long n) {
+                    }
+
+                    @Override
+                    public void cancel() {
+                    }
+                });
+                subscriber.onError(new IllegalStateException("NotificationProcessor supports a single subscriber"));
+                return;
+            }
+            downstream = subscriber;
+        }
+        subscriber.onSubscribe(new DownstreamSubscription());
+        drain();
+    }
+
+    private void drain() {
+        if (wip.getAndIncrement() != 0) {
+            return;
+        }
+        int missed = 1;
+        do {
+            drainOnce();
+            missed = wip.addAndGet(-missed);
+        } while (missed != 0);
+    }
+
+    private void drainOnce() {
+        if (terminated) {
+            arrivals.clear();
+            completions.clear();
+            return;
+        }
+        if (cancelled) {
+            terminated = true;
+            Flow.Subscription subscription = upstream;
+            if (subscription != null) {
+                subscription.cancel();
+            }
+            return;
+        }
+
+        Notification notification;
+        while ((notification = arrivals.poll()) != null) {
+            upstreamOutstanding = Math.max(0, upstreamOutstanding - 1);
+            accept(new Pending(nextSequence++, notification));
+        }
+
+        Completion completion;
+        while ((completion = completions.poll()) != null) {
+            inFlight--;
+            ChannelState channel = channels.get(completion.channelType);
+            channel.inFlight--;
+            if (resultOrder == ResultOrder.INPUT) {
+                reorder.put(completion.sequence, completion.result);
+            } else {
+                completed.add(completion.result);
+            }
+            Pending next = channel.parked.poll();
+            if (next != null) {
+                parked--;
+                start(channel, next);
+            }
+        }
+
+        Flow.Subscriber<? super NotificationResult> subscriber = downstream;
+        if (subscriber == null) {
+            return;
+        }
+        if (downstreamError != null) {
+            terminate(subscriber, downstreamError);
+            return;
+        }
+
+        long requested = downstreamRequested.get();
+        NotificationResult result;
+        while (emitted < requested && (result = nextReady()) != null) {
+            subscriber.onNext(result);
+            emitted++;
+        }
+
+        if (upstreamDone && arrivals.isEmpty() && inFlight == 0 && parked == 0 && readyCount() == 0) {
+            terminate(subscriber, upstreamError);
+            return;
+        }
+
+        requestUpstream(requested);
+    }
+
+    private void accept(Pending pending) {
+        ChannelState channel = channels.computeIfAbsent(pending.notification.getChannelType(), type -> new ChannelState());
+        if (channel.inFlight < maxInFlightPerChannel) {
+            start(channel, pending);
+        } else {
+            channel.parked.add(pending);
+            parked++;
+        }
+    }
+
+    private void start(ChannelState channel, Pending pending) {
+        inFlight++;
+        channel.inFlight++;
+        String channelType = pending.notification.getChannelType();
+        service.sendAsync(pending.notification).whenComplete((result, error) -> {
+            NotificationResult outcome = result != null ? result : NotificationResult.failure(
+                    String.format("Unexpected error: %s", error != null ? error.getMessage() : "unknown"),
+                    "UNEXPECTED_ERROR",
+                    channelType,
+                    "unknown"
+            );
+            completions.add(new Completion(pending.sequence, channelType, outcome));
+            drain();
+        });
+    }
+
+    private void requestUpstream(long downstreamDemand) {
+        Flow.Subscription subscription = upstream;
+        if (subscription == null || upstreamDone) {
+            return;
+        }
+        long pendingWork = inFlight + parked + readyCount() + upstreamOutstanding;
+        long window = Math.min(maxInFlight, downstreamDemand - emitted);
+        long toRequest = window - pendingWork;
+        if (toRequest > 0) {
+            upstreamOutstanding += toRequest;
+            subscription.request(toRequest);
+        }
+    }
+
+    private NotificationResult nextReady() {
+        if (resultOrder == ResultOrder.INPUT) {
+            NotificationResult result = reorder.remove(nextToEmit);
+            if (result != null) {
+                nextToEmit++;
+            }
+            return result;
+        }
+        return completed.poll();
+    }
+
+    private int readyCount() {
+        return resultOrder == ResultOrder.INPUT ? reorder.size() : completed.size();
+    }
+
+    private void terminate(Flow.Subscriber<? super NotificationResult> subscriber, Throwable error) {
+        terminated = true;
+        if (error != null) {
+            if (error == downstreamError) {
+                Flow.Subscription subscription = upstream;
+                if (subscription != null) {
+                    subscription.cancel();
+                }
+            } else {
+                logger.warn("Notification stream failed upstream", error);
+            }
+            subscriber.onError(error);
+        } else {
+            subscriber.onComplete();
+        }
+    }
+
+    private final class DownstreamSubscription implements Flow.Subscription {
+        @Override
+        public void request(long n) {
+            if (n <= 0) {
+                downstreamError = new IllegalArgumentException("Requested amount must be positive, was " + n);
+            } else {
+                downstreamRequested.getAndAccumulate(n, (current, added) -> {
+                    long sum = current + added;
+                    return sum < 0 ? Long.MAX_VALUE : sum;
+                });
+            }
+            drain();
+        }
+
+        @Override
+        public void cancel() {
+            cancelled = true;
+            drain();
+        }
+    }
+
+    private static final class ChannelState {
+        private final ArrayDeque<Pending> parked = new ArrayDeque<>();
+        private int inFlight;
+    }
+
+    private static final class Pending {
+        private final long sequence;
+        private final Notification notification;
+
+        private Pending(long sequence, Notification notification) {
+            this.sequence = sequence;
+            this.notification = notification;
+        }
+    }
+
+    private static final class Completion {
+        private final long sequence;
+        private final String channelType;
+        private final NotificationResult result;
+
+        private Completion(long sequence, String channelType, NotificationResult result) {
+            this.sequence = sequence;
+            this.channelType = channelType;
+            this.result = result;
+        }
+    }
+}
@@ -0,0 +1,6 @@
+package com.notifications.stream;
+
+public enum ResultOrder {
+    COMPLETION,
+    INPUT
+}
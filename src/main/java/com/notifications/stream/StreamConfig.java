@@ -0,0 +1,23 @@
+package com.notifications.stream;
+
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+public final class StreamConfig {
+
+    private final int maxInFlightPerChannel;
+    private final int maxInFlight;
+    private final ResultOrder resultOrder;
+
+    public StreamConfig(int maxInFlightPerChannel, int maxInFlight, ResultOrder resultOrder) {
+        this.maxInFlightPerChannel = maxInFlightPerChannel > 0 ? maxInFlightPerChannel : 16;
+        this.maxInFlight = maxInFlight > 0 ? maxInFlight : this.maxInFlightPerChannel * 4;
+        this.resultOrder = resultOrder != null ? resultOrder : ResultOrder.COMPLETION;
+    }
+
+    public static StreamConfig defaults() {
+        return StreamConfig.builder().build();
+    }
+}
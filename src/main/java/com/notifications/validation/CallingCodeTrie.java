@@ -0,0 +1,156 @@
+package com.notifications.validation;
+
+import com.google.i18n.phonenumbers.PhoneNumberUtil;
+import com.google.i18n.phonenumbers.Phonemetadata;
+import com.google.i18n.phonenumbers.metadata.DefaultMetadataDependenciesProvider;
+import com.google.i18n.phonenumbers.metadata.source.MetadataSource;
+
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+// Digit trie over the country calling codes libphonenumber knows, built once from its
+// metadata. Calling codes are prefix-free and at most three digits long, so resolving one
+// is a walk of up to three array lookups. Each leaf carries what a plain E.164 number
+// needs to be accepted or rejected without a full parse: the possible national lengths
+// and the leading digits on which libphonenumber might strip a national prefix.
+final class CallingCodeTrie {
+
+    private static final String NON_GEOGRAPHIC_REGION = "001";
+
+    private final Node root = new Node();
+
+    private CallingCodeTrie() {
+    }
+
+    static CallingCodeTrie fromMetadata(PhoneNumberUtil phoneUtil) {
+        MetadataSource source = DefaultMetadataDependenciesProvider.getInstance().getPhoneNumberMetadataSource();
+        CallingCodeTrie trie = new CallingCodeTrie();
+        for (int callingCode : phoneUtil.getSupportedCallingCodes()) {
+            String region = phoneUtil.getRegionCodeForCountryCode(callingCode);
+            Phonemetadata.PhoneMetadata metadata = NON_GEOGRAPHIC_REGION.equals(region)
+                    ? source.getMetadataForNonGeographicalRegion(callingCode)
+                    : source.getMetadataForRegion(region);
+            if (metadata == null) {
+                continue;
+            }
+            List<String> regions = phoneUtil.getRegionCodesForCountryCode(callingCode);
+            trie.insert(new Entry(callingCode, regions.size() == 1 ? region : null,
+                    possibleLengths(metadata), prefixLeadingDigits(metadata)));
+        }
+        return trie;
+    }
+
+    // Returns the calling code that the digits in [start, end) begin with, or null.
+    Entry find(CharSequence digits, int start, int end) {
+        Node node = root;
+        for (int i = start; i < end && node.children != null; i++) {
+            node = node.children[digits.charAt(i) - '0'];
+            if (node == null) {
+                return null;
+            }
+            if (node.entry != null) {
+                return node.entry;
+            }
+        }
+        return null;
+    }
+
+    // Region of a calling code served by a single region, otherwise null.
+    String regionOf(int callingCode) {
+        String digits = Integer.toString(callingCode);
+        Entry entry = find(digits, 0, digits.length());
+        return entry != null && entry.callingCode == callingCode ? entry.region : null;
+    }
+
+    private void insert(Entry entry) {
+        String digits = Integer.toString(entry.callingCode);
+        Node node = root;
+        for (int i = 0; i < digits.length(); i++) {
+            if (node.children == null) {
+                node.children = new Node[10];
+            }
+            int digit = digits.charAt(i) - '0';
+            if (node.children[digit] == null) {
+                node.children[digit] = new Node();
+            }
+            node = node.children[digit];
+        }
+        node.entry = entry;
+    }
+
+    // Same lengths isPossibleNumber accepts, local-only ones included.
+    private static int possibleLengths(Phonemetadata.PhoneMetadata metadata) {
+        Phonemetadata.PhoneNumberDesc general = metadata.getGeneralDesc();
+        int mask = 0;
+        for (int length : general.getPossibleLengthList()) {
+            if (length > 0 && length < Integer.SIZE) {
+                mask |= 1 << length;
+            }
+        }
+        for (int length : general.getPossibleLengthLocalOnlyList()) {
+            if (length > 0 && length < Integer.SIZE) {
+                mask |= 1 << length;
+            }
+        }
+        return mask;
+    }
+
+    // A digit is flagged when the national-prefix pattern could match something starting
+    // with it; numbers that begin that way are left to libphonenumber.
+    private static int prefixLeadingDigits(Phonemetadata.PhoneMetadata metadata) {
+        String prefix = metadata.getNationalPrefixForParsing();
+        if (prefix == null || prefix.isEmpty()) {
+            return 0;
+        }
+        Pattern pattern = Pattern.compile(prefix);
+        int mask = 0;
+        for (int digit = 0; digit < 10; digit++) {
+            Matcher matcher = pattern.matcher(String.valueOf(digit));
+            if ((matcher.lookingAt() && matcher.end() > 0) || matcher.hitEnd()) {
+                mask |= 1 << digit;
+            }
+        }
+        return mask;
+    }
+
+    static final class Entry {
+        private final int callingCode;
+        private final String region;
+        private final int possibleLengths;
+        private final int prefixLeadingDigits;
+
+        private Entry(int callingCode, String region, int possibleLengths, int prefixLeadingDigits) {
+            this.callingCode = callingCode;
+            this.region = region;
+            this.possibleLengths = possibleLengths;
+            this.prefixLeadingDigits = prefixLeadingDigits;
+        }
+
+        int getCallingCode() {
+            return callingCode;
+        }
+
+        int getDigits() {
+            return callingCode < 10 ? 1 : callingCode < 100 ? 2 : 3;
+        }
+
+        // Null when the calling code is shared by several regions, like +1 or +7.
+        String getRegion() {
+            return region;
+        }
+
+        boolean isPossibleLength(int length) {
+            return length > 0 && length < Integer.SIZE && (possibleLengths & (1 << length)) != 0;
+        }
+
+        boolean mayStartWithNationalPrefix(char digit) {
+            return (prefixLeadingDigits & (1 << (digit - '0'))) != 0;
+        }
+    }
+
+    private static final class Node {
+        private Node[] children;
+        private Entry entry;
+    }
+}
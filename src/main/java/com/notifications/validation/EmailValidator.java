@@ -3,78 +3,136 @@ package com.notifications.validation;
 import com.notifications.channels.email.EmailNotification;
 import com.notifications.model.Recipient;
 
-import java.util.regex.Pattern;
+import java.util.BitSet;
 
 public final class EmailValidator {
-    
-    private static final Pattern EMAIL_PATTERN = Pattern.compile(
-            "^[A-Za-z0-9+_.-]+@[A-Za-z0-9.-]+\\.[A-Za-z]{2,}$"
-    );
 
-    public static boolean isValidEmail(String email) {
-        if (email == null || email.trim().isEmpty()) {
+    private static final ValidationPlan<EmailNotification> PLAN = ValidationPlan.builder(EmailNotification.class)
+            .rule(EmailValidator::checkRecipients)
+            .rule(EmailValidator::checkCopies)
+            .rule(EmailValidator::checkContent)
+            .build();
+
+    // Single pass over the address that accepts exactly what
+    // ^[A-Za-z0-9+_.-]+@[A-Za-z0-9.-]+\.[A-Za-z]{2,}$ accepts on the trimmed value,
+    // without allocating or backtracking.
+    public static boolean isValidEmail(CharSequence email) {
+        if (email == null) {
+            return false;
+        }
+        int start = 0;
+        int end = email.length();
+        while (start < end && email.charAt(start) <= ' ') {
+            start++;
+        }
+        while (end > start && email.charAt(end - 1) <= ' ') {
+            end--;
+        }
+
+        int at = -1;
+        for (int i = start; i < end; i++) {
+            char c = email.charAt(i);
+            if (c == '@') {
+                at = i;
+                break;
+            }
+            if (!isLocalChar(c)) {
+                return false;
+            }
+        }
+        if (at <= start) {
             return false;
         }
-        return EMAIL_PATTERN.matcher(email.trim()).matches();
+
+        // The domain must end in a dot followed by two or more letters. Only the last dot
+        // can start that suffix, since any earlier one would have a dot in its tail.
+        int lastDot = -1;
+        boolean lettersOnly = false;
+        for (int i = at + 1; i < end; i++) {
+            char c = email.charAt(i);
+            if (c == '.') {
+                lastDot = i;
+                lettersOnly = true;
+            } else if ((c >= '0' && c <= '9') || c == '-') {
+                lettersOnly = false;
+            } else if (!isLetter(c)) {
+                return false;
+            }
+        }
+        return lastDot > at + 1 && lettersOnly && end - lastDot > 2;
     }
 
-    public static ValidationResult validate(EmailNotification notification) {
-        if (notification == null) {
-            return ValidationResult.failure("Notification cannot be null");
+    // Returns the indexes of the addresses that fail isValidEmail, so callers checking
+    // thousands of recipients get every failure in one pass and one small allocation.
+    public static BitSet findInvalid(CharSequence[] emails) {
+        BitSet invalid = new BitSet(emails.length);
+        for (int i = 0; i < emails.length; i++) {
+            if (!isValidEmail(emails[i])) {
+                invalid.set(i);
+            }
         }
+        return invalid;
+    }
 
+    private static boolean isLocalChar(char c) {
+        return isLetter(c) || (c >= '0' && c <= '9') || c == '+' || c == '_' || c == '.' || c == '-';
+    }
+
+    private static boolean isLetter(char c) {
+        return (c >= 'A' && c <= 'Z') || (c >= 'a' && c <= 'z');
+    }
+
+    public static ValidationResult validate(EmailNotification notification) {
+        return PLAN.validate(notification);
+    }
+
+    public static ValidationPlan<EmailNotification> plan() {
+        return PLAN;
+    }
+
+    private static String checkRecipients(EmailNotification notification) {
         if (notification.getRecipients().isEmpty()) {
-            return ValidationResult.failure("At least one recipient is required");
+            return "At least one recipient is required";
         }
         for (Recipient recipient : notification.getRecipients()) {
             String address = recipient.getAddress();
-            if (address == null || address.trim().isEmpty()) {
-                return ValidationResult.failure("Invalid email address: email cannot be empty");
+            if (ValidationPlan.isBlank(address)) {
+                return "Invalid email address: email cannot be empty";
             }
             if (!isValidEmail(address)) {
-                return ValidationResult.failure(
-                        String.format("Invalid email address: %s", address)
-                );
+                return String.format("Invalid email address: %s", address);
             }
         }
+        return null;
+    }
 
-        if (notification.getCcRecipients() != null) {
-            for (String cc : notification.getCcRecipients()) {
-                if (cc == null || cc.trim().isEmpty()) {
-                    return ValidationResult.failure("Invalid CC email address: email cannot be empty");
-                }
-                if (!isValidEmail(cc)) {
-                    return ValidationResult.failure(
-                            String.format("Invalid CC email address: %s", cc)
-                    );
-                }
+    private static String checkCopies(EmailNotification notification) {
+        for (String cc : notification.getCcRecipients()) {
+            if (ValidationPlan.isBlank(cc)) {
+                return "Invalid CC email address: email cannot be empty";
+            }
+            if (!isValidEmail(cc)) {
+                return String.format("Invalid CC email address: %s", cc);
             }
         }
-
-        if (notification.getBccRecipients() != null) {
-            for (String bcc : notification.getBccRecipients()) {
-                if (!isValidEmail(bcc)) {
-                    return ValidationResult.failure(
-                            String.format("Invalid BCC email address: %s", bcc)
-                    );
-                }
+        for (String bcc : notification.getBccRecipients()) {
+            if (!isValidEmail(bcc)) {
+                return String.format("Invalid BCC email address: %s", bcc);
             }
         }
+        return null;
+    }
 
+    private static String checkContent(EmailNotification notification) {
         if (notification.getContent() == null) {
-            return ValidationResult.failure("Content cannot be null");
+            return "Content cannot be null";
         }
-
-        if (notification.getContent().getSubject() == null || 
-            notification.getContent().getSubject().trim().isEmpty()) {
-            return ValidationResult.failure("Subject cannot be empty");
+        if (ValidationPlan.isBlank(notification.getContent().getSubject())) {
+            return "Subject cannot be empty";
         }
-
-        if (notification.getContent().getBody() == null || 
-            notification.getContent().getBody().trim().isEmpty()) {
-            return ValidationResult.failure("Body cannot be empty");
+        if (ValidationPlan.isBlank(notification.getContent().getBody())) {
+            return "Body cannot be empty";
         }
-
-        return ValidationResult.success();
+        return null;
     }
 }
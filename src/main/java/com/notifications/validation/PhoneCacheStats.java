@@ -0,0 +1,49 @@
+package com.notifications.validation;
+
+public final class PhoneCacheStats {
+
+    private final long hits;
+    private final long misses;
+    private final long evictions;
+    private final int size;
+    private final int maxEntries;
+
+    public PhoneCacheStats(long hits, long misses, long evictions, int size, int maxEntries) {
+        this.hits = hits;
+        this.misses = misses;
+        this.evictions = evictions;
+        this.size = size;
+        this.maxEntries = maxEntries;
+    }
+
+    public long getHits() {
+        return hits;
+    }
+
+    public long getMisses() {
+        return misses;
+    }
+
+    public long getEvictions() {
+        return evictions;
+    }
+
+    public int getSize() {
+        return size;
+    }
+
+    public int getMaxEntries() {
+        return maxEntries;
+    }
+
+    public double getHitRate() {
+        long lookups = hits + misses;
+        return lookups == 0 ? 0.0 : (double) hits / lookups;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("PhoneCacheStats{hits=%d, misses=%d, evictions=%d, size=%d, maxEntries=%d}",
+                hits, misses, evictions, size, maxEntries);
+    }
+}
@@ -0,0 +1,131 @@
+package com.notifications.validation;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+
+// Bounded LRU of phone validation results keyed by the raw number. Keys are spread over
+// lock-striped access-ordered maps, so threads only contend when they hit the same stripe,
+// and each stripe evicts its own least recently used entry once it is full.
+// A miss runs the loader outside the lock; two threads missing on the same number may both
+// parse it, which is cheaper than making every other lookup on the stripe wait.
+final class PhoneNumberCache {
+
+    private static final int MAX_STRIPES = 16;
+    private static final int MIN_ENTRIES_PER_STRIPE = 64;
+
+    private final Stripe[] stripes;
+    private final int mask;
+    private final int maxEntries;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    PhoneNumberCache(int maxEntries) {
+        if (maxEntries <= 0) {
+            throw new IllegalArgumentException("Max entries must be positive");
+        }
+        int count = Math.max(1, Math.min(MAX_STRIPES, Integer.highestOneBit(maxEntries / MIN_ENTRIES_PER_STRIPE)));
+        this.stripes = new Stripe[count];
+        for (int i = 0; i < count; i++) {
+            int capacity = maxEntries / count + (i < maxEntries % count ? 1 : 0);
+            stripes[i] = new Stripe(capacity);
+        }
+        this.mask = count - 1;
+        this.maxEntries = maxEntries;
+    }
+
+    PhoneValidationResult get(String phoneNumber, Function<String, PhoneValidationResult> loader) {
+        Stripe stripe = stripeFor(phoneNumber);
+        PhoneValidationResult cached = stripe.get(phoneNumber);
+        if (cached != null) {
+            hits.increment();
+            return cached;
+        }
+
+        misses.increment();
+        PhoneValidationResult loaded = loader.apply(phoneNumber);
+        return stripe.putIfAbsent(phoneNumber, loaded);
+    }
+
+    int size() {
+        int size = 0;
+        for (Stripe stripe : stripes) {
+            size += stripe.size();
+        }
+        return size;
+    }
+
+    void clear() {
+        for (Stripe stripe : stripes) {
+            stripe.clear();
+        }
+    }
+
+    PhoneCacheStats getStats() {
+        return new PhoneCacheStats(hits.sum(), misses.sum(), evictions.sum(), size(), maxEntries);
+    }
+
+    private Stripe stripeFor(String phoneNumber) {
+        int hash = phoneNumber.hashCode();
+        return stripes[(hash ^ (hash >>> 16)) & mask];
+    }
+
+    private final class Stripe {
+        private final ReentrantLock lock = new ReentrantLock();
+        private final LinkedHashMap<String, PhoneValidationResult> entries;
+
+        private Stripe(int capacity) {
+            this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<String, PhoneValidationResult> eldest) {
+                    if (size() > capacity) {
+                        evictions.increment();
+                        return true;
+                    }
+                    return false;
+                }
+            };
+        }
+
+        private PhoneValidationResult get(String phoneNumber) {
+            lock.lock();
+            try {
+                return entries.get(phoneNumber);
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        private PhoneValidationResult putIfAbsent(String phoneNumber, PhoneValidationResult result) {
+            lock.lock();
+            try {
+                PhoneValidationResult existing = entries.putIfAbsent(phoneNumber, result);
+                return existing != null ? existing : result;
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        private int size() {
+            lock.lock();
+            try {
+                return entries.size();
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        private void clear() {
+            lock.lock();
+            try {
+                entries.clear();
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+}
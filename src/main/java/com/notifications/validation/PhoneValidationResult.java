@@ -1,35 +1,74 @@
 package com.notifications.validation;
 
+import com.google.i18n.phonenumbers.PhoneNumberUtil;
 import com.google.i18n.phonenumbers.Phonenumber;
 
 import java.util.Optional;
 
 public final class PhoneValidationResult {
-    
+
+    private static final String UNKNOWN_REGION = "ZZ";
+
     private final boolean valid;
     private final Phonenumber.PhoneNumber parsedNumber;
+    private final String e164;
     private final String errorMessage;
+    private volatile String region;
 
-    private PhoneValidationResult(boolean valid, Phonenumber.PhoneNumber parsedNumber, String errorMessage) {
+    private PhoneValidationResult(boolean valid, Phonenumber.PhoneNumber parsedNumber, String e164, String region,
+                                  String errorMessage) {
         this.valid = valid;
         this.parsedNumber = parsedNumber;
+        this.e164 = e164;
+        this.region = region;
         this.errorMessage = errorMessage;
     }
 
     public static PhoneValidationResult valid(Phonenumber.PhoneNumber parsedNumber) {
-        return new PhoneValidationResult(true, parsedNumber, null);
+        return valid(parsedNumber, PhoneNumberUtil.getInstance().format(parsedNumber, PhoneNumberUtil.PhoneNumberFormat.E164));
+    }
+
+    public static PhoneValidationResult valid(Phonenumber.PhoneNumber parsedNumber, String e164) {
+        return valid(parsedNumber, e164, null);
+    }
+
+    // A null region is resolved from the number the first time it is asked for.
+    static PhoneValidationResult valid(Phonenumber.PhoneNumber parsedNumber, String e164, String region) {
+        return new PhoneValidationResult(true, parsedNumber, e164, region, null);
     }
 
     public static PhoneValidationResult invalid(String errorMessage) {
-        return new PhoneValidationResult(false, null, errorMessage);
+        return new PhoneValidationResult(false, null, null, null, errorMessage);
     }
 
     public boolean isValid() {
         return valid;
     }
 
+    // Results are shared through the validator's cache and PhoneNumber is mutable, so
+    // callers get their own copy.
     public Optional<Phonenumber.PhoneNumber> getParsedNumber() {
-        return Optional.ofNullable(parsedNumber);
+        return parsedNumber != null
+                ? Optional.of(new Phonenumber.PhoneNumber().mergeFrom(parsedNumber))
+                : Optional.empty();
+    }
+
+    public Optional<String> getE164() {
+        return Optional.ofNullable(e164);
+    }
+
+    // ISO region of the number, e.g. "AR", or "001" for non-geographic numbers. Empty when
+    // a shared calling code such as +1 cannot be narrowed down to one region.
+    public Optional<String> getRegion() {
+        if (!valid) {
+            return Optional.empty();
+        }
+        String resolved = region;
+        if (resolved == null) {
+            resolved = PhoneNumberUtil.getInstance().getRegionCodeForNumber(parsedNumber);
+            region = resolved = resolved != null ? resolved : UNKNOWN_REGION;
+        }
+        return UNKNOWN_REGION.equals(resolved) ? Optional.empty() : Optional.of(resolved);
     }
 
     public Optional<String> getErrorMessage() {
@@ -39,8 +78,7 @@ public final class PhoneValidationResult {
     @Override
     public String toString() {
         if (valid) {
-            return String.format("PhoneValidationResult{valid=true, number=%s}", 
-                    parsedNumber != null ? parsedNumber.toString() : "null");
+            return String.format("PhoneValidationResult{valid=true, number=%s}", e164);
         } else {
             return String.format("PhoneValidationResult{valid=false, error='%s'}", errorMessage);
         }
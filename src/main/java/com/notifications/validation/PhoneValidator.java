@@ -9,40 +9,106 @@ import com.notifications.model.Recipient;
 public final class PhoneValidator {
 
     private static final PhoneNumberUtil PHONE_UTIL = PhoneNumberUtil.getInstance();
+    private static final int CACHE_MAX_ENTRIES = 10_000;
+    // The same recipients come back send after send, so parsed results are kept and a
+    // repeat number skips libphonenumber entirely.
+    private static final PhoneNumberCache CACHE = new PhoneNumberCache(CACHE_MAX_ENTRIES);
+    private static final CallingCodeTrie CALLING_CODES = CallingCodeTrie.fromMetadata(PHONE_UTIL);
+    private static final ValidationPlan<SmsNotification> PLAN = ValidationPlan.builder(SmsNotification.class)
+            .rule(PhoneValidator::checkRecipients)
+            .rule(PhoneValidator::checkBody)
+            .build();
 
     public static boolean isValidPhoneNumber(String phoneNumber) {
-        if (phoneNumber == null || phoneNumber.trim().isEmpty()) {
-            return false;
-        }
-        
-        try {
-            Phonenumber.PhoneNumber parsedNumber = PHONE_UTIL.parse(
-                    phoneNumber.trim(), 
-                    null
-            );
-
-            return PHONE_UTIL.isValidNumber(parsedNumber) || 
-                   PHONE_UTIL.isPossibleNumber(parsedNumber);
-        } catch (NumberParseException e) {
-            return false;
-        }
+        return validateDetailed(phoneNumber).isValid();
     }
 
     public static PhoneValidationResult validateDetailed(String phoneNumber) {
-        if (phoneNumber == null || phoneNumber.trim().isEmpty()) {
+        if (ValidationPlan.isBlank(phoneNumber)) {
             return PhoneValidationResult.invalid("Phone number cannot be null or empty");
         }
-        
+        return CACHE.get(phoneNumber, PhoneValidator::parse);
+    }
+
+    public static PhoneCacheStats getCacheStats() {
+        return CACHE.getStats();
+    }
+
+    static void clearCache() {
+        CACHE.clear();
+    }
+
+    static PhoneValidationResult parse(String phoneNumber) {
+        PhoneValidationResult result = parseE164(phoneNumber);
+        return result != null ? result : parseWithLibphonenumber(phoneNumber);
+    }
+
+    // Most recipients are already plain E.164, where libphonenumber's answer only depends
+    // on the calling code and the national length, so the trie decides those directly.
+    // Returns null for anything else, or when a national prefix might be stripped.
+    private static PhoneValidationResult parseE164(String phoneNumber) {
+        int start = 0;
+        int end = phoneNumber.length();
+        while (start < end && phoneNumber.charAt(start) <= ' ') {
+            start++;
+        }
+        while (end > start && phoneNumber.charAt(end - 1) <= ' ') {
+            end--;
+        }
+        if (start == end || phoneNumber.charAt(start) != '+') {
+            return null;
+        }
+        for (int i = start + 1; i < end; i++) {
+            char c = phoneNumber.charAt(i);
+            if (c < '0' || c > '9') {
+                return null;
+            }
+        }
+
+        CallingCodeTrie.Entry callingCode = CALLING_CODES.find(phoneNumber, start + 1, end);
+        if (callingCode == null) {
+            return PhoneValidationResult.invalid(
+                    String.format("Invalid phone number: %s. Unknown country calling code", phoneNumber));
+        }
+        int nationalStart = start + 1 + callingCode.getDigits();
+        int nationalLength = end - nationalStart;
+        if (nationalLength > 0 && callingCode.mayStartWithNationalPrefix(phoneNumber.charAt(nationalStart))) {
+            return null;
+        }
+        if (!callingCode.isPossibleLength(nationalLength)) {
+            return PhoneValidationResult.invalid(
+                    String.format("Invalid phone number format: %s", phoneNumber));
+        }
+
+        Phonenumber.PhoneNumber parsedNumber = new Phonenumber.PhoneNumber()
+                .setCountryCode(callingCode.getCallingCode())
+                .setNationalNumber(Long.parseLong(phoneNumber, nationalStart, end, 10));
+        // Mirrors how libphonenumber records leading zeros of the national number.
+        if (nationalLength > 1 && phoneNumber.charAt(nationalStart) == '0') {
+            parsedNumber.setItalianLeadingZero(true);
+            int leadingZeros = 1;
+            while (leadingZeros < nationalLength - 1 && phoneNumber.charAt(nationalStart + leadingZeros) == '0') {
+                leadingZeros++;
+            }
+            if (leadingZeros != 1) {
+                parsedNumber.setNumberOfLeadingZeros(leadingZeros);
+            }
+        }
+        String e164 = start == 0 && end == phoneNumber.length() ? phoneNumber : phoneNumber.substring(start, end);
+        return PhoneValidationResult.valid(parsedNumber, e164, callingCode.getRegion());
+    }
+
+    private static PhoneValidationResult parseWithLibphonenumber(String phoneNumber) {
         try {
             Phonenumber.PhoneNumber parsedNumber = PHONE_UTIL.parse(
                     phoneNumber.trim(), 
                     null
             );
 
-            if (PHONE_UTIL.isValidNumber(parsedNumber)) {
-                return PhoneValidationResult.valid(parsedNumber);
-            } else if (PHONE_UTIL.isPossibleNumber(parsedNumber)) {
-                return PhoneValidationResult.valid(parsedNumber);
+            if (PHONE_UTIL.isValidNumber(parsedNumber) || PHONE_UTIL.isPossibleNumber(parsedNumber)) {
+                return PhoneValidationResult.valid(parsedNumber,
+                        PHONE_UTIL.format(parsedNumber, PhoneNumberUtil.PhoneNumberFormat.E164),
+                        CALLING_CODES.regionOf(parsedNumber.getCountryCode()));
             } else {
                 return PhoneValidationResult.invalid(
                         String.format("Invalid phone number format: %s", phoneNumber)
@@ -57,43 +123,42 @@ public final class PhoneValidator {
     }
 
     public static ValidationResult validate(SmsNotification notification) {
-        if (notification == null) {
-            return ValidationResult.failure("Notification cannot be null");
-        }
+        return PLAN.validate(notification);
+    }
+
+    public static ValidationPlan<SmsNotification> plan() {
+        return PLAN;
+    }
 
+    private static String checkRecipients(SmsNotification notification) {
         if (notification.getRecipients().isEmpty()) {
-            return ValidationResult.failure("At least one recipient is required");
+            return "At least one recipient is required";
         }
-
         for (Recipient recipient : notification.getRecipients()) {
             String phoneNumber = recipient.getAddress();
-            if (!isValidPhoneNumber(phoneNumber)) {
-                PhoneValidationResult detailedResult = validateDetailed(phoneNumber);
-                String errorMessage = detailedResult.isValid() 
-                    ? String.format("Invalid phone number: %s. Expected E.164 format (e.g., +1234567890)", phoneNumber)
-                    : detailedResult.getErrorMessage().orElse(
+            PhoneValidationResult result = validateDetailed(phoneNumber);
+            if (!result.isValid()) {
+                return result.getErrorMessage().orElse(
                         String.format("Invalid phone number: %s. Expected E.164 format (e.g., +1234567890)", phoneNumber)
-                    );
-                
-                return ValidationResult.failure(errorMessage);
+                );
             }
         }
+        return null;
+    }
 
+    private static String checkBody(SmsNotification notification) {
         if (notification.getContent() == null) {
-            return ValidationResult.failure("Content cannot be null");
+            return "Content cannot be null";
         }
 
         String body = notification.getContent().getBody();
-        if (body == null || body.trim().isEmpty()) {
-            return ValidationResult.failure("SMS message body cannot be empty");
+        if (ValidationPlan.isBlank(body)) {
+            return "SMS message body cannot be empty";
         }
 
         if (body.length() > 1600) {
-            return ValidationResult.failure(
-                    String.format("SMS message too long: %d characters. Maximum is 1600.", body.length())
-            );
+            return String.format("SMS message too long: %d characters. Maximum is 1600.", body.length());
         }
-
-        return ValidationResult.success();
+        return null;
     }
 }
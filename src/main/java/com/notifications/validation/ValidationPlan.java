@@ -0,0 +1,106 @@
+package com.notifications.validation;
+
+import com.notifications.core.Deadline;
+import com.notifications.core.Notification;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+// The checks for one notification type, assembled once per channel and run in a single
+// pass. The verdict is attached to the notification, so the service and the channel
+// share one evaluation instead of each re-checking the same fields.
+public final class ValidationPlan<N extends Notification> {
+
+    private static final VerdictKey KEY = new VerdictKey();
+
+    private final Class<N> type;
+    private final Rule<? super N>[] rules;
+
+    private ValidationPlan(Class<N> type, Rule<? super N>[] rules) {
+        this.type = type;
+        this.rules = rules;
+    }
+
+    public static <N extends Notification> Builder<N> builder(Class<N> type) {
+        return new Builder<>(type);
+    }
+
+    public boolean supports(Notification notification) {
+        return type.isInstance(notification);
+    }
+
+    public ValidationResult validate(Notification notification) {
+        if (notification == null) {
+            return ValidationResult.failure("Notification cannot be null");
+        }
+        ValidationResult verdict = notification.getVerdict(KEY, this);
+        if (verdict != null) {
+            return verdict;
+        }
+
+        verdict = evaluate(type.cast(notification));
+        notification.attachVerdict(KEY, this, verdict);
+        return verdict;
+    }
+
+    // Every plan checks the deadline: one that cannot be read would otherwise mean the
+    // notification is sent with no deadline at all.
+    private ValidationResult evaluate(N notification) {
+        String deadlineError = Deadline.check(notification);
+        if (deadlineError != null) {
+            return ValidationResult.failure(deadlineError);
+        }
+        for (Rule<? super N> rule : rules) {
+            String error = rule.check(notification);
+            if (error != null) {
+                return ValidationResult.failure(error);
+            }
+        }
+        return ValidationResult.success();
+    }
+
+    // Same answer as value.trim().isEmpty() without allocating the trimmed copy.
+    public static boolean isBlank(CharSequence value) {
+        if (value == null) {
+            return true;
+        }
+        for (int i = 0; i < value.length(); i++) {
+            if (value.charAt(i) > ' ') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    // Only this class can create one, so only plans can read or attach a verdict.
+    public static final class VerdictKey {
+        private VerdictKey() {
+        }
+    }
+
+    // Returns the error message, or null when the notification passes.
+    @FunctionalInterface
+    public interface Rule<N> {
+        String check(N notification);
+    }
+
+    public static final class Builder<N extends Notification> {
+        private final Class<N> type;
+        private final List<Rule<? super N>> rules = new ArrayList<>();
+
+        private Builder(Class<N> type) {
+            this.type = Objects.requireNonNull(type, "Type cannot be null");
+        }
+
+        public Builder<N> rule(Rule<? super N> rule) {
+            rules.add(Objects.requireNonNull(rule, "Rule cannot be null"));
+            return this;
+        }
+
+        @SuppressWarnings("unchecked")
+        public ValidationPlan<N> build() {
+            return new ValidationPlan<>(type, (Rule<? super N>[]) rules.toArray(new Rule<?>[0]));
+        }
+    }
+}
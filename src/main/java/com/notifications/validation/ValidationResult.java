@@ -3,6 +3,8 @@ package com.notifications.validation;
 import java.util.Optional;
 
 public final class ValidationResult {
+
+    private static final ValidationResult SUCCESS = new ValidationResult(true, null);
     
     private final boolean valid;
     private final String errorMessage;
@@ -13,7 +15,7 @@ public final class ValidationResult {
     }
 
     public static ValidationResult success() {
-        return new ValidationResult(true, null);
+        return SUCCESS;
     }
 
     public static ValidationResult failure(String errorMessage) {
@@ -0,0 +1,72 @@
+package com.notifications.audit;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AuditIndexTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void testGrowthIsSpreadOverInsertsAndLookupsKeepWorking() throws IOException {
+        Path path = directory.resolve("audit.idx");
+        try (AuditIndex index = AuditIndex.open(path, 1024)) {
+            for (long address = 0; address < 768; address++) {
+                index.insert(AuditIndex.hash("msg-" + address), address);
+            }
+            assertFalse(index.isGrowing());
+
+            index.insert(AuditIndex.hash("msg-768"), 768);
+            assertTrue(index.isGrowing());
+            assertEquals(2048, index.capacity());
+
+            // Each insert only migrates a few slots, so growth stays pending for a while.
+            for (long address = 769; address < 800; address++) {
+                index.insert(AuditIndex.hash("msg-" + address), address);
+                assertTrue(index.isGrowing());
+            }
+            for (long address = 0; address < 800; address++) {
+                long expected = address;
+                assertEquals(expected, index.find(AuditIndex.hash("msg-" + address), found -> found == expected));
+            }
+            assertEquals(800, index.size());
+        }
+
+        assertFalse(Files.exists(path.resolveSibling("audit.idx.tmp")));
+        try (AuditIndex index = AuditIndex.open(path, 1024)) {
+            assertFalse(index.isGrowing());
+            assertEquals(2048, index.capacity());
+            assertEquals(800, index.size());
+        }
+    }
+
+    @Test
+    void testReplayAfterAnUncheckpointedGrowthKeepsTheSizeExact() throws IOException {
+        Path path = directory.resolve("audit.idx");
+        AuditIndex crashed = AuditIndex.open(path, 32);
+        for (long address = 0; address < 200; address++) {
+            crashed.insert(AuditIndex.hash("msg-" + address), address);
+        }
+        // No close: the process dies with whatever checkpoint growth left behind.
+        long checkpoint = crashed.getCheckpoint();
+
+        try (AuditIndex index = AuditIndex.open(path, 32)) {
+            assertEquals(checkpoint, index.getCheckpoint());
+            for (long address = index.getCheckpoint(); address < 200; address++) {
+                index.insert(AuditIndex.hash("msg-" + address), address);
+            }
+            assertEquals(200, index.size());
+            for (long address = 0; address < 200; address++) {
+                long expected = address;
+                assertEquals(expected, index.find(AuditIndex.hash("msg-" + address), found -> found == expected));
+            }
+        }
+    }
+}
@@ -0,0 +1,188 @@
+package com.notifications.audit;
+
+import com.notifications.core.NotificationResult;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BinaryAuditLogTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void testRecordedResultsCanBeFoundByMessageId() throws IOException {
+        try (BinaryAuditLog log = open(64 * 1024, 1024)) {
+            log.record(NotificationResult.success("SM123", "sms", "twilio"));
+            log.record(NotificationResult.failure("Invalid phone", "VALIDATION_ERROR", "sms", "unknown"));
+            log.flush();
+
+            AuditRecord record = log.find("SM123").orElseThrow();
+            assertEquals("SM123", record.getMessageId().orElse(null));
+            assertEquals("sms", record.getChannel());
+            assertEquals("twilio", record.getProvider());
+            assertTrue(record.isSuccess());
+            assertEquals(202, record.getStatusCode());
+            assertTrue(record.getErrorCode().isEmpty());
+
+            assertTrue(log.find("SM404").isEmpty());
+            assertEquals(2, log.getRecordCount());
+            assertEquals(1, log.getIndexedCount());
+        }
+    }
+
+    @Test
+    void testIndexSurvivesSegmentRollsGrowthAndRestart() throws IOException {
+        try (BinaryAuditLog log = open(4096, 16)) {
+            for (int i = 0; i < 2_000; i++) {
+                log.record(NotificationResult.success("msg-" + i, "email", "sendgrid"));
+            }
+            log.flush();
+            assertEquals(2_000, log.getIndexedCount());
+        }
+        assertTrue(segmentCount() > 1);
+
+        try (BinaryAuditLog log = open(4096, 16)) {
+            for (int i = 0; i < 2_000; i++) {
+                assertEquals("msg-" + i, log.find("msg-" + i).orElseThrow().getMessageId().orElse(null));
+            }
+            assertEquals(2_000, log.getIndexedCount());
+        }
+    }
+
+    @Test
+    void testMissingIndexIsRebuiltFromTheLog() throws IOException {
+        try (BinaryAuditLog log = open(4096, 64)) {
+            for (int i = 0; i < 300; i++) {
+                log.record(NotificationResult.success("msg-" + i, "push", "firebase"));
+            }
+        }
+        Files.delete(directory.resolve("audit.idx"));
+
+        try (BinaryAuditLog log = open(4096, 64)) {
+            assertEquals(300, log.getIndexedCount());
+            assertEquals("firebase", log.find("msg-299").orElseThrow().getProvider());
+        }
+    }
+
+    @Test
+    void testConcurrentProducersAreNotDropped() throws Exception {
+        try (BinaryAuditLog log = open(1024 * 1024, 1024)) {
+            List<CompletableFuture<Void>> producers = new ArrayList<>();
+            try (var executor = Executors.newFixedThreadPool(4)) {
+                for (int p = 0; p < 4; p++) {
+                    int producer = p;
+                    producers.add(CompletableFuture.runAsync(() -> {
+                        for (int i = 0; i < 5_000; i++) {
+                            log.record(NotificationResult.success(producer + "-" + i, "sms", "twilio"));
+                        }
+                    }, executor));
+                }
+                producers.forEach(CompletableFuture::join);
+            }
+            log.flush();
+
+            assertEquals(20_000, log.getRecordCount());
+            assertTrue(log.find("3-4999").isPresent());
+        }
+    }
+
+    @Test
+    void testRecordsThatOutwaitTheBufferAreSpilledNotDropped() throws Exception {
+        try (BinaryAuditLog log = BinaryAuditLog.open(AuditConfig.builder()
+                .directory(directory)
+                .segmentSize(1024 * 1024)
+                .bufferSize(16)
+                .indexCapacity(1024)
+                .maxBackpressureWait(Duration.ZERO)
+                .build())) {
+            List<CompletableFuture<Void>> producers = new ArrayList<>();
+            try (var executor = Executors.newFixedThreadPool(4)) {
+                for (int p = 0; p < 4; p++) {
+                    int producer = p;
+                    producers.add(CompletableFuture.runAsync(() -> {
+                        for (int i = 0; i < 5_000; i++) {
+                            log.record(NotificationResult.success(producer + "-" + i, "sms", "twilio"));
+                        }
+                    }, executor));
+                }
+                producers.forEach(CompletableFuture::join);
+            }
+            log.flush();
+
+            assertEquals(20_000, log.getRecordCount());
+            assertEquals(20_000, log.getIndexedCount());
+            assertTrue(log.find("2-4999").isPresent());
+        }
+    }
+
+    @Test
+    void testRecordAfterCloseIsRejected() throws IOException {
+        BinaryAuditLog log = open(64 * 1024, 1024);
+        log.close();
+
+        assertThrows(IllegalStateException.class,
+                () -> log.record(NotificationResult.success("SM1", "sms", "twilio")));
+    }
+
+    @Test
+    void testRecordsAcceptedWhileClosingAreWritten() throws Exception {
+        BinaryAuditLog log = open(1024 * 1024, 1024);
+        List<String> accepted = new CopyOnWriteArrayList<>();
+        List<CompletableFuture<Void>> producers = new ArrayList<>();
+        try (var executor = Executors.newFixedThreadPool(4)) {
+            for (int p = 0; p < 4; p++) {
+                int producer = p;
+                producers.add(CompletableFuture.runAsync(() -> {
+                    for (int i = 0; ; i++) {
+                        String messageId = producer + "-" + i;
+                        try {
+                            log.record(NotificationResult.success(messageId, "sms", "twilio"));
+                        } catch (IllegalStateException e) {
+                            return;
+                        }
+                        accepted.add(messageId);
+                    }
+                }, executor));
+            }
+            while (accepted.size() < 2_000) {
+                Thread.sleep(1);
+            }
+            log.close();
+            producers.forEach(CompletableFuture::join);
+        }
+
+        try (BinaryAuditLog reopened = open(1024 * 1024, 1024)) {
+            assertEquals(accepted.size(), reopened.getIndexedCount());
+            for (String messageId : accepted) {
+                assertTrue(reopened.find(messageId).isPresent(), messageId);
+            }
+        }
+    }
+
+    private BinaryAuditLog open(int segmentSize, long indexCapacity) throws IOException {
+        return BinaryAuditLog.open(AuditConfig.builder()
+                .directory(directory)
+                .segmentSize(segmentSize)
+                .bufferSize(256)
+                .indexCapacity(indexCapacity)
+                .build());
+    }
+
+    private long segmentCount() throws IOException {
+        try (var files = Files.list(directory)) {
+            return files.filter(path -> path.getFileName().toString().startsWith("audit-")).count();
+        }
+    }
+}
@@ -4,6 +4,11 @@ import com.notifications.core.NotificationResult;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
 import static org.junit.jupiter.api.Assertions.*;
 
 class EmailChannelTest {
@@ -57,6 +62,52 @@ class EmailChannelTest {
         assertEquals("VALIDATION_ERROR", result.getErrorCode().orElse(null));
     }
 
+    @Test
+    void testSendAsyncDoesNotHoldCallerThread() {
+        List<CompletableFuture<NotificationResult>> futures = new ArrayList<>();
+
+        assertTimeoutPreemptively(Duration.ofSeconds(3), () -> {
+            for (int i = 0; i < 100; i++) {
+                futures.add(emailChannel.sendAsync(
+                        EmailNotification.of("user" + i + "@example.com", "Subject", "Body")));
+            }
+            CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).join();
+        });
+
+        assertTrue(futures.stream().allMatch(future -> future.join().isSuccess()));
+    }
+
+    @Test
+    void testSendBatchSharesProviderCall() {
+        List<EmailNotification> emails = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            emails.add(EmailNotification.of("user" + i + "@example.com", "Subject " + i, "Same body"));
+        }
+
+        List<NotificationResult> results = emailChannel.sendBatch(emails);
+
+        assertEquals(5, results.size());
+        assertTrue(results.stream().allMatch(NotificationResult::isSuccess));
+        Object batchMessageId = results.get(0).getProviderMetadata().get("sendgrid_message_id");
+        assertTrue(results.stream().allMatch(result ->
+                batchMessageId.equals(result.getProviderMetadata().get("sendgrid_message_id"))));
+    }
+
+    @Test
+    void testSendBatchKeepsValidationFailuresInPlace() {
+        List<EmailNotification> emails = List.of(
+                EmailNotification.of("first@example.com", "Subject", "Body"),
+                EmailNotification.of("invalid-email", "Subject", "Body"),
+                EmailNotification.of("third@example.com", "Subject", "Body")
+        );
+
+        List<NotificationResult> results = emailChannel.sendBatch(emails);
+
+        assertTrue(results.get(0).isSuccess());
+        assertEquals("VALIDATION_ERROR", results.get(1).getErrorCode().orElse(null));
+        assertTrue(results.get(2).isSuccess());
+    }
+
     @Test
     void testCanHandle() {
         EmailNotification email = EmailNotification.builder()
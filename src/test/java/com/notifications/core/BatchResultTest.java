@@ -0,0 +1,40 @@
+package com.notifications.core;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BatchResultTest {
+
+    @Test
+    void testFailuresIndexedByPosition() {
+        NotificationResult[] failures = new NotificationResult[5];
+        failures[1] = NotificationResult.failure("Invalid", "VALIDATION_ERROR", "email", "sendgrid");
+        failures[4] = NotificationResult.failure("Down", "PROVIDER_ERROR", "sms", "twilio");
+
+        BatchResult result = BatchResult.of(5, 3, failures);
+
+        assertEquals(5, result.getTotal());
+        assertEquals(3, result.getSuccessCount());
+        assertEquals(2, result.getFailureCount());
+        assertFalse(result.isAllSuccessful());
+        assertEquals("VALIDATION_ERROR", result.getFailure(1).flatMap(NotificationResult::getErrorCode).orElse(null));
+        assertEquals("PROVIDER_ERROR", result.getFailure(4).flatMap(NotificationResult::getErrorCode).orElse(null));
+        assertTrue(result.getFailure(0).isEmpty());
+
+        Map<Integer, NotificationResult> byIndex = result.getFailures();
+        assertEquals(2, byIndex.size());
+        assertEquals(1, byIndex.keySet().iterator().next());
+    }
+
+    @Test
+    void testEmpty() {
+        BatchResult result = BatchResult.empty();
+
+        assertEquals(0, result.getTotal());
+        assertTrue(result.isAllSuccessful());
+        assertTrue(result.getFailures().isEmpty());
+    }
+}
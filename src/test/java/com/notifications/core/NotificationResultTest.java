@@ -2,6 +2,10 @@ package com.notifications.core;
 
 import org.junit.jupiter.api.Test;
 
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.Map;
+
 import static org.junit.jupiter.api.Assertions.*;
 
 class NotificationResultTest {
@@ -46,4 +50,49 @@ class NotificationResultTest {
         assertEquals("push", result.getChannel());
         assertEquals("firebase", result.getProvider());
     }
+
+    @Test
+    void testProviderMetadataIsSharedNotCopied() {
+        ProviderMetadata metadata = ProviderMetadata.of(
+                "twilio_message_sid", "SM1",
+                "twilio_status", "queued",
+                "status_code", ProviderMetadata.statusCode(201));
+        NotificationResult result = new NotificationResult.Builder()
+                .success(true)
+                .providerMetadata(metadata)
+                .build();
+
+        assertSame(metadata, result.getProviderMetadata());
+        assertEquals(Map.of("twilio_message_sid", "SM1", "twilio_status", "queued", "status_code", 201),
+                result.getProviderMetadata());
+        assertSame(ProviderMetadata.statusCode(201), result.getProviderMetadata().get("status_code"));
+        assertThrows(UnsupportedOperationException.class, () -> result.getProviderMetadata().put("key", "value"));
+        assertThrows(IllegalArgumentException.class, () -> ProviderMetadata.of("key", 1, "key", 2));
+    }
+
+    @Test
+    void testMutableMetadataIsCopiedIntoCompactForm() {
+        Map<String, Object> metadata = new HashMap<>();
+        metadata.put("retry_after_ms", 1000L);
+        NotificationResult result = new NotificationResult.Builder()
+                .providerMetadata(metadata)
+                .addMetadata("status_code", 429)
+                .build();
+        metadata.put("late", true);
+
+        assertInstanceOf(ProviderMetadata.class, result.getProviderMetadata());
+        assertEquals(Map.of("retry_after_ms", 1000L, "status_code", 429), result.getProviderMetadata());
+        assertSame(ProviderMetadata.empty(), NotificationResult.success("id", "sms", "twilio").getProviderMetadata());
+    }
+
+    @Test
+    void testTimestampDefaultsToNowAndKeepsExplicitValue() {
+        long before = System.currentTimeMillis();
+        NotificationResult result = NotificationResult.success("id", "sms", "twilio");
+        Instant explicit = Instant.parse("2026-01-15T12:00:00.123456Z");
+
+        assertTrue(result.getTimestampMillis() >= before);
+        assertEquals(result.getTimestampMillis(), result.getTimestamp().toEpochMilli());
+        assertEquals(explicit, new NotificationResult.Builder().timestamp(explicit).build().getTimestamp());
+    }
 }
@@ -3,15 +3,41 @@ package com.notifications.core;
 import com.notifications.channels.email.EmailChannel;
 import com.notifications.channels.email.EmailConfig;
 import com.notifications.channels.email.EmailNotification;
+import com.notifications.channels.push.PushChannel;
+import com.notifications.channels.push.PushConfig;
+import com.notifications.channels.push.PushNotification;
 import com.notifications.channels.sms.SmsChannel;
 import com.notifications.channels.sms.SmsConfig;
 import com.notifications.channels.sms.SmsNotification;
 import com.notifications.model.NotificationContent;
+import com.notifications.model.NotificationMetadata;
+import com.notifications.idempotency.IdempotencyConfig;
+import com.notifications.metrics.MetricsSnapshot;
+import com.notifications.outbox.Outbox;
+import com.notifications.outbox.OutboxConfig;
+import com.notifications.scheduling.NotificationScheduler;
+import com.notifications.scheduling.SchedulerConfig;
+import com.notifications.queue.DispatchQueueConfig;
+import com.notifications.resilience.CircuitBreaker;
+import com.notifications.resilience.CircuitBreakerConfig;
 import com.notifications.model.Recipient;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -84,6 +110,571 @@ class NotificationServiceTest {
         assertEquals("VALIDATION_ERROR", result.getErrorCode().orElse(null));
     }
 
+    @Test
+    void testValidationFailureCarriesTheChannelReason() {
+        NotificationResult result = service.send(SmsNotification.of("12345", "Test"));
+
+        assertTrue(result.isFailure());
+        assertEquals("VALIDATION_ERROR", result.getErrorCode().orElse(null));
+        assertTrue(result.getError().orElse("").contains("12345"));
+    }
+
+    @Test
+    void testSendAsyncEmailNotification() {
+        EmailNotification email = EmailNotification.builder()
+                .to("recipient@example.com")
+                .subject("Test Subject")
+                .body("Test Body")
+                .build();
+
+        NotificationResult result = service.sendAsync(email).join();
+
+        assertTrue(result.isSuccess());
+        assertEquals("email", result.getChannel());
+    }
+
+    @Test
+    void testSendAsyncManyInFlight() {
+        List<CompletableFuture<NotificationResult>> futures = new ArrayList<>();
+        for (int i = 0; i < 200; i++) {
+            futures.add(service.sendAsync(SmsNotification.of("+12025551234", "Message " + i)));
+        }
+
+        CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).join();
+
+        assertTrue(futures.stream().allMatch(future -> future.join().isSuccess()));
+    }
+
+    @Test
+    void testSendAsyncInvalidNotification() {
+        EmailNotification invalidEmail = EmailNotification.builder()
+                .to("invalid-email")
+                .subject("")
+                .body("")
+                .build();
+
+        NotificationResult result = service.sendAsync(invalidEmail).join();
+
+        assertTrue(result.isFailure());
+        assertEquals("VALIDATION_ERROR", result.getErrorCode().orElse(null));
+    }
+
+    @Test
+    void testSendAsyncWithCustomExecutor() {
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            NotificationResult result = service.sendAsync(SmsNotification.of("+12025551234", "Test"), executor).join();
+
+            assertTrue(result.isSuccess());
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    void testSendAsyncNullNotification() {
+        assertThrows(NullPointerException.class, () -> service.sendAsync(null));
+    }
+
+    @Test
+    void testSendAllGroupsByChannel() {
+        List<Notification> notifications = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            notifications.add(EmailNotification.of("user" + i + "@example.com", "Subject", "Body"));
+            notifications.add(SmsNotification.of("+12025551234", "Message " + i));
+        }
+
+        BatchResult result = service.sendAll(notifications);
+
+        assertEquals(20, result.getTotal());
+        assertEquals(20, result.getSuccessCount());
+        assertTrue(result.isAllSuccessful());
+    }
+
+    @Test
+    void testSendAllReportsFailuresByIndex() {
+        List<Notification> notifications = List.of(
+                EmailNotification.of("user@example.com", "Subject", "Body"),
+                EmailNotification.of("invalid-email", "Subject", "Body"),
+                SmsNotification.of("+12025551234", "Message"),
+                SmsNotification.of("+12025551234", "")
+        );
+
+        BatchResult result = service.sendAll(notifications);
+
+        assertEquals(2, result.getSuccessCount());
+        assertEquals(2, result.getFailureCount());
+        assertEquals("VALIDATION_ERROR", result.getFailure(1).flatMap(NotificationResult::getErrorCode).orElse(null));
+        assertEquals("VALIDATION_ERROR", result.getFailure(3).flatMap(NotificationResult::getErrorCode).orElse(null));
+        assertTrue(result.getFailure(0).isEmpty());
+    }
+
+    @Test
+    void testSendAllWithoutChannel() {
+        NotificationService emailOnly = NotificationService.builder()
+                .addChannel(new EmailChannel(EmailConfig.builder()
+                        .provider(EmailConfig.EmailProvider.SENDGRID)
+                        .apiKey("test-key")
+                        .fromEmail("test@example.com")
+                        .build()))
+                .build();
+
+        BatchResult result = emailOnly.sendAll(List.of(
+                SmsNotification.of("+12025551234", "Message"),
+                SmsNotification.of("+12025551234", "Message")
+        ));
+
+        assertEquals(0, result.getSuccessCount());
+        assertEquals("CHANNEL_NOT_FOUND", result.getFailure(0).flatMap(NotificationResult::getErrorCode).orElse(null));
+        assertEquals("CHANNEL_NOT_FOUND", result.getFailure(1).flatMap(NotificationResult::getErrorCode).orElse(null));
+    }
+
+    @Test
+    void testSendAllEmpty() {
+        assertEquals(0, service.sendAll(List.of()).getTotal());
+    }
+
+    @Test
+    void testOpenBreakerIsReportedAsCircuitOpen() {
+        CircuitBreaker breaker = new CircuitBreaker("twilio", CircuitBreakerConfig.builder()
+                .minimumCalls(2)
+                .openDuration(Duration.ofMinutes(1))
+                .build());
+        NotificationService guarded = NotificationService.builder()
+                .addChannel(new SmsChannel(SmsConfig.builder()
+                        .provider(SmsConfig.SmsProvider.TWILIO)
+                        .accountSid("test-sid")
+                        .authToken("test-token")
+                        .fromPhoneNumber("+12025551234")
+                        .circuitBreaker(breaker)
+                        .build()))
+                .build();
+        breaker.onFailure(0);
+        breaker.onFailure(0);
+
+        NotificationResult result = guarded.send(SmsNotification.of("+12025551234", "Message"));
+        BatchResult batch = guarded.sendAll(List.of(SmsNotification.of("+12025551234", "Message")));
+
+        assertFalse(guarded.getChannels().get(0).isReady());
+        assertEquals("CIRCUIT_OPEN", result.getErrorCode().orElse(null));
+        assertTrue((Long) result.getProviderMetadata().get("retry_after_ms") > 0);
+        assertEquals("CIRCUIT_OPEN", batch.getFailure(0).flatMap(NotificationResult::getErrorCode).orElse(null));
+    }
+
+    @Test
+    void testSubmitInQueuedMode() {
+        NotificationService queued = NotificationService.builder()
+                .addChannel(new SmsChannel(SmsConfig.builder()
+                        .provider(SmsConfig.SmsProvider.TWILIO)
+                        .accountSid("test-sid")
+                        .authToken("test-token")
+                        .fromPhoneNumber("+12025551234")
+                        .build()))
+                .dispatchQueue(DispatchQueueConfig.builder().capacity(64).workers(4).build())
+                .build();
+
+        List<CompletableFuture<NotificationResult>> futures = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            futures.add(queued.submit(SmsNotification.of("+12025551234", "Message " + i)));
+        }
+
+        assertTrue(futures.stream().allMatch(future -> future.join().isSuccess()));
+        assertEquals(20, queued.getQueueStats().get(0).getDispatched());
+        assertEquals(20, queued.getMetrics().getPriorityLatencies().get("NORMAL").getCount());
+    }
+
+    @Test
+    void testSubmitWithoutQueue() {
+        assertThrows(IllegalStateException.class,
+                () -> service.submit(SmsNotification.of("+12025551234", "Message")));
+    }
+
+    @Test
+    void testOutboxReplaysUnfinishedNotifications(@TempDir Path directory) throws Exception {
+        OutboxConfig config = OutboxConfig.builder().directory(directory).flushInterval(Duration.ofMillis(1)).build();
+        try (Outbox crashed = Outbox.open(config)) {
+            crashed.append(SmsNotification.of("+12025551234", "Unfinished")).join();
+        }
+
+        try (Outbox outbox = Outbox.open(config)) {
+            NotificationService durable = NotificationService.builder()
+                    .addChannel(new SmsChannel(SmsConfig.builder()
+                            .provider(SmsConfig.SmsProvider.TWILIO)
+                            .accountSid("test-sid")
+                            .authToken("test-token")
+                            .fromPhoneNumber("+12025551234")
+                            .build()))
+                    .outbox(outbox)
+                    .build();
+
+            long deadline = System.nanoTime() + Duration.ofSeconds(5).toNanos();
+            while (outbox.getPendingCount() > 0 && System.nanoTime() < deadline) {
+                Thread.sleep(10);
+            }
+            assertEquals(0, outbox.getPendingCount());
+
+            assertTrue(durable.send(SmsNotification.of("+12025551234", "Durable")).isSuccess());
+            assertEquals(0, outbox.getPendingCount());
+        }
+
+        try (Outbox reopened = Outbox.open(config)) {
+            assertTrue(reopened.recover().isEmpty());
+        }
+    }
+
+    @Test
+    void testBlockingProviderDoesNotStallOutboxAppends(@TempDir Path directory) throws Exception {
+        CompletableFuture<NotificationResult> gate = new CompletableFuture<>();
+        // A long flush interval makes sure the send is waiting on the log when it flushes.
+        OutboxConfig config = OutboxConfig.builder().directory(directory).flushInterval(Duration.ofMillis(50)).build();
+        try (Outbox outbox = Outbox.open(config)) {
+            NotificationService durable = NotificationService.builder()
+                    .addChannel(blockingChannel(gate))
+                    .outbox(outbox)
+                    .build();
+
+            CompletableFuture<NotificationResult> blocked = durable.sendAsync(SmsNotification.of("+12025551234", "Slow"));
+            try {
+                long deadline = System.nanoTime() + Duration.ofSeconds(5).toNanos();
+                while (outbox.getPendingCount() == 0 && System.nanoTime() < deadline) {
+                    Thread.sleep(5);
+                }
+                Thread.sleep(100);
+
+                // The send above is parked inside the provider; group commit must keep going.
+                long id = outbox.append(SmsNotification.of("+12025551234", "Other")).get(2, TimeUnit.SECONDS);
+                outbox.complete(id);
+                assertFalse(blocked.isDone());
+            } finally {
+                gate.complete(NotificationResult.success("msg-1", "sms", "test"));
+            }
+            assertTrue(blocked.get(5, TimeUnit.SECONDS).isSuccess());
+        }
+    }
+
+    @Test
+    void testSendAllWritesTheBatchToTheOutbox(@TempDir Path directory) throws Exception {
+        OutboxConfig config = OutboxConfig.builder().directory(directory).flushInterval(Duration.ofMillis(1)).build();
+        try (Outbox outbox = Outbox.open(config)) {
+            List<Integer> pendingDuringSend = new CopyOnWriteArrayList<>();
+            NotificationService durable = NotificationService.builder()
+                    .addChannel(new NotificationChannel() {
+                        @Override
+                        public String getChannelType() {
+                            return "sms";
+                        }
+
+                        @Override
+                        public NotificationResult send(Notification notification) {
+                            pendingDuringSend.add(outbox.getPendingCount());
+                            return NotificationResult.success("msg-1", "sms", "test");
+                        }
+                    })
+                    .outbox(outbox)
+                    .build();
+
+            BatchResult result = durable.sendAll(List.of(
+                    SmsNotification.of("+12025551234", "First"),
+                    SmsNotification.of("+12025551234", "Second"),
+                    SmsNotification.of("+12025551234", "Third")
+            ));
+
+            assertEquals(3, result.getSuccessCount());
+            assertEquals(List.of(3, 3, 3), pendingDuringSend);
+            assertEquals(0, outbox.getPendingCount());
+        }
+    }
+
+    @Test
+    void testScheduledNotificationIsSentLater() throws Exception {
+        try (NotificationScheduler scheduler = NotificationScheduler.open(SchedulerConfig.builder().build())) {
+            NotificationService scheduling = NotificationService.builder()
+                    .addChannel(new SmsChannel(SmsConfig.builder()
+                            .provider(SmsConfig.SmsProvider.TWILIO)
+                            .accountSid("test-sid")
+                            .authToken("test-token")
+                            .fromPhoneNumber("+12025551234")
+                            .build()))
+                    .scheduler(scheduler)
+                    .build();
+
+            long kept = scheduling.sendAfter(SmsNotification.of("+12025551234", "Reminder"), Duration.ofMillis(50));
+            long cancelled = scheduling.sendAfter(SmsNotification.of("+12025551234", "Cancelled"), Duration.ofHours(1));
+            assertEquals(2, scheduling.getScheduledCount());
+            assertTrue(scheduling.cancelScheduled(cancelled));
+            assertFalse(scheduling.cancelScheduled(kept + 100));
+
+            long deadline = System.nanoTime() + Duration.ofSeconds(5).toNanos();
+            while (scheduling.getMetrics().getLatencies().isEmpty() && System.nanoTime() < deadline) {
+                Thread.sleep(10);
+            }
+            assertEquals(0, scheduling.getScheduledCount());
+            assertEquals(1, scheduling.getMetrics().getLatencies().get(0).getHistogram().getCount());
+        }
+        assertThrows(IllegalStateException.class,
+                () -> service.sendAt(SmsNotification.of("+12025551234", "Message"), Instant.now()));
+    }
+
+    @Test
+    void testExpiredDeadlineIsRejectedBeforeSending() {
+        NotificationResult result = service.send(SmsNotification.of("+12025551234", "Late"),
+                Deadline.after(Duration.ofMillis(-1)));
+
+        assertFalse(result.isSuccess());
+        assertEquals("DEADLINE_EXCEEDED", result.getErrorCode().orElse(null));
+    }
+
+    @Test
+    void testDeadlineFromMetadataCutsProviderCallShort() {
+        SmsNotification sms = SmsNotification.builder()
+                .to("+12025551234")
+                .message("Hurry")
+                .metadata(NotificationMetadata.of(Map.of(
+                        NotificationMetadata.DEADLINE, Instant.now().plusMillis(30).toString())))
+                .build();
+
+        NotificationResult result = service.send(sms);
+
+        assertEquals("DEADLINE_EXCEEDED", result.getErrorCode().orElse(null));
+        assertEquals("twilio", result.getProvider());
+        assertEquals(504, result.getStatusCode());
+    }
+
+    @Test
+    void testUnparseableDeadlineIsRejected() {
+        SmsNotification sms = SmsNotification.builder()
+                .to("+12025551234")
+                .message("Whenever")
+                .metadata(NotificationMetadata.of(Map.of(NotificationMetadata.DEADLINE, "tomorrow")))
+                .build();
+
+        NotificationResult result = service.send(sms);
+        assertEquals("VALIDATION_ERROR", result.getErrorCode().orElse(null));
+        assertEquals("Invalid deadline: tomorrow", result.getError().orElse(null));
+
+        BatchResult batch = service.sendAll(List.of(sms));
+        assertEquals("VALIDATION_ERROR", batch.getFailure(0).flatMap(NotificationResult::getErrorCode).orElse(null));
+    }
+
+    @Test
+    void testSendAllRejectsExpiredDeadlines() {
+        SmsNotification late = SmsNotification.builder()
+                .to("+12025551234")
+                .message("Late")
+                .metadata(NotificationMetadata.of(Map.of(
+                        NotificationMetadata.DEADLINE, Instant.now().minusSeconds(1).toString())))
+                .build();
+
+        BatchResult result = service.sendAll(List.of(SmsNotification.of("+12025551234", "On time"), late));
+
+        assertEquals(1, result.getSuccessCount());
+        assertTrue(result.getFailure(0).isEmpty());
+        assertEquals("DEADLINE_EXCEEDED", result.getFailure(1).flatMap(NotificationResult::getErrorCode).orElse(null));
+    }
+
+    @Test
+    void testHangingChannelIsCancelledAtDeadline() {
+        CompletableFuture<NotificationResult> hanging = new CompletableFuture<>();
+        NotificationService hangingService = NotificationService.builder()
+                .addChannel(new NotificationChannel() {
+                    @Override
+                    public String getChannelType() {
+                        return "sms";
+                    }
+
+                    @Override
+                    public NotificationResult send(Notification notification) {
+                        return hanging.join();
+                    }
+
+                    @Override
+                    public CompletionStage<NotificationResult> sendAsync(Notification notification) {
+                        return hanging;
+                    }
+                })
+                .build();
+
+        long start = System.nanoTime();
+        NotificationResult result = hangingService.send(SmsNotification.of("+12025551234", "Stuck"),
+                Deadline.after(Duration.ofMillis(50)));
+
+        assertEquals("DEADLINE_EXCEEDED", result.getErrorCode().orElse(null));
+        assertTrue(hanging.isCancelled());
+        assertTrue(System.nanoTime() - start < Duration.ofSeconds(2).toNanos());
+    }
+
+    @Test
+    void testShutdownDrainsInFlightSendsAndRejectsNewOnes() throws Exception {
+        CompletableFuture<NotificationResult> gate = new CompletableFuture<>();
+        NotificationService gated = NotificationService.builder()
+                .addChannel(gatedChannel(gate))
+                .build();
+
+        CompletableFuture<NotificationResult> inFlight = gated.sendAsync(SmsNotification.of("+12025551234", "Pending"));
+        gated.shutdown();
+
+        NotificationResult rejected = gated.send(SmsNotification.of("+12025551234", "Late"));
+        assertEquals("SERVICE_SHUTDOWN", rejected.getErrorCode().orElse(null));
+        assertTrue(gated.isShutdown());
+        assertFalse(gated.isTerminated());
+
+        CompletableFuture.delayedExecutor(50, TimeUnit.MILLISECONDS)
+                .execute(() -> gate.complete(NotificationResult.success("msg-1", "sms", "test")));
+        ShutdownReport report = gated.awaitTermination(Duration.ofSeconds(5));
+
+        assertTrue(report.isDrained());
+        assertEquals(0, report.getAbandonedInFlight());
+        assertTrue(inFlight.isDone());
+        assertTrue(inFlight.join().isSuccess());
+        assertTrue(gated.isTerminated());
+        assertSame(report, gated.awaitTermination(Duration.ZERO));
+    }
+
+    @Test
+    void testAwaitTerminationSettlesWhatItCouldNotDrain() throws Exception {
+        CompletableFuture<NotificationResult> gate = new CompletableFuture<>();
+        NotificationService gated = NotificationService.builder()
+                .addChannel(gatedChannel(gate))
+                .dispatchQueue(DispatchQueueConfig.builder().capacity(16).workers(1).maxInFlightPerWorker(1).build())
+                .build();
+
+        List<CompletableFuture<NotificationResult>> futures = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            futures.add(gated.submit(SmsNotification.of("+12025551234", "Message " + i)));
+        }
+        ShutdownReport report = gated.awaitTermination(Duration.ofMillis(100));
+
+        assertFalse(report.isDrained());
+        assertEquals(3, report.getAbandonedInFlight());
+        assertEquals(2, report.getAbandonedQueued());
+        assertEquals(2, futures.stream()
+                .filter(future -> future.isDone()
+                        && "SERVICE_SHUTDOWN".equals(future.join().getErrorCode().orElse(null)))
+                .count());
+        gate.complete(NotificationResult.success("msg-1", "sms", "test"));
+    }
+
+    // Keeps the default sendAsync, so the blocking send runs on whichever thread calls it.
+    private static NotificationChannel blockingChannel(CompletableFuture<NotificationResult> gate) {
+        return new NotificationChannel() {
+            @Override
+            public String getChannelType() {
+                return "sms";
+            }
+
+            @Override
+            public NotificationResult send(Notification notification) {
+                return gate.join();
+            }
+        };
+    }
+
+    private static NotificationChannel gatedChannel(CompletableFuture<NotificationResult> gate) {
+        return new NotificationChannel() {
+            @Override
+            public String getChannelType() {
+                return "sms";
+            }
+
+            @Override
+            public NotificationResult send(Notification notification) {
+                return gate.join();
+            }
+
+            @Override
+            public CompletionStage<NotificationResult> sendAsync(Notification notification) {
+                return gate;
+            }
+        };
+    }
+
+    @Test
+    void testResultsAreRecordedToTheAuditSink() {
+        List<NotificationResult> audited = new CopyOnWriteArrayList<>();
+        NotificationService audit = NotificationService.builder()
+                .addChannel(new SmsChannel(SmsConfig.builder()
+                        .provider(SmsConfig.SmsProvider.TWILIO)
+                        .accountSid("test-sid")
+                        .authToken("test-token")
+                        .fromPhoneNumber("+12025551234")
+                        .build()))
+                .auditSink(audited::add)
+                .build();
+
+        NotificationResult result = audit.send(SmsNotification.of("+12025551234", "Audited"));
+        audit.sendAll(List.of(SmsNotification.of("+12025551234", "Batch"), SmsNotification.of("invalid", "Batch")));
+
+        assertEquals(3, audited.size());
+        assertSame(result, audited.get(0));
+        assertEquals(2, audited.stream().filter(NotificationResult::isSuccess).count());
+    }
+
+    @Test
+    void testDuplicateSendIsSuppressed() {
+        NotificationService deduplicating = NotificationService.builder()
+                .addChannel(new SmsChannel(SmsConfig.builder()
+                        .provider(SmsConfig.SmsProvider.TWILIO)
+                        .accountSid("test-sid")
+                        .authToken("test-token")
+                        .fromPhoneNumber("+12025551234")
+                        .build()))
+                .idempotency(IdempotencyConfig.defaults())
+                .build();
+
+        NotificationResult first = deduplicating.send(SmsNotification.of("+12025551234", "Your code is 1234"));
+        NotificationResult second = deduplicating.send(SmsNotification.of("+12025551234", "Your code is 1234"));
+
+        assertEquals(first.getMessageId(), second.getMessageId());
+        assertEquals(1, deduplicating.getIdempotencyStats().orElseThrow().getHits());
+    }
+
+    @Test
+    void testSendAllSuppressesDuplicates() {
+        AtomicInteger sent = new AtomicInteger();
+        NotificationService deduplicating = NotificationService.builder()
+                .addChannel(new NotificationChannel() {
+                    @Override
+                    public String getChannelType() {
+                        return "sms";
+                    }
+
+                    @Override
+                    public NotificationResult send(Notification notification) {
+                        return NotificationResult.success("msg-" + sent.incrementAndGet(), "sms", "test");
+                    }
+                })
+                .idempotency(IdempotencyConfig.defaults())
+                .build();
+
+        NotificationResult first = deduplicating.send(SmsNotification.of("+12025551234", "Your code is 1234"));
+        BatchResult batch = deduplicating.sendAll(List.of(
+                SmsNotification.of("+12025551234", "Your code is 1234"),
+                SmsNotification.of("+12025551234", "Your code is 5678"),
+                SmsNotification.of("+12025551234", "Your code is 5678")
+        ));
+
+        assertTrue(first.isSuccess());
+        assertEquals(3, batch.getSuccessCount());
+        assertEquals(2, sent.get());
+        assertEquals(2, deduplicating.getIdempotencyStats().orElseThrow().getHits());
+    }
+
+    @Test
+    void testMetricsAreRecorded() {
+        service.send(SmsNotification.of("+12025551234", "Hello"));
+        service.send(SmsNotification.of("invalid", "Hello"));
+
+        MetricsSnapshot metrics = service.getMetrics();
+
+        assertEquals(0L, metrics.getInFlight().get("sms"));
+        assertEquals(1L, metrics.getValidationFailures().get("sms"));
+        // The invalid number is rejected by the service before it reaches the provider.
+        assertTrue(metrics.getLatencies().stream()
+                .anyMatch(latency -> latency.getProvider().equals("twilio") && latency.getHistogram().getCount() == 1));
+        assertTrue(metrics.getLatencies().stream()
+                .anyMatch(latency -> latency.getProvider().equals("unknown") && latency.getHistogram().getCount() == 1));
+    }
+
     @Test
     void testNullNotification() {
         assertThrows(NullPointerException.class, () -> {
@@ -91,6 +682,26 @@ class NotificationServiceTest {
         });
     }
 
+    @Test
+    void testAddAndRemoveChannel() {
+        PushNotification push = PushNotification.of("device-token", "Title", "Body");
+        assertEquals("CHANNEL_NOT_FOUND", service.send(push).getErrorCode().orElse(null));
+
+        PushChannel pushChannel = new PushChannel(PushConfig.builder()
+                .provider(PushConfig.PushProvider.FIREBASE)
+                .projectId("test-project")
+                .serviceAccountJson("{}")
+                .build());
+        service.addChannel(pushChannel);
+
+        assertEquals(3, service.getChannelCount());
+        assertTrue(service.send(push).isSuccess());
+
+        assertTrue(service.removeChannel(pushChannel));
+        assertFalse(service.removeChannel(pushChannel));
+        assertEquals("CHANNEL_NOT_FOUND", service.send(push).getErrorCode().orElse(null));
+    }
+
     @Test
     void testGetChannels() {
         assertEquals(2, service.getChannelCount());
@@ -0,0 +1,177 @@
+package com.notifications.idempotency;
+
+import com.notifications.channels.email.EmailNotification;
+import com.notifications.channels.sms.SmsNotification;
+import com.notifications.core.Notification;
+import com.notifications.core.NotificationResult;
+import com.notifications.model.NotificationMetadata;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class IdempotencyCacheTest {
+
+    private final AtomicLong now = new AtomicLong();
+    private final AtomicInteger sends = new AtomicInteger();
+
+    @Test
+    void testDuplicateReturnsOriginalResult() {
+        IdempotencyCache cache = cache(Duration.ofMinutes(1), 100);
+
+        NotificationResult first = send(cache, SmsNotification.of("+12025551234", "Your code is 1234"));
+        NotificationResult second = send(cache, SmsNotification.of("+12025551234", "Your code is 1234"));
+
+        assertSame(first, second);
+        assertEquals(1, sends.get());
+        assertEquals(1, cache.getStats().getHits());
+        assertEquals(1, cache.getStats().getMisses());
+    }
+
+    @Test
+    void testDifferentRecipientOrContentIsNotADuplicate() {
+        IdempotencyCache cache = cache(Duration.ofMinutes(1), 100);
+
+        send(cache, SmsNotification.of("+12025551234", "Your code is 1234"));
+        send(cache, SmsNotification.of("+12025559999", "Your code is 1234"));
+        send(cache, SmsNotification.of("+12025551234", "Your code is 5678"));
+
+        assertEquals(3, sends.get());
+    }
+
+    @Test
+    void testExplicitKeyTakesPrecedenceOverContent() {
+        IdempotencyCache cache = cache(Duration.ofMinutes(1), 100);
+
+        send(cache, withKey("order-42", "First wording"));
+        send(cache, withKey("order-42", "Second wording"));
+        send(cache, withKey("order-43", "First wording"));
+
+        assertEquals(2, sends.get());
+    }
+
+    @Test
+    void testFailuresAreNotRemembered() {
+        IdempotencyCache cache = cache(Duration.ofMinutes(1), 100);
+        SmsNotification sms = SmsNotification.of("+12025551234", "Hello");
+
+        cache.execute(sms, () -> {
+            sends.incrementAndGet();
+            return CompletableFuture.completedFuture(
+                    NotificationResult.failure("Down", "PROVIDER_ERROR", "sms", "test"));
+        }).join();
+        NotificationResult retried = send(cache, sms);
+
+        assertTrue(retried.isSuccess());
+        assertEquals(2, sends.get());
+    }
+
+    @Test
+    void testEntriesExpireAfterTtl() {
+        IdempotencyCache cache = cache(Duration.ofSeconds(30), 100);
+        SmsNotification sms = SmsNotification.of("+12025551234", "Hello");
+
+        send(cache, sms);
+        now.addAndGet(TimeUnit.SECONDS.toNanos(31));
+        send(cache, sms);
+
+        assertEquals(2, sends.get());
+    }
+
+    @Test
+    void testCacheIsBounded() {
+        IdempotencyCache cache = cache(Duration.ofMinutes(1), 10);
+
+        for (int i = 0; i < 50; i++) {
+            send(cache, SmsNotification.of("+12025551234", "Message " + i));
+        }
+
+        assertTrue(cache.getStats().getSize() <= 10);
+        send(cache, SmsNotification.of("+12025551234", "Message 0"));
+        assertEquals(51, sends.get());
+    }
+
+    @Test
+    void testInFlightDuplicateSharesThePendingResult() {
+        IdempotencyCache cache = cache(Duration.ofMinutes(1), 100);
+        CompletableFuture<NotificationResult> provider = new CompletableFuture<>();
+        SmsNotification sms = SmsNotification.of("+12025551234", "Hello");
+
+        CompletableFuture<NotificationResult> first = cache.execute(sms, () -> provider);
+        CompletableFuture<NotificationResult> second = cache.execute(sms, () -> {
+            throw new AssertionError("Duplicate must not reach the provider");
+        });
+        provider.complete(NotificationResult.success("id", "sms", "test"));
+
+        assertSame(first.join(), second.join());
+    }
+
+    @Test
+    void testKeysDependOnChannelType() {
+        EmailNotification email = EmailNotification.builder()
+                .to("user@example.com")
+                .subject("")
+                .body("Hello")
+                .build();
+        SmsNotification sms = SmsNotification.builder()
+                .to("user@example.com")
+                .message("Hello")
+                .build();
+
+        assertNotEquals(IdempotencyKey.of(email), IdempotencyKey.of(sms));
+        assertEquals(IdempotencyKey.of(sms), IdempotencyKey.of(SmsNotification.builder()
+                .to("user@example.com")
+                .message("Hello")
+                .build()));
+    }
+
+    @Test
+    void testEmailCopiesArePartOfTheKey() {
+        IdempotencyCache cache = cache(Duration.ofMinutes(1), 100);
+
+        send(cache, email(null, null));
+        send(cache, email("cc@example.com", null));
+        send(cache, email(null, "cc@example.com"));
+        send(cache, email("cc@example.com", null));
+
+        assertEquals(3, sends.get());
+    }
+
+    private EmailNotification email(String cc, String bcc) {
+        EmailNotification.EmailNotificationBuilder builder = EmailNotification.builder()
+                .to("user@example.com")
+                .subject("Invoice")
+                .body("Attached");
+        if (cc != null) {
+            builder.cc(cc);
+        }
+        if (bcc != null) {
+            builder.bcc(bcc);
+        }
+        return builder.build();
+    }
+
+    private IdempotencyCache cache(Duration ttl, int maxEntries) {
+        return new IdempotencyCache(IdempotencyConfig.builder().ttl(ttl).maxEntries(maxEntries).build(), now::get);
+    }
+
+    private NotificationResult send(IdempotencyCache cache, Notification notification) {
+        return cache.execute(notification, () -> CompletableFuture.completedFuture(
+                NotificationResult.success("id-" + sends.incrementAndGet(), notification.getChannelType(), "test")))
+                .join();
+    }
+
+    private static SmsNotification withKey(String key, String message) {
+        return SmsNotification.builder()
+                .to("+12025551234")
+                .message(message)
+                .metadata(NotificationMetadata.of(Map.of(NotificationMetadata.IDEMPOTENCY_KEY, key)))
+                .build();
+    }
+}
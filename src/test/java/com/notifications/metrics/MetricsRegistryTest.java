@@ -0,0 +1,87 @@
+package com.notifications.metrics;
+
+import com.notifications.core.NotificationResult;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MetricsRegistryTest {
+
+    @Test
+    void testHistogramPercentilesStayWithinBucketError() {
+        LogLinearHistogram histogram = new LogLinearHistogram();
+        for (long value = 1; value <= 100_000; value++) {
+            histogram.record(value);
+        }
+
+        HistogramSnapshot snapshot = histogram.snapshot();
+        assertEquals(100_000, snapshot.getCount());
+        assertEquals(100_000, snapshot.getMax());
+        assertEquals(50_000.5, snapshot.getMean(), 0.001);
+        assertEquals(50_000, snapshot.getValueAtPercentile(50), 50_000 / LogLinearHistogram.SUB_BUCKETS);
+        assertEquals(99_000, snapshot.getValueAtPercentile(99), 99_000 / LogLinearHistogram.SUB_BUCKETS);
+        assertEquals(100_000, snapshot.getValueAtPercentile(100));
+    }
+
+    @Test
+    void testBucketIndexesAreContiguous() {
+        int previous = -1;
+        for (long value = 0; value < 1 << 16; value++) {
+            int index = LogLinearHistogram.indexOf(value);
+            assertTrue(index == previous || index == previous + 1, "value " + value);
+            assertTrue(LogLinearHistogram.upperBound(index) >= value);
+            previous = index;
+        }
+        assertEquals(LogLinearHistogram.BUCKET_COUNT - 1, LogLinearHistogram.indexOf(Long.MAX_VALUE));
+    }
+
+    @Test
+    void testEmptyHistogram() {
+        HistogramSnapshot snapshot = new LogLinearHistogram().snapshot();
+        assertEquals(0, snapshot.getCount());
+        assertEquals(0, snapshot.getValueAtPercentile(99));
+    }
+
+    @Test
+    void testRegistryCountsOutcomes() {
+        MetricsRegistry registry = new MetricsRegistry();
+
+        registry.recordStart("sms");
+        registry.recordStart("sms");
+        registry.recordCompletion("sms", NotificationResult.success("id", "sms", "twilio"), 1_000_000);
+        registry.recordStart("email");
+        registry.recordCompletion("email",
+                NotificationResult.failure("Invalid email", "VALIDATION_ERROR", "email", "sendgrid"), 10_000);
+
+        MetricsSnapshot snapshot = registry.snapshot();
+        assertEquals(1L, snapshot.getInFlight().get("sms"));
+        assertEquals(0L, snapshot.getInFlight().get("email"));
+        assertEquals(1L, snapshot.getErrorCodes().get("VALIDATION_ERROR"));
+        assertEquals(1L, snapshot.getStatusCodes().get(202));
+        assertEquals(1L, snapshot.getStatusCodes().get(400));
+        assertEquals(1L, snapshot.getValidationFailures().get("email"));
+        assertEquals(0L, snapshot.getValidationFailures().get("sms"));
+
+        LatencySnapshot sms = snapshot.getLatencies().stream()
+                .filter(latency -> latency.getChannel().equals("sms"))
+                .findFirst()
+                .orElseThrow();
+        assertEquals("twilio", sms.getProvider());
+        assertEquals(1, sms.getHistogram().getCount());
+    }
+
+    @Test
+    void testSnapshotIsPublishedToSink() {
+        MetricsRegistry registry = new MetricsRegistry();
+        List<MetricsSnapshot> published = new ArrayList<>();
+
+        registry.recordResult("push", NotificationResult.failure("Down", "PROVIDER_ERROR", "push", "firebase"), 5);
+        registry.publishTo(published::add);
+
+        assertEquals(1, published.size());
+        assertEquals(1L, published.get(0).getErrorCodes().get("PROVIDER_ERROR"));
+    }
+}
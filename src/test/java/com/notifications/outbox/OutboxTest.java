@@ -0,0 +1,134 @@
+package com.notifications.outbox;
+
+import com.notifications.channels.email.EmailNotification;
+import com.notifications.channels.push.PushNotification;
+import com.notifications.channels.sms.SmsNotification;
+import com.notifications.core.Notification;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class OutboxTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void testCodecRoundTrip() {
+        EmailNotification email = EmailNotification.builder()
+                .to("recipient@example.com")
+                .subject("Subject")
+                .body("Body")
+                .htmlBody("<p>Body</p>")
+                .cc("cc@example.com")
+                .build();
+        PushNotification push = PushNotification.builder()
+                .to("token-123")
+                .title("Title")
+                .body("Body")
+                .build();
+
+        EmailNotification decodedEmail = (EmailNotification) NotificationCodec.decode(NotificationCodec.encode(email));
+        PushNotification decodedPush = (PushNotification) NotificationCodec.decode(NotificationCodec.encode(push));
+
+        assertEquals("recipient@example.com", decodedEmail.getRecipients().get(0).getAddress());
+        assertEquals("<p>Body</p>", decodedEmail.getContent().getBody());
+        assertTrue(decodedEmail.getContent().isHtml());
+        assertEquals(List.of("cc@example.com"), decodedEmail.getCcRecipients());
+        assertEquals("token-123", decodedPush.getRecipients().get(0).getAddress());
+        assertEquals("Title", decodedPush.getTitle());
+    }
+
+    @Test
+    void testUnfinishedEntriesAreRecoveredAfterReopen() throws IOException {
+        try (Outbox outbox = open(64 * 1024)) {
+            long delivered = outbox.append(SmsNotification.of("+12025551234", "Delivered")).join();
+            outbox.append(SmsNotification.of("+12025551234", "Pending")).join();
+            outbox.complete(delivered);
+        }
+
+        try (Outbox outbox = open(64 * 1024)) {
+            List<Outbox.PendingNotification> pending = outbox.recover();
+
+            assertEquals(1, pending.size());
+            Notification notification = pending.get(0).getNotification();
+            assertEquals("Pending", ((SmsNotification) notification).getMessage());
+            assertEquals(1, outbox.getPendingCount());
+
+            outbox.complete(pending.get(0).getId());
+            assertEquals(0, outbox.getPendingCount());
+        }
+
+        try (Outbox outbox = open(64 * 1024)) {
+            assertTrue(outbox.recover().isEmpty());
+        }
+    }
+
+    @Test
+    void testAcknowledgedSegmentsAreDeleted() throws IOException {
+        try (WriteAheadLog log = WriteAheadLog.open(directory, 4096, Duration.ofMillis(1))) {
+            byte[] payload = new byte[512];
+            for (int i = 0; i < 40; i++) {
+                long id = log.append(payload, null);
+                log.flush();
+                log.complete(id);
+            }
+            log.flush();
+
+            assertTrue(log.getSegmentCount() <= 2);
+            assertEquals(log.getSegmentCount(), countSegmentFiles());
+        }
+    }
+
+    @Test
+    void testTornRecordIsIgnoredOnRecovery() throws IOException {
+        try (WriteAheadLog log = WriteAheadLog.open(directory, 4096, Duration.ofMillis(1))) {
+            log.append(new byte[]{1, 2, 3}, null);
+            log.append(new byte[]{4, 5, 6}, null);
+        }
+
+        Path segment;
+        try (Stream<Path> files = Files.list(directory)) {
+            segment = files.findFirst().orElseThrow();
+        }
+        byte[] content = Files.readAllBytes(segment);
+        content[8 + 9 + 3 + 8 + 9] ^= 0x7f;
+        Files.write(segment, content);
+
+        try (WriteAheadLog log = WriteAheadLog.open(directory, 4096, Duration.ofMillis(1))) {
+            Map<Long, byte[]> recovered = log.getRecovered();
+            assertEquals(1, recovered.size());
+            assertArrayEquals(new byte[]{1, 2, 3}, recovered.get(0L));
+        }
+    }
+
+    @Test
+    void testRecordLargerThanSegmentIsRejected() throws IOException {
+        try (WriteAheadLog log = WriteAheadLog.open(directory, 4096, Duration.ofMillis(1))) {
+            assertThrows(IllegalArgumentException.class, () -> log.append(new byte[8192], null));
+        }
+    }
+
+    private Outbox open(int segmentSize) throws IOException {
+        return Outbox.open(OutboxConfig.builder()
+                .directory(directory)
+                .segmentSize(segmentSize)
+                .flushInterval(Duration.ofMillis(1))
+                .build());
+    }
+
+    private long countSegmentFiles() throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.count();
+        }
+    }
+}
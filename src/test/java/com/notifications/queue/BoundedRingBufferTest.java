@@ -0,0 +1,79 @@
+package com.notifications.queue;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BoundedRingBufferTest {
+
+    @Test
+    void testCapacityRoundsUpToPowerOfTwo() {
+        assertEquals(8, new BoundedRingBuffer<>(5).capacity());
+        assertEquals(1024, new BoundedRingBuffer<>(1024).capacity());
+    }
+
+    @Test
+    void testFifoAndFull() {
+        BoundedRingBuffer<Integer> buffer = new BoundedRingBuffer<>(4);
+
+        for (int i = 0; i < 4; i++) {
+            assertTrue(buffer.offer(i));
+        }
+        assertFalse(buffer.offer(99));
+        assertEquals(4, buffer.size());
+
+        for (int i = 0; i < 4; i++) {
+            assertEquals(i, buffer.poll());
+        }
+        assertNull(buffer.poll());
+        assertTrue(buffer.isEmpty());
+    }
+
+    @Test
+    void testConcurrentProducersAndConsumersLoseNothing() throws InterruptedException {
+        BoundedRingBuffer<Integer> buffer = new BoundedRingBuffer<>(256);
+        int producers = 4;
+        int perProducer = 5_000;
+        Set<Integer> seen = ConcurrentHashMap.newKeySet();
+        AtomicInteger consumed = new AtomicInteger();
+        CountDownLatch done = new CountDownLatch(producers + 2);
+
+        List<Thread> threads = new ArrayList<>();
+        for (int p = 0; p < producers; p++) {
+            int base = p * perProducer;
+            threads.add(new Thread(() -> {
+                for (int i = 0; i < perProducer; i++) {
+                    while (!buffer.offer(base + i)) {
+                        Thread.yield();
+                    }
+                }
+                done.countDown();
+            }));
+        }
+        for (int c = 0; c < 2; c++) {
+            threads.add(new Thread(() -> {
+                while (consumed.get() < producers * perProducer) {
+                    Integer value = buffer.poll();
+                    if (value != null) {
+                        seen.add(value);
+                        consumed.incrementAndGet();
+                    } else {
+                        Thread.yield();
+                    }
+                }
+                done.countDown();
+            }));
+        }
+        threads.forEach(Thread::start);
+        done.await();
+
+        assertEquals(producers * perProducer, seen.size());
+    }
+}
@@ -0,0 +1,262 @@
+package com.notifications.queue;
+
+import com.notifications.channels.sms.SmsNotification;
+import com.notifications.core.NotificationResult;
+import com.notifications.model.NotificationMetadata;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DispatchQueueTest {
+
+    @Test
+    void testSubmittedNotificationsAreDispatched() {
+        DispatchQueue queue = new DispatchQueue(
+                DispatchQueueConfig.builder().capacity(16).workers(2).build(),
+                notification -> CompletableFuture.completedFuture(
+                        NotificationResult.success("id", notification.getChannelType(), "test")));
+
+        List<CompletableFuture<NotificationResult>> results = new ArrayList<>();
+        for (int i = 0; i < 50; i++) {
+            results.add(queue.submit(SmsNotification.of("+12025551234", "Message " + i)));
+        }
+
+        results.forEach(result -> assertTrue(result.join().isSuccess()));
+        QueueStats stats = queue.getStats().get(0);
+        assertEquals("sms", stats.getChannelType());
+        assertEquals(50, stats.getEnqueued());
+        assertEquals(50, stats.getDispatched());
+    }
+
+    @Test
+    void testWorkerKeepsSeveralSendsInFlight() throws InterruptedException {
+        List<CompletableFuture<NotificationResult>> pending = new CopyOnWriteArrayList<>();
+        DispatchQueue queue = new DispatchQueue(
+                DispatchQueueConfig.builder().capacity(16).workers(1).maxInFlightPerWorker(4).build(),
+                notification -> {
+                    CompletableFuture<NotificationResult> send = new CompletableFuture<>();
+                    pending.add(send);
+                    return send;
+                });
+
+        List<CompletableFuture<NotificationResult>> results = new ArrayList<>();
+        for (int i = 0; i < 6; i++) {
+            results.add(queue.submit(SmsNotification.of("+12025551234", "Message " + i)));
+        }
+
+        // A single worker starts four sends without waiting on any, then stops at its limit.
+        awaitSize(pending, 4);
+        Thread.sleep(50);
+        assertEquals(4, pending.size());
+        assertEquals(2, queue.getDepth());
+
+        pending.get(0).complete(NotificationResult.success("id", "sms", "test"));
+        awaitSize(pending, 5);
+        assertTrue(results.get(0).join().isSuccess());
+
+        pending.forEach(send -> send.complete(NotificationResult.success("id", "sms", "test")));
+        awaitSize(pending, 6);
+        pending.get(5).complete(NotificationResult.success("id", "sms", "test"));
+        results.forEach(result -> assertTrue(result.join().isSuccess()));
+    }
+
+    @Test
+    void testFailFastRejectsWhenFull() throws InterruptedException {
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch started = new CountDownLatch(1);
+        DispatchQueue queue = new DispatchQueue(
+                DispatchQueueConfig.builder()
+                        .capacity(2)
+                        .workers(1)
+                        .backpressurePolicy(BackpressurePolicy.FAIL_FAST)
+                        .build(),
+                notification -> {
+                    started.countDown();
+                    await(release);
+                    return CompletableFuture.completedFuture(NotificationResult.success("id", "sms", "test"));
+                });
+
+        CompletableFuture<NotificationResult> inFlight = queue.submit(SmsNotification.of("+12025551234", "first"));
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+        queue.submit(SmsNotification.of("+12025551234", "second"));
+        queue.submit(SmsNotification.of("+12025551234", "third"));
+        NotificationResult rejected = queue.submit(SmsNotification.of("+12025551234", "fourth")).join();
+
+        assertEquals("QUEUE_FULL", rejected.getErrorCode().orElse(null));
+        assertEquals(1, queue.getStats().get(0).getRejected());
+
+        release.countDown();
+        assertTrue(inFlight.join().isSuccess());
+    }
+
+    @Test
+    void testDropOldestEvictsQueuedNotification() throws InterruptedException {
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch started = new CountDownLatch(1);
+        DispatchQueue queue = new DispatchQueue(
+                DispatchQueueConfig.builder()
+                        .capacity(2)
+                        .workers(1)
+                        .backpressurePolicy(BackpressurePolicy.DROP_OLDEST)
+                        .build(),
+                notification -> {
+                    started.countDown();
+                    await(release);
+                    return CompletableFuture.completedFuture(NotificationResult.success("id", "sms", "test"));
+                });
+
+        queue.submit(SmsNotification.of("+12025551234", "first"));
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+        CompletableFuture<NotificationResult> oldest = queue.submit(SmsNotification.of("+12025551234", "second"));
+        queue.submit(SmsNotification.of("+12025551234", "third"));
+        CompletableFuture<NotificationResult> newest = queue.submit(SmsNotification.of("+12025551234", "fourth"));
+
+        assertEquals("DROPPED", oldest.join().getErrorCode().orElse(null));
+        release.countDown();
+        assertTrue(newest.join().isSuccess());
+        assertEquals(1, queue.getStats().get(0).getDropped());
+    }
+
+    @Test
+    void testBlockTimesOutWhenFull() throws InterruptedException {
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch started = new CountDownLatch(1);
+        DispatchQueue queue = new DispatchQueue(
+                DispatchQueueConfig.builder()
+                        .capacity(2)
+                        .workers(1)
+                        .backpressurePolicy(BackpressurePolicy.BLOCK)
+                        .blockTimeout(Duration.ofMillis(50))
+                        .build(),
+                notification -> {
+                    started.countDown();
+                    await(release);
+                    return CompletableFuture.completedFuture(NotificationResult.success("id", "sms", "test"));
+                });
+
+        queue.submit(SmsNotification.of("+12025551234", "first"));
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+        queue.submit(SmsNotification.of("+12025551234", "second"));
+        queue.submit(SmsNotification.of("+12025551234", "third"));
+
+        assertEquals("QUEUE_FULL", queue.submit(SmsNotification.of("+12025551234", "fourth")).join()
+                .getErrorCode().orElse(null));
+        release.countDown();
+    }
+
+    @Test
+    void testHighPriorityOvertakesQueuedBulkWithoutStarvingIt() throws InterruptedException {
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch started = new CountDownLatch(1);
+        List<String> order = Collections.synchronizedList(new ArrayList<>());
+        DispatchQueue queue = new DispatchQueue(
+                DispatchQueueConfig.builder().capacity(32).workers(1).build(),
+                notification -> {
+                    started.countDown();
+                    await(release);
+                    order.add(((SmsNotification) notification).getMessage());
+                    return CompletableFuture.completedFuture(NotificationResult.success("id", "sms", "test"));
+                });
+
+        queue.submit(SmsNotification.of("+12025551234", "blocker"), Priority.LOW);
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+        List<CompletableFuture<NotificationResult>> results = new ArrayList<>();
+        for (int i = 0; i < 16; i++) {
+            results.add(queue.submit(SmsNotification.of("+12025551234", "bulk"), Priority.LOW));
+        }
+        for (int i = 0; i < 16; i++) {
+            results.add(queue.submit(withPriority("otp", "high")));
+        }
+        release.countDown();
+        results.forEach(result -> assertTrue(result.join().isSuccess()));
+
+        // With weights 8:1 a busy low lane gets exactly one of every nine picks.
+        List<String> firstRound = order.subList(1, 10);
+        assertEquals(8, Collections.frequency(firstRound, "otp"));
+        assertEquals(1, Collections.frequency(firstRound, "bulk"));
+        assertEquals(2, queue.getStats().size());
+        assertEquals(Priority.HIGH, queue.getStats().get(0).getPriority());
+        assertEquals(16, queue.getStats().get(0).getDispatched());
+    }
+
+    @Test
+    void testPriorityIsReadFromMetadata() {
+        assertEquals(Priority.HIGH, Priority.of(withPriority("otp", "HIGH")));
+        assertEquals(Priority.LOW, Priority.of(withPriority("promo", "low")));
+        assertEquals(Priority.NORMAL, Priority.of(withPriority("other", "urgent")));
+        assertEquals(Priority.NORMAL, Priority.of(SmsNotification.of("+12025551234", "plain")));
+    }
+
+    @Test
+    void testTenantOverItsLimitIsRejectedWhileOthersAreAccepted() throws InterruptedException {
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch started = new CountDownLatch(1);
+        DispatchQueue queue = new DispatchQueue(
+                DispatchQueueConfig.builder()
+                        .capacity(16)
+                        .workers(1)
+                        .backpressurePolicy(BackpressurePolicy.FAIL_FAST)
+                        .fairQueue(FairQueueConfig.builder().maxQueuedPerTenant(2).build())
+                        .build(),
+                notification -> {
+                    started.countDown();
+                    await(release);
+                    return CompletableFuture.completedFuture(NotificationResult.success("id", "sms", "test"));
+                });
+
+        queue.submit(withTenant("acme"));
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+        queue.submit(withTenant("acme"));
+        queue.submit(withTenant("acme"));
+        NotificationResult rejected = queue.submit(withTenant("acme")).join();
+        CompletableFuture<NotificationResult> other = queue.submit(withTenant("globex"));
+
+        assertEquals("QUEUE_FULL", rejected.getErrorCode().orElse(null));
+        assertTrue(rejected.getError().orElse("").contains("acme"));
+        release.countDown();
+        assertTrue(other.join().isSuccess());
+        assertEquals(1, queue.getStats().get(0).getRejected());
+    }
+
+    private static SmsNotification withTenant(String tenant) {
+        return SmsNotification.builder()
+                .to("+12025551234")
+                .message("Campaign")
+                .metadata(NotificationMetadata.of(Map.of(NotificationMetadata.TENANT_ID, tenant)))
+                .build();
+    }
+
+    private static SmsNotification withPriority(String message, String priority) {
+        return SmsNotification.builder()
+                .to("+12025551234")
+                .message(message)
+                .metadata(NotificationMetadata.of(Map.of(NotificationMetadata.PRIORITY, priority)))
+                .build();
+    }
+
+    private static void awaitSize(List<?> list, int size) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (list.size() < size && System.nanoTime() < deadline) {
+            Thread.sleep(5);
+        }
+        assertEquals(size, list.size());
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,92 @@
+package com.notifications.queue;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TenantFairQueueTest {
+
+    @Test
+    void testSmallTenantIsNotStuckBehindLargeOne() {
+        TenantFairQueue<String> queue = new TenantFairQueue<>(1_000, FairQueueConfig.defaults());
+        for (int i = 0; i < 500; i++) {
+            queue.offer("bulk", "bulk");
+        }
+        for (int i = 0; i < 5; i++) {
+            queue.offer("small", "small");
+        }
+
+        List<String> firstTen = drain(queue, 10);
+
+        assertEquals(5, Collections.frequency(firstTen, "small"));
+        assertEquals(5, Collections.frequency(firstTen, "bulk"));
+        assertEquals(495, queue.size());
+    }
+
+    @Test
+    void testWeightsSetTheShare() {
+        TenantFairQueue<String> queue = new TenantFairQueue<>(1_000, FairQueueConfig.builder()
+                .tenantWeights(Map.of("premium", 3))
+                .build());
+        for (int i = 0; i < 100; i++) {
+            queue.offer("premium", "premium");
+            queue.offer("free", "free");
+        }
+
+        List<String> firstRounds = drain(queue, 40);
+
+        assertEquals(30, Collections.frequency(firstRounds, "premium"));
+        assertEquals(10, Collections.frequency(firstRounds, "free"));
+    }
+
+    @Test
+    void testTenantLimitAndCapacity() {
+        TenantFairQueue<String> queue = new TenantFairQueue<>(5, FairQueueConfig.builder()
+                .maxQueuedPerTenant(3)
+                .tenantLimits(Map.of("vip", 1))
+                .build());
+
+        assertTrue(queue.offer("a", "a1"));
+        assertTrue(queue.offer("a", "a2"));
+        assertTrue(queue.offer("a", "a3"));
+        assertFalse(queue.offer("a", "a4"));
+        assertTrue(queue.offer("vip", "v1"));
+        assertFalse(queue.offer("vip", "v2"));
+        assertTrue(queue.offer("b", "b1"));
+        assertFalse(queue.offer("c", "c1"));
+
+        assertEquals(3, queue.size("a"));
+        assertEquals(5, queue.size());
+    }
+
+    @Test
+    void testPollOldestAndTenantRelease() {
+        TenantFairQueue<String> queue = new TenantFairQueue<>(10, FairQueueConfig.defaults());
+        queue.offer("a", "a1");
+        queue.offer("a", "a2");
+        queue.offer("b", "b1");
+
+        assertEquals("a1", queue.pollOldest("a"));
+        assertEquals("a2", queue.pollOldest("a"));
+        assertNull(queue.pollOldest("a"));
+        assertNull(queue.pollOldest("missing"));
+
+        assertEquals("b1", queue.poll());
+        assertNull(queue.poll());
+        assertTrue(queue.isEmpty());
+        assertEquals(0, queue.getTenantCount());
+    }
+
+    private static List<String> drain(TenantFairQueue<String> queue, int count) {
+        List<String> drained = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            drained.add(queue.poll());
+        }
+        return drained;
+    }
+}
@@ -0,0 +1,243 @@
+package com.notifications.resilience;
+
+import com.notifications.channels.sms.SmsNotification;
+import com.notifications.core.Deadline;
+import com.notifications.core.NotificationProvider;
+import com.notifications.core.NotificationResult;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CircuitBreakerTest {
+
+    private final AtomicLong now = new AtomicLong(TimeUnit.SECONDS.toNanos(100));
+
+    @Test
+    void testOpensWhenFailureRateExceedsThreshold() {
+        CircuitBreaker breaker = breaker();
+
+        for (int i = 0; i < 5; i++) {
+            breaker.onSuccess(0);
+        }
+        assertEquals(CircuitBreaker.State.CLOSED, breaker.getState());
+
+        for (int i = 0; i < 5; i++) {
+            breaker.onFailure(0);
+        }
+        assertEquals(CircuitBreaker.State.OPEN, breaker.getState());
+        assertFalse(breaker.tryAcquirePermission());
+        assertFalse(breaker.isCallPermitted());
+    }
+
+    @Test
+    void testOpensOnSlowCalls() {
+        CircuitBreaker breaker = breaker();
+        long slow = TimeUnit.MILLISECONDS.toNanos(500);
+
+        for (int i = 0; i < 10; i++) {
+            breaker.onSuccess(slow);
+        }
+
+        assertEquals(CircuitBreaker.State.OPEN, breaker.getState());
+    }
+
+    @Test
+    void testMinimumCallsBeforeOpening() {
+        CircuitBreaker breaker = breaker();
+        for (int i = 0; i < 9; i++) {
+            breaker.onFailure(0);
+        }
+        assertEquals(CircuitBreaker.State.CLOSED, breaker.getState());
+    }
+
+    @Test
+    void testOldBucketsLeaveTheWindow() {
+        CircuitBreaker breaker = breaker();
+        for (int i = 0; i < 9; i++) {
+            breaker.onFailure(0);
+        }
+
+        now.addAndGet(TimeUnit.SECONDS.toNanos(2));
+        breaker.onFailure(0);
+
+        assertEquals(CircuitBreaker.State.CLOSED, breaker.getState());
+        assertEquals(1, breaker.getStats().getCalls());
+    }
+
+    @Test
+    void testHalfOpenTrialsCloseTheBreaker() {
+        CircuitBreaker breaker = openBreaker();
+
+        now.addAndGet(TimeUnit.SECONDS.toNanos(5));
+        assertTrue(breaker.isCallPermitted());
+        assertTrue(breaker.tryAcquirePermission());
+        assertEquals(CircuitBreaker.State.HALF_OPEN, breaker.getState());
+        assertTrue(breaker.tryAcquirePermission());
+        assertFalse(breaker.tryAcquirePermission());
+
+        breaker.onSuccess(0);
+        breaker.onSuccess(0);
+
+        assertEquals(CircuitBreaker.State.CLOSED, breaker.getState());
+        assertEquals(0, breaker.getStats().getCalls());
+    }
+
+    @Test
+    void testHalfOpenFailureReopens() {
+        CircuitBreaker breaker = openBreaker();
+
+        now.addAndGet(TimeUnit.SECONDS.toNanos(5));
+        assertTrue(breaker.tryAcquirePermission());
+        breaker.onFailure(0);
+
+        assertEquals(CircuitBreaker.State.OPEN, breaker.getState());
+        assertEquals(TimeUnit.SECONDS.toNanos(5), breaker.getRemainingOpenNanos());
+    }
+
+    @Test
+    void testProviderShortCircuitsWhenOpen() {
+        CircuitBreaker breaker = breaker();
+        AtomicBoolean healthy = new AtomicBoolean(false);
+        NotificationProvider<SmsNotification> provider = CircuitBreakerProvider.decorate(new StubProvider(healthy), breaker);
+
+        for (int i = 0; i < 10; i++) {
+            assertEquals("PROVIDER_ERROR", provider.send(sms()).getErrorCode().orElse(null));
+        }
+
+        NotificationResult result = provider.sendAsync(sms()).toCompletableFuture().join();
+        assertEquals("CIRCUIT_OPEN", result.getErrorCode().orElse(null));
+        assertEquals(503, result.getStatusCode());
+        assertFalse(provider.isAvailable());
+        assertEquals("CIRCUIT_OPEN", provider.getUnavailableResult().flatMap(NotificationResult::getErrorCode).orElse(null));
+
+        healthy.set(true);
+        now.addAndGet(TimeUnit.SECONDS.toNanos(5));
+        assertTrue(provider.isAvailable());
+        assertTrue(provider.send(sms()).isSuccess());
+        assertTrue(provider.send(sms()).isSuccess());
+        assertEquals(CircuitBreaker.State.CLOSED, breaker.getState());
+    }
+
+    @Test
+    void testProviderTimeoutsTripTheBreaker() {
+        CircuitBreaker breaker = breaker();
+        NotificationProvider<SmsNotification> provider = CircuitBreakerProvider.decorate(new HangingProvider(), breaker);
+
+        for (int i = 0; i < 10; i++) {
+            NotificationResult result = provider.sendAsync(sms(), Deadline.after(Duration.ofMillis(10)))
+                    .toCompletableFuture().join();
+            assertEquals("DEADLINE_EXCEEDED", result.getErrorCode().orElse(null));
+        }
+
+        assertEquals(CircuitBreaker.State.OPEN, breaker.getState());
+    }
+
+    @Test
+    void testExpiredDeadlinesDoNotTripTheBreaker() {
+        CircuitBreaker breaker = breaker();
+        NotificationProvider<SmsNotification> provider = CircuitBreakerProvider.decorate(new HangingProvider(), breaker);
+
+        for (int i = 0; i < 20; i++) {
+            provider.sendAsync(sms(), Deadline.after(Duration.ofMillis(-1))).toCompletableFuture().join();
+        }
+
+        assertEquals(CircuitBreaker.State.CLOSED, breaker.getState());
+        assertEquals(0, breaker.getStats().getCalls());
+    }
+
+    @Test
+    void testValidationFailuresDoNotTripTheBreaker() {
+        CircuitBreaker breaker = breaker();
+        NotificationProvider<SmsNotification> provider = CircuitBreakerProvider.decorate(
+                new StubProvider(new AtomicBoolean(true)), breaker);
+
+        for (int i = 0; i < 20; i++) {
+            provider.send(SmsNotification.of("+12025551234", ""));
+        }
+
+        assertEquals(CircuitBreaker.State.CLOSED, breaker.getState());
+    }
+
+    private CircuitBreaker breaker() {
+        return new CircuitBreaker("test", CircuitBreakerConfig.builder()
+                .failureRateThreshold(0.5)
+                .slowCallRateThreshold(0.8)
+                .slowCallDuration(Duration.ofMillis(200))
+                .window(Duration.ofSeconds(1))
+                .buckets(4)
+                .minimumCalls(10)
+                .openDuration(Duration.ofSeconds(5))
+                .halfOpenCalls(2)
+                .build(), now::get);
+    }
+
+    private CircuitBreaker openBreaker() {
+        CircuitBreaker breaker = breaker();
+        for (int i = 0; i < 10; i++) {
+            breaker.onFailure(0);
+        }
+        assertEquals(CircuitBreaker.State.OPEN, breaker.getState());
+        return breaker;
+    }
+
+    private static SmsNotification sms() {
+        return SmsNotification.of("+12025551234", "Message");
+    }
+
+    private static final class HangingProvider implements NotificationProvider<SmsNotification> {
+        @Override
+        public String getProviderName() {
+            return "hanging";
+        }
+
+        @Override
+        public NotificationResult send(SmsNotification notification) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public CompletionStage<NotificationResult> sendAsync(SmsNotification notification) {
+            return new CompletableFuture<>();
+        }
+
+        @Override
+        public String getChannelType() {
+            return "sms";
+        }
+    }
+
+    private static final class StubProvider implements NotificationProvider<SmsNotification> {
+        private final AtomicBoolean healthy;
+
+        private StubProvider(AtomicBoolean healthy) {
+            this.healthy = healthy;
+        }
+
+        @Override
+        public String getProviderName() {
+            return "stub";
+        }
+
+        @Override
+        public NotificationResult send(SmsNotification notification) {
+            if (notification.getMessage().isEmpty()) {
+                return NotificationResult.failure("Empty message", "VALIDATION_ERROR", "sms", "stub");
+            }
+            return healthy.get()
+                    ? NotificationResult.success("id", "sms", "stub")
+                    : NotificationResult.failure("Provider down", "PROVIDER_ERROR", "sms", "stub");
+        }
+
+        @Override
+        public String getChannelType() {
+            return "sms";
+        }
+    }
+}
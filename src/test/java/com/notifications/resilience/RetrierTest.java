@@ -0,0 +1,158 @@
+package com.notifications.resilience;
+
+import com.notifications.core.Deadline;
+import com.notifications.core.NotificationResult;
+import com.notifications.scheduling.HashedWheelTimer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RetrierTest {
+
+    private final HashedWheelTimer timer = new HashedWheelTimer("retry-test-timer", Duration.ofMillis(1), 64);
+
+    @AfterEach
+    void tearDown() {
+        timer.close();
+    }
+
+    @Test
+    void testRetriesUntilSuccess() {
+        Retrier retrier = retrier(RetryPolicy.builder().maxAttempts(5).initialBackoff(Duration.ofMillis(1)).build());
+        AtomicInteger attempts = new AtomicInteger();
+
+        NotificationResult result = retrier.execute(() -> CompletableFuture.completedFuture(
+                attempts.incrementAndGet() < 3 ? providerError() : NotificationResult.success("id", "sms", "test")))
+                .join();
+
+        assertTrue(result.isSuccess());
+        assertEquals(3, attempts.get());
+        assertEquals(2, retrier.getStats().getRetries());
+        assertEquals(1, retrier.getStats().getRecovered());
+    }
+
+    @Test
+    void testNonRetryableFailureIsReturnedImmediately() {
+        Retrier retrier = retrier(RetryPolicy.defaults());
+        AtomicInteger attempts = new AtomicInteger();
+
+        NotificationResult result = retrier.execute(() -> {
+            attempts.incrementAndGet();
+            return CompletableFuture.completedFuture(
+                    NotificationResult.failure("Invalid phone", "VALIDATION_ERROR", "sms", "test"));
+        }).join();
+
+        assertEquals("VALIDATION_ERROR", result.getErrorCode().orElse(null));
+        assertEquals(1, attempts.get());
+    }
+
+    @Test
+    void testAttemptsAreCapped() {
+        Retrier retrier = retrier(RetryPolicy.builder().maxAttempts(3).initialBackoff(Duration.ofMillis(1)).build());
+        AtomicInteger attempts = new AtomicInteger();
+
+        NotificationResult result = retrier.execute(() -> {
+            attempts.incrementAndGet();
+            return CompletableFuture.completedFuture(providerError());
+        }).join();
+
+        assertTrue(result.isFailure());
+        assertEquals(3, attempts.get());
+        assertEquals(1, retrier.getStats().getExhausted());
+    }
+
+    @Test
+    void testCloseSettlesWaitingRetriesWithTheirLastResult() {
+        Retrier retrier = retrier(RetryPolicy.builder().maxAttempts(5).initialBackoff(Duration.ofSeconds(10)).jitter(0).build());
+        AtomicInteger attempts = new AtomicInteger();
+
+        CompletableFuture<NotificationResult> outcome = retrier.execute(() -> {
+            attempts.incrementAndGet();
+            return CompletableFuture.completedFuture(providerError());
+        });
+
+        assertFalse(outcome.isDone());
+        assertEquals(1, retrier.close());
+        assertEquals("PROVIDER_ERROR", outcome.join().getErrorCode().orElse(null));
+        assertEquals(1, attempts.get());
+    }
+
+    @Test
+    void testNoRetryIsScheduledPastTheDeadline() {
+        Retrier retrier = retrier(RetryPolicy.builder().maxAttempts(5).initialBackoff(Duration.ofSeconds(1)).jitter(0).build());
+        AtomicInteger attempts = new AtomicInteger();
+
+        NotificationResult result = retrier.execute(() -> {
+            attempts.incrementAndGet();
+            return CompletableFuture.completedFuture(providerError());
+        }, Deadline.after(Duration.ofMillis(200))).join();
+
+        assertEquals("PROVIDER_ERROR", result.getErrorCode().orElse(null));
+        assertEquals(1, attempts.get());
+        assertEquals(0, retrier.getStats().getRetries());
+    }
+
+    @Test
+    void testRetryAfterHintIsHonoured() {
+        Retrier retrier = retrier(RetryPolicy.builder().maxAttempts(2).initialBackoff(Duration.ofMillis(1)).build());
+        AtomicInteger attempts = new AtomicInteger();
+        long start = System.nanoTime();
+
+        retrier.execute(() -> CompletableFuture.completedFuture(attempts.incrementAndGet() == 1
+                ? new NotificationResult.Builder()
+                        .success(false)
+                        .errorCode("RATE_LIMITED")
+                        .statusCode(429)
+                        .addMetadata("retry_after_ms", 80L)
+                        .build()
+                : NotificationResult.success("id", "sms", "test"))).join();
+
+        assertTrue(System.nanoTime() - start >= TimeUnit.MILLISECONDS.toNanos(80));
+    }
+
+    @Test
+    void testBudgetStopsRetryStorms() {
+        Retrier retrier = retrier(RetryPolicy.builder()
+                .maxAttempts(2)
+                .initialBackoff(Duration.ofMillis(1))
+                .budgetRatio(0.1)
+                .minRetriesPerSecond(1)
+                .build());
+
+        for (int i = 0; i < 50; i++) {
+            retrier.execute(() -> CompletableFuture.completedFuture(providerError())).join();
+        }
+
+        RetryStats stats = retrier.getStats();
+        assertTrue(stats.getRetries() <= 10, "retries: " + stats.getRetries());
+        assertTrue(stats.getBudgetRejected() >= 40, "rejected: " + stats.getBudgetRejected());
+    }
+
+    @Test
+    void testBackoffGrowsAndIsCapped() {
+        RetryPolicy policy = RetryPolicy.builder()
+                .initialBackoff(Duration.ofMillis(100))
+                .maxBackoff(Duration.ofMillis(300))
+                .jitter(0.5)
+                .build();
+
+        assertEquals(TimeUnit.MILLISECONDS.toNanos(100), policy.backoffNanos(1, 0));
+        assertEquals(TimeUnit.MILLISECONDS.toNanos(200), policy.backoffNanos(2, 0));
+        assertEquals(TimeUnit.MILLISECONDS.toNanos(300), policy.backoffNanos(5, 0));
+        assertEquals(TimeUnit.MILLISECONDS.toNanos(150), policy.backoffNanos(5, 1));
+    }
+
+    private Retrier retrier(RetryPolicy policy) {
+        return new Retrier(policy, timer, Runnable::run);
+    }
+
+    private static NotificationResult providerError() {
+        return NotificationResult.failure("Provider unavailable", "PROVIDER_ERROR", "sms", "test");
+    }
+}
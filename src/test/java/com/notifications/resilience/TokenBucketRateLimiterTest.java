@@ -0,0 +1,145 @@
+package com.notifications.resilience;
+
+import com.notifications.channels.push.PushConfig;
+import com.notifications.channels.push.PushNotification;
+import com.notifications.channels.sms.SmsNotification;
+import com.notifications.core.NotificationProvider;
+import com.notifications.core.NotificationResult;
+import com.notifications.providers.push.FirebaseProvider;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TokenBucketRateLimiterTest {
+
+    private final AtomicLong now = new AtomicLong(1_000_000_000L);
+
+    @Test
+    void testBurstIsGrantedThenThrottled() {
+        TokenBucketRateLimiter limiter = limiter(10, 3, Duration.ZERO);
+
+        assertTrue(limiter.tryAcquire());
+        assertTrue(limiter.tryAcquire());
+        assertTrue(limiter.tryAcquire());
+        assertFalse(limiter.tryAcquire());
+
+        RateLimiterStats stats = limiter.getStats();
+        assertEquals(3, stats.getGranted());
+        assertEquals(1, stats.getThrottled());
+        assertEquals(0, stats.getAvailablePermits());
+    }
+
+    @Test
+    void testPermitsRefillOverTime() {
+        TokenBucketRateLimiter limiter = limiter(10, 2, Duration.ZERO);
+        assertTrue(limiter.tryAcquire(2));
+        assertFalse(limiter.tryAcquire());
+
+        now.addAndGet(TimeUnit.MILLISECONDS.toNanos(100));
+        assertTrue(limiter.tryAcquire());
+        assertFalse(limiter.tryAcquire());
+
+        now.addAndGet(TimeUnit.SECONDS.toNanos(10));
+        assertEquals(2, limiter.getAvailablePermits());
+    }
+
+    @Test
+    void testReserveReturnsWaitWithinMaxWait() {
+        TokenBucketRateLimiter limiter = limiter(10, 1, Duration.ofMillis(150));
+        assertEquals(0, limiter.reserve());
+        assertEquals(TimeUnit.MILLISECONDS.toNanos(100), limiter.reserve());
+        assertEquals(TokenBucketRateLimiter.REJECTED, limiter.reserve());
+        assertEquals(TimeUnit.MILLISECONDS.toNanos(200), limiter.getRetryAfterNanos());
+    }
+
+    @Test
+    void testBlockingAcquireWaitsForPermit() throws InterruptedException {
+        TokenBucketRateLimiter limiter = new TokenBucketRateLimiter(
+                RateLimitConfig.builder().permitsPerSecond(50).burst(1).build());
+        assertTrue(limiter.tryAcquire());
+
+        long start = System.nanoTime();
+        assertTrue(limiter.acquire(1, Duration.ofSeconds(1)));
+        assertTrue(System.nanoTime() - start >= TimeUnit.MILLISECONDS.toNanos(15));
+        assertFalse(limiter.acquire(1, Duration.ZERO));
+    }
+
+    @Test
+    void testInvalidPermits() {
+        TokenBucketRateLimiter limiter = limiter(10, 2, Duration.ZERO);
+        assertThrows(IllegalArgumentException.class, () -> limiter.tryAcquire(3));
+        assertThrows(IllegalArgumentException.class, () -> RateLimitConfig.perSecond(0));
+    }
+
+    @Test
+    void testRateLimitedProviderReturns429() {
+        TokenBucketRateLimiter limiter = limiter(1, 1, Duration.ZERO);
+        NotificationProvider<SmsNotification> provider = RateLimitedProvider.decorate(new StubProvider(), limiter);
+
+        assertTrue(provider.send(SmsNotification.of("+12025551234", "First")).isSuccess());
+
+        NotificationResult throttled = provider.sendAsync(SmsNotification.of("+12025551234", "Second"))
+                .toCompletableFuture().join();
+        assertEquals("RATE_LIMITED", throttled.getErrorCode().orElse(null));
+        assertEquals(429, throttled.getStatusCode());
+        assertEquals(1000L, throttled.getProviderMetadata().get("retry_after_ms"));
+
+        List<NotificationResult> batch = provider.sendBatch(List.of(
+                SmsNotification.of("+12025551234", "A"), SmsNotification.of("+12025551234", "B")));
+        assertTrue(batch.stream().allMatch(result -> "RATE_LIMITED".equals(result.getErrorCode().orElse(null))));
+    }
+
+    @Test
+    void testBatchIsChargedPerProviderRequest() {
+        NotificationProvider<PushNotification> provider = RateLimitedProvider.decorate(new FirebaseProvider(
+                PushConfig.builder().provider(PushConfig.PushProvider.FIREBASE)
+                        .projectId("test-project").serviceAccountJson("{}").build()),
+                limiter(10, 2, Duration.ZERO));
+
+        // Three titles mean three multicast requests even though they fit in one chunk.
+        List<NotificationResult> batch = provider.sendBatch(List.of(
+                PushNotification.of("token-1", "A", "Body"),
+                PushNotification.of("token-2", "B", "Body"),
+                PushNotification.of("token-3", "A", "Body"),
+                PushNotification.of("token-4", "C", "Body")));
+
+        assertTrue(batch.get(0).isSuccess());
+        assertTrue(batch.get(1).isSuccess());
+        assertTrue(batch.get(2).isSuccess());
+        assertEquals("RATE_LIMITED", batch.get(3).getErrorCode().orElse(null));
+    }
+
+    @Test
+    void testDecorateWithoutLimiterReturnsProvider() {
+        StubProvider provider = new StubProvider();
+        assertSame(provider, RateLimitedProvider.decorate(provider, null));
+    }
+
+    private TokenBucketRateLimiter limiter(double permitsPerSecond, int burst, Duration maxWait) {
+        return new TokenBucketRateLimiter(
+                RateLimitConfig.builder().permitsPerSecond(permitsPerSecond).burst(burst).maxWait(maxWait).build(),
+                now::get);
+    }
+
+    private static final class StubProvider implements NotificationProvider<SmsNotification> {
+        @Override
+        public String getProviderName() {
+            return "stub";
+        }
+
+        @Override
+        public NotificationResult send(SmsNotification notification) {
+            return NotificationResult.success("id", "sms", "stub");
+        }
+
+        @Override
+        public String getChannelType() {
+            return "sms";
+        }
+    }
+}
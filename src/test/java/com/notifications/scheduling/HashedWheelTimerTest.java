@@ -0,0 +1,93 @@
+package com.notifications.scheduling;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class HashedWheelTimerTest {
+
+    private final HashedWheelTimer timer = new HashedWheelTimer("test-timer", Duration.ofMillis(5), 8);
+
+    @AfterEach
+    void tearDown() {
+        timer.close();
+    }
+
+    @Test
+    void testTaskRunsAfterDelay() throws InterruptedException {
+        CountDownLatch fired = new CountDownLatch(1);
+        long start = System.nanoTime();
+
+        HashedWheelTimer.Timeout timeout = timer.schedule(fired::countDown, 30, TimeUnit.MILLISECONDS);
+
+        assertTrue(fired.await(2, TimeUnit.SECONDS));
+        assertTrue(System.nanoTime() - start >= TimeUnit.MILLISECONDS.toNanos(30));
+        assertTrue(timeout.isExpired());
+        assertEquals(0, timer.getPendingCount());
+    }
+
+    @Test
+    void testDelayLongerThanOneRevolution() throws InterruptedException {
+        CountDownLatch fired = new CountDownLatch(1);
+        long start = System.nanoTime();
+
+        timer.schedule(fired::countDown, 100, TimeUnit.MILLISECONDS);
+
+        assertTrue(fired.await(2, TimeUnit.SECONDS));
+        assertTrue(System.nanoTime() - start >= TimeUnit.MILLISECONDS.toNanos(100));
+    }
+
+    @Test
+    void testCancelledTaskNeverRuns() throws InterruptedException {
+        AtomicInteger runs = new AtomicInteger();
+        CountDownLatch later = new CountDownLatch(1);
+
+        HashedWheelTimer.Timeout timeout = timer.schedule(runs::incrementAndGet, 20, TimeUnit.MILLISECONDS);
+        timer.schedule(later::countDown, 60, TimeUnit.MILLISECONDS);
+
+        assertTrue(timeout.cancel());
+        assertFalse(timeout.cancel());
+        assertTrue(later.await(2, TimeUnit.SECONDS));
+        assertEquals(0, runs.get());
+        assertTrue(timeout.isCancelled());
+    }
+
+    @Test
+    void testTimeoutsCascadeThroughLevelsInDeadlineOrder() throws InterruptedException {
+        List<Long> order = Collections.synchronizedList(new ArrayList<>());
+        CountDownLatch fired = new CountDownLatch(4);
+        AtomicInteger early = new AtomicInteger();
+        long start = System.nanoTime();
+
+        try (HashedWheelTimer small = new HashedWheelTimer("test-hierarchical", Duration.ofMillis(2), 4, 3)) {
+            for (long delay : new long[] {300, 5, 150, 40}) {
+                small.schedule(() -> {
+                    if (System.nanoTime() - start < TimeUnit.MILLISECONDS.toNanos(delay)) {
+                        early.incrementAndGet();
+                    }
+                    order.add(delay);
+                    fired.countDown();
+                }, delay, TimeUnit.MILLISECONDS);
+            }
+
+            assertTrue(fired.await(3, TimeUnit.SECONDS));
+        }
+        assertEquals(List.of(5L, 40L, 150L, 300L), order);
+        assertEquals(0, early.get());
+    }
+
+    @Test
+    void testScheduleAfterCloseFails() {
+        timer.close();
+        assertThrows(IllegalStateException.class, () -> timer.schedule(() -> { }, 1, TimeUnit.MILLISECONDS));
+    }
+}
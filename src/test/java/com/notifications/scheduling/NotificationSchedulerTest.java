@@ -0,0 +1,105 @@
+package com.notifications.scheduling;
+
+import com.notifications.channels.sms.SmsNotification;
+import com.notifications.core.Notification;
+import com.notifications.core.NotificationResult;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class NotificationSchedulerTest {
+
+    @TempDir
+    Path directory;
+
+    private final LinkedBlockingQueue<Notification> delivered = new LinkedBlockingQueue<>();
+
+    private final Function<Notification, CompletableFuture<NotificationResult>> sender = notification -> {
+        delivered.add(notification);
+        return CompletableFuture.completedFuture(NotificationResult.success("msg-1", "SMS", "test"));
+    };
+
+    @Test
+    void testNotificationIsDeliveredAtItsTime() throws Exception {
+        try (NotificationScheduler scheduler = open(null)) {
+            Instant deliverAt = Instant.now().plusMillis(80);
+            scheduler.schedule(SmsNotification.of("+12025551234", "Later"), deliverAt);
+
+            assertEquals(1, scheduler.getScheduledCount());
+            Notification notification = delivered.poll(2, TimeUnit.SECONDS);
+
+            assertNotNull(notification);
+            assertFalse(Instant.now().isBefore(deliverAt));
+            assertEquals("Later", ((SmsNotification) notification).getMessage());
+            assertEquals(0, scheduler.getScheduledCount());
+        }
+    }
+
+    @Test
+    void testCancelledNotificationIsNeverDelivered() throws Exception {
+        try (NotificationScheduler scheduler = open(null)) {
+            long cancelled = scheduler.schedule(SmsNotification.of("+12025551234", "Cancelled"),
+                    Instant.now().plusMillis(40));
+            scheduler.schedule(SmsNotification.of("+12025551234", "Kept"), Instant.now().plusMillis(120));
+
+            assertTrue(scheduler.cancel(cancelled));
+            assertFalse(scheduler.cancel(cancelled));
+            assertFalse(scheduler.isScheduled(cancelled));
+
+            Notification notification = delivered.poll(2, TimeUnit.SECONDS);
+            assertEquals("Kept", ((SmsNotification) notification).getMessage());
+            assertNull(delivered.poll(50, TimeUnit.MILLISECONDS));
+        }
+    }
+
+    @Test
+    void testPersistentScheduleSurvivesRestart() throws Exception {
+        long cancelled;
+        try (NotificationScheduler scheduler = open(directory)) {
+            scheduler.schedule(SmsNotification.of("+12025551234", "Survivor"), Instant.now().plusMillis(300));
+            cancelled = scheduler.schedule(SmsNotification.of("+12025551234", "Cancelled"),
+                    Instant.now().plusMillis(300));
+            assertTrue(scheduler.cancel(cancelled));
+        }
+        assertTrue(delivered.isEmpty());
+
+        try (NotificationScheduler scheduler = open(directory)) {
+            assertEquals(1, scheduler.getScheduledCount());
+
+            Notification notification = delivered.poll(2, TimeUnit.SECONDS);
+            assertEquals("Survivor", ((SmsNotification) notification).getMessage());
+            assertNull(delivered.poll(50, TimeUnit.MILLISECONDS));
+        }
+
+        try (NotificationScheduler scheduler = open(directory)) {
+            assertEquals(0, scheduler.getScheduledCount());
+        }
+    }
+
+    @Test
+    void testScheduleBeforeStartFails() throws IOException {
+        try (NotificationScheduler scheduler = NotificationScheduler.open(SchedulerConfig.builder().build())) {
+            assertThrows(IllegalStateException.class,
+                    () -> scheduler.schedule(SmsNotification.of("+12025551234", "Hi"), Instant.now()));
+        }
+    }
+
+    private NotificationScheduler open(Path directory) throws IOException {
+        NotificationScheduler scheduler = NotificationScheduler.open(SchedulerConfig.builder()
+                .tickDuration(Duration.ofMillis(5))
+                .directory(directory)
+                .build());
+        scheduler.start(sender, Runnable::run);
+        return scheduler;
+    }
+}
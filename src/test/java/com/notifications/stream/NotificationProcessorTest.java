@@ -0,0 +1,194 @@
+package com.notifications.stream;
+
+import com.notifications.channels.sms.SmsNotification;
+import com.notifications.core.Notification;
+import com.notifications.core.NotificationChannel;
+import com.notifications.core.NotificationResult;
+import com.notifications.core.NotificationService;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Flow;
+import java.util.concurrent.SubmissionPublisher;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class NotificationProcessorTest {
+
+    @Test
+    void testInputOrderIsPreserved() throws InterruptedException {
+        DelayedChannel channel = new DelayedChannel();
+        Flow.Processor<Notification, NotificationResult> processor = service(channel).stream(StreamConfig.builder()
+                .maxInFlightPerChannel(8)
+                .resultOrder(ResultOrder.INPUT)
+                .build());
+
+        CollectingSubscriber subscriber = new CollectingSubscriber(Long.MAX_VALUE);
+        processor.subscribe(subscriber);
+        publish(processor, 40);
+
+        assertTrue(subscriber.done.await(10, TimeUnit.SECONDS));
+        assertNull(subscriber.error);
+        assertEquals(40, subscriber.results.size());
+        for (int i = 0; i < 40; i++) {
+            assertEquals("id-" + i, subscriber.results.get(i).getMessageId().orElse(null));
+        }
+    }
+
+    @Test
+    void testInFlightIsLimitedPerChannel() throws InterruptedException {
+        DelayedChannel channel = new DelayedChannel();
+        Flow.Processor<Notification, NotificationResult> processor = service(channel).stream(StreamConfig.builder()
+                .maxInFlightPerChannel(3)
+                .maxInFlight(10)
+                .build());
+
+        CollectingSubscriber subscriber = new CollectingSubscriber(Long.MAX_VALUE);
+        processor.subscribe(subscriber);
+        publish(processor, 30);
+
+        assertTrue(subscriber.done.await(10, TimeUnit.SECONDS));
+        assertEquals(30, subscriber.results.size());
+        assertTrue(channel.maxConcurrent.get() <= 3, "max concurrent: " + channel.maxConcurrent.get());
+    }
+
+    @Test
+    void testUpstreamIsPulledOnlyAsFastAsDownstreamDemands() throws InterruptedException {
+        DelayedChannel channel = new DelayedChannel();
+        Flow.Processor<Notification, NotificationResult> processor = service(channel).stream(StreamConfig.defaults());
+
+        CollectingSubscriber subscriber = new CollectingSubscriber(5);
+        processor.subscribe(subscriber);
+        CountingPublisher publisher = new CountingPublisher();
+        publisher.subscribe(processor);
+
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (subscriber.results.size() < 5 && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        Thread.sleep(50);
+
+        assertEquals(5, subscriber.results.size());
+        assertEquals(5, publisher.requested.get());
+
+        subscriber.subscription.cancel();
+        assertTrue(publisher.cancelled);
+    }
+
+    @Test
+    void testSecondSubscriberIsRejected() {
+        Flow.Processor<Notification, NotificationResult> processor =
+                service(new DelayedChannel()).stream(StreamConfig.defaults());
+        processor.subscribe(new CollectingSubscriber(1));
+
+        CollectingSubscriber second = new CollectingSubscriber(1);
+        processor.subscribe(second);
+
+        assertInstanceOf(IllegalStateException.class, second.error);
+    }
+
+    private static NotificationService service(NotificationChannel channel) {
+        return NotificationService.builder().addChannel(channel).build();
+    }
+
+    private static void publish(Flow.Processor<Notification, NotificationResult> processor, int count) {
+        try (SubmissionPublisher<Notification> publisher = new SubmissionPublisher<>()) {
+            publisher.subscribe(processor);
+            for (int i = 0; i < count; i++) {
+                publisher.submit(SmsNotification.of("+12025551234", String.valueOf(i)));
+            }
+        }
+    }
+
+    private static final class DelayedChannel implements NotificationChannel {
+        private final AtomicInteger concurrent = new AtomicInteger();
+        private final AtomicInteger maxConcurrent = new AtomicInteger();
+
+        @Override
+        public String getChannelType() {
+            return "sms";
+        }
+
+        @Override
+        public NotificationResult send(Notification notification) {
+            return sendAsync(notification).join();
+        }
+
+        @Override
+        public CompletableFuture<NotificationResult> sendAsync(Notification notification) {
+            int now = concurrent.incrementAndGet();
+            maxConcurrent.accumulateAndGet(now, Math::max);
+            String message = ((SmsNotification) notification).getMessage();
+            long delay = (Integer.parseInt(message) * 7L) % 13;
+            return CompletableFuture.supplyAsync(() -> {
+                concurrent.decrementAndGet();
+                return NotificationResult.success("id-" + message, "sms", "test");
+            }, CompletableFuture.delayedExecutor(delay, TimeUnit.MILLISECONDS));
+        }
+    }
+
+    private static final class CountingPublisher implements Flow.Publisher<Notification> {
+        private final AtomicInteger requested = new AtomicInteger();
+        private volatile boolean cancelled;
+
+        @Override
+        public void subscribe(Flow.Subscriber<? super Notification> subscriber) {
+            subscriber.onSubscribe(new Flow.Subscription() {
+                private int sent;
+
+                @Override
+                public void request(long n) {
+                    requested.addAndGet((int) n);
+                    for (long i = 0; i < n; i++) {
+                        subscriber.onNext(SmsNotification.of("+12025551234", String.valueOf(sent++)));
+                    }
+                }
+
+                @Override
+                public void cancel() {
+                    cancelled = true;
+                }
+            });
+        }
+    }
+
+    private static final class CollectingSubscriber implements Flow.Subscriber<NotificationResult> {
+        private final long demand;
+        private final List<NotificationResult> results = Collections.synchronizedList(new ArrayList<>());
+        private final CountDownLatch done = new CountDownLatch(1);
+        private volatile Flow.Subscription subscription;
+        private volatile Throwable error;
+
+        private CollectingSubscriber(long demand) {
+            this.demand = demand;
+        }
+
+        @Override
+        public void onSubscribe(Flow.Subscription subscription) {
+            this.subscription = subscription;
+            subscription.request(demand);
+        }
+
+        @Override
+        public void onNext(NotificationResult item) {
+            results.add(item);
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            error = throwable;
+            done.countDown();
+        }
+
+        @Override
+        public void onComplete() {
+            done.countDown();
+        }
+    }
+}
@@ -0,0 +1,49 @@
+package com.notifications.validation;
+
+import com.google.i18n.phonenumbers.PhoneNumberUtil;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CallingCodeTrieTest {
+
+    private static final CallingCodeTrie TRIE = CallingCodeTrie.fromMetadata(PhoneNumberUtil.getInstance());
+
+    @Test
+    void testResolvesCallingCodesOfEveryLength() {
+        assertEquals(1, TRIE.find("12025551234", 0, 11).getCallingCode());
+        assertEquals(54, TRIE.find("543513873741", 0, 12).getCallingCode());
+        assertEquals(598, TRIE.find("59894000000", 0, 11).getCallingCode());
+        assertEquals(44, TRIE.find("+447911123456", 1, 13).getCallingCode());
+    }
+
+    @Test
+    void testUnknownOrIncompleteCodesAreNotFound() {
+        assertNull(TRIE.find("0123", 0, 4));
+        assertNull(TRIE.find("999", 0, 3));
+        assertNull(TRIE.find("59", 0, 2));
+        assertNull(TRIE.find("", 0, 0));
+    }
+
+    @Test
+    void testRegionIsOnlyKnownForSingleRegionCodes() {
+        assertEquals("AR", TRIE.find("54", 0, 2).getRegion());
+        assertEquals("001", TRIE.regionOf(800));
+        assertNull(TRIE.find("1", 0, 1).getRegion());
+        assertNull(TRIE.regionOf(7));
+        assertNull(TRIE.regionOf(999));
+    }
+
+    @Test
+    void testLengthsAndNationalPrefixComeFromMetadata() {
+        CallingCodeTrie.Entry spain = TRIE.find("34", 0, 2);
+
+        assertTrue(spain.isPossibleLength(9));
+        assertFalse(spain.isPossibleLength(8));
+        assertFalse(spain.isPossibleLength(0));
+
+        CallingCodeTrie.Entry unitedKingdom = TRIE.find("44", 0, 2);
+        assertTrue(unitedKingdom.mayStartWithNationalPrefix('0'));
+        assertFalse(unitedKingdom.mayStartWithNationalPrefix('7'));
+    }
+}
@@ -3,9 +3,23 @@ package com.notifications.validation;
 import com.notifications.channels.email.EmailNotification;
 import org.junit.jupiter.api.Test;
 
+import java.util.BitSet;
+import java.util.Random;
+import java.util.regex.Pattern;
+
 import static org.junit.jupiter.api.Assertions.*;
 
 class EmailValidatorTest {
+
+    // The expression EmailValidator implemented before the hand-written checker.
+    private static final Pattern EMAIL_PATTERN = Pattern.compile(
+            "^[A-Za-z0-9+_.-]+@[A-Za-z0-9.-]+\\.[A-Za-z]{2,}$"
+    );
+    private static final String ALPHABET = "aZ09+_.-@.. \t\n\u00e9\u00a0!";
+
+    private static boolean matchesPattern(String email) {
+        return email != null && !email.trim().isEmpty() && EMAIL_PATTERN.matcher(email.trim()).matches();
+    }
     
     @Test
     void testValidEmailAddress() {
@@ -58,4 +72,81 @@ class EmailValidatorTest {
         assertTrue(result.isInvalid());
         assertTrue(result.getErrorMessage().isPresent());
     }
+
+    @Test
+    void testVerdictIsComputedOncePerNotification() {
+        EmailNotification email = EmailNotification.builder()
+                .to("invalid-email")
+                .subject("Test Subject")
+                .body("Test Body")
+                .build();
+
+        ValidationResult first = EmailValidator.validate(email);
+        ValidationResult second = EmailValidator.plan().validate(email);
+
+        assertSame(first, second);
+        assertEquals("Invalid email address: invalid-email", first.getErrorMessage().orElse(null));
+    }
+
+    @Test
+    void testVerdictFromAnotherPlanIsNotReused() {
+        EmailNotification email = EmailNotification.builder()
+                .to("recipient@example.com")
+                .subject("Test Subject")
+                .body("Test Body")
+                .build();
+        ValidationPlan<EmailNotification> rejectAll = ValidationPlan.builder(EmailNotification.class)
+                .rule(notification -> "Rejected")
+                .build();
+
+        assertTrue(EmailValidator.validate(email).isValid());
+        assertEquals("Rejected", rejectAll.validate(email).getErrorMessage().orElse(null));
+
+        // Verdicts can only be planted through a plan.
+        assertThrows(NullPointerException.class,
+                () -> email.attachVerdict(null, rejectAll, ValidationResult.success()));
+    }
+
+    @Test
+    void testAgreesWithPatternOnEdgeCases() {
+        String[] emails = {
+                "a@b.co", "a@b.c", "a@.co", "a@b..co", "a@b.co.", "a@b.c0", "a@b-.co", "a@-.co",
+                ".@b.co", "a@@b.co", "a@b@c.co", "@b.co", "a@", "a@b", "a@b.", "a.b.c@d.e.fg",
+                "a@b.co1", "a@1.22", "a@b.c.de", "a@b.de.f", "a@b.d-e.fg", " a@b.co ", "\ta@b.co\n",
+                "a @b.co", "a@b .co", "a@b.co\n\n", "\u00e9@b.co", "a@b.\u00e9\u00e9", "\u00a0a@b.co", "",
+                "   ", "a+b_c.d-e@f-g.h.ij", "A@B.CO", "a@b.CoM", "+@-.aa", "a@..aa", "a@b.aa.",
+        };
+
+        for (String email : emails) {
+            assertEquals(matchesPattern(email), EmailValidator.isValidEmail(email), email);
+        }
+    }
+
+    @Test
+    void testAgreesWithPatternOnRandomInput() {
+        Random random = new Random(42);
+        StringBuilder email = new StringBuilder();
+
+        for (int i = 0; i < 200_000; i++) {
+            email.setLength(0);
+            int length = random.nextInt(12);
+            for (int j = 0; j < length; j++) {
+                email.append(ALPHABET.charAt(random.nextInt(ALPHABET.length())));
+            }
+            String value = email.toString();
+
+            assertEquals(matchesPattern(value), EmailValidator.isValidEmail(value), value);
+            assertEquals(matchesPattern(value), EmailValidator.isValidEmail(email), value);
+        }
+    }
+
+    @Test
+    void testFindInvalidReturnsTheFailingIndexes() {
+        BitSet invalid = EmailValidator.findInvalid(new CharSequence[]{
+                "one@example.com", "not-an-email", null, new StringBuilder("two@example.org"), "three@example"
+        });
+
+        assertEquals(BitSet.valueOf(new long[]{0b10110}), invalid);
+        assertTrue(EmailValidator.findInvalid(new CharSequence[0]).isEmpty());
+    }
 }
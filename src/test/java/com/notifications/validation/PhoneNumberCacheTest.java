@@ -0,0 +1,67 @@
+package com.notifications.validation;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PhoneNumberCacheTest {
+
+    private final AtomicInteger loads = new AtomicInteger();
+    private final Function<String, PhoneValidationResult> loader = number -> {
+        loads.incrementAndGet();
+        return PhoneValidationResult.invalid(number);
+    };
+
+    @Test
+    void testRepeatLookupsSkipTheLoader() {
+        PhoneNumberCache cache = new PhoneNumberCache(10);
+
+        PhoneValidationResult first = cache.get("+12025551234", loader);
+        PhoneValidationResult second = cache.get("+12025551234", loader);
+
+        assertSame(first, second);
+        assertEquals(1, loads.get());
+        PhoneCacheStats stats = cache.getStats();
+        assertEquals(1, stats.getHits());
+        assertEquals(1, stats.getMisses());
+        assertEquals(1, stats.getSize());
+        assertEquals(0.5, stats.getHitRate());
+    }
+
+    @Test
+    void testEvictsTheLeastRecentlyUsedNumber() {
+        PhoneNumberCache cache = new PhoneNumberCache(2);
+
+        cache.get("a", loader);
+        cache.get("b", loader);
+        cache.get("a", loader);
+        cache.get("c", loader);
+
+        assertEquals(2, cache.size());
+        assertEquals(1, cache.getStats().getEvictions());
+        cache.get("a", loader);
+        assertEquals(3, loads.get());
+        cache.get("b", loader);
+        assertEquals(4, loads.get());
+    }
+
+    @Test
+    void testSizeStaysWithinTheBoundAcrossStripes() {
+        PhoneNumberCache cache = new PhoneNumberCache(1_000);
+
+        for (int i = 0; i < 5_000; i++) {
+            cache.get("+1202555" + i, loader);
+        }
+
+        assertTrue(cache.size() <= 1_000);
+        assertEquals(5_000 - cache.size(), cache.getStats().getEvictions());
+    }
+
+    @Test
+    void testRejectsNonPositiveSize() {
+        assertThrows(IllegalArgumentException.class, () -> new PhoneNumberCache(0));
+    }
+}
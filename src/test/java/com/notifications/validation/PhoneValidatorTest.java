@@ -1,8 +1,15 @@
 package com.notifications.validation;
 
+import com.google.i18n.phonenumbers.NumberParseException;
+import com.google.i18n.phonenumbers.PhoneNumberUtil;
+import com.google.i18n.phonenumbers.Phonenumber;
 import com.notifications.channels.sms.SmsNotification;
 import org.junit.jupiter.api.Test;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
 import static org.junit.jupiter.api.Assertions.*;
 
 class PhoneValidatorTest {
@@ -66,4 +73,99 @@ class PhoneValidatorTest {
         assertFalse(result.isValid());
         assertTrue(result.getErrorMessage().isPresent());
     }
+
+    @Test
+    void testDetailedResultCarriesE164() {
+        PhoneValidationResult result = PhoneValidator.validateDetailed("+54 351 387-3741");
+
+        assertTrue(result.isValid());
+        assertEquals("+543513873741", result.getE164().orElse(null));
+        assertEquals(54, result.getParsedNumber().orElseThrow().getCountryCode());
+    }
+
+    @Test
+    void testRepeatNumbersAreServedFromTheCache() {
+        PhoneValidator.clearCache();
+        long hits = PhoneValidator.getCacheStats().getHits();
+        long misses = PhoneValidator.getCacheStats().getMisses();
+
+        PhoneValidationResult first = PhoneValidator.validateDetailed("+34612345678");
+        PhoneValidationResult second = PhoneValidator.validateDetailed("+34612345678");
+        PhoneValidationResult invalid = PhoneValidator.validateDetailed("invalid");
+        PhoneValidator.validateDetailed("invalid");
+
+        assertSame(first, second);
+        assertFalse(invalid.isValid());
+        assertEquals(hits + 2, PhoneValidator.getCacheStats().getHits());
+        assertEquals(misses + 2, PhoneValidator.getCacheStats().getMisses());
+    }
+
+    @Test
+    void testParsedNumberIsACopy() {
+        PhoneValidationResult result = PhoneValidator.validateDetailed("+447911123456");
+
+        result.getParsedNumber().orElseThrow().setCountryCode(1);
+
+        assertEquals(44, result.getParsedNumber().orElseThrow().getCountryCode());
+    }
+
+    @Test
+    void testRegionIsResolvedForSingleAndSharedCallingCodes() {
+        assertEquals("AR", PhoneValidator.validateDetailed("+543513873741").getRegion().orElse(null));
+        assertEquals("US", PhoneValidator.validateDetailed("+12025551234").getRegion().orElse(null));
+        assertEquals("CA", PhoneValidator.validateDetailed("+16135550123").getRegion().orElse(null));
+        assertTrue(PhoneValidator.validateDetailed("invalid").getRegion().isEmpty());
+    }
+
+    @Test
+    void testUnknownCallingCodeIsRejected() {
+        PhoneValidationResult result = PhoneValidator.validateDetailed("+99912345678");
+
+        assertFalse(result.isValid());
+        assertTrue(result.getErrorMessage().orElse("").contains("+99912345678"));
+    }
+
+    // The E.164 fast path must give the same answer libphonenumber gives on its own.
+    @Test
+    void testAgreesWithLibphonenumberOnE164Input() {
+        PhoneNumberUtil phoneUtil = PhoneNumberUtil.getInstance();
+        List<Integer> callingCodes = new ArrayList<>(phoneUtil.getSupportedCallingCodes());
+        Random random = new Random(7);
+        StringBuilder number = new StringBuilder();
+
+        for (int i = 0; i < 50_000; i++) {
+            number.setLength(0);
+            number.append(random.nextInt(10) == 0 ? " +" : "+");
+            if (random.nextInt(20) == 0) {
+                number.append(random.nextInt(1000));
+            } else {
+                number.append(callingCodes.get(random.nextInt(callingCodes.size())));
+            }
+            int length = random.nextInt(19);
+            for (int j = 0; j < length; j++) {
+                number.append((char) ('0' + random.nextInt(10)));
+            }
+            String value = number.toString();
+
+            PhoneValidationResult actual = PhoneValidator.parse(value);
+            Phonenumber.PhoneNumber expected = parseWithLibphonenumber(phoneUtil, value);
+
+            assertEquals(expected != null, actual.isValid(), value);
+            if (expected != null) {
+                assertTrue(expected.exactlySameAs(actual.getParsedNumber().orElseThrow()), value);
+                assertEquals(phoneUtil.format(expected, PhoneNumberUtil.PhoneNumberFormat.E164),
+                        actual.getE164().orElse(null), value);
+                assertEquals(phoneUtil.getRegionCodeForNumber(expected), actual.getRegion().orElse(null), value);
+            }
+        }
+    }
+
+    private static Phonenumber.PhoneNumber parseWithLibphonenumber(PhoneNumberUtil phoneUtil, String value) {
+        try {
+            Phonenumber.PhoneNumber parsed = phoneUtil.parse(value.trim(), null);
+            return phoneUtil.isValidNumber(parsed) || phoneUtil.isPossibleNumber(parsed) ? parsed : null;
+        } catch (NumberParseException e) {
+            return null;
+        }
+    }
 }